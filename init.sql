@@ -44,6 +44,9 @@ CREATE TABLE MEMBERS (
     BANK_COUNTRY VARCHAR2(50) NOT NULL
 );
 
+-- Resolves an organizer's username to its member id
+CREATE UNIQUE INDEX IDX_MEMBERS_USERNAME ON MEMBERS(USERNAME);
+
 CREATE TABLE EVENTS (
     EVENT_ID NUMBER(10) CONSTRAINT EVENT_ID_PK PRIMARY KEY,
     TITLE VARCHAR2(50) NOT NULL,
@@ -56,19 +59,33 @@ CREATE TABLE EVENTS (
     TICKETS_SOLD NUMBER(7) NOT NULL,
     PRICE_PER_TICKET NUMBER(7) NOT NULL,
     MEMBER_ID NUMBER(10) CONSTRAINT EVENT_MEMBER_ID_FK REFERENCES MEMBERS (MEMBER_ID),
-    CREATED_AT DATE NOT NULL
+    CREATED_AT DATE NOT NULL,
+    LATITUDE NUMBER(9,6),
+    LONGITUDE NUMBER(9,6),
+    -- Upper-cased copies of the filter columns, maintained by the application
+    TITLE_NORM VARCHAR2(50),
+    CATEGORY_NORM VARCHAR2(50),
+    LOCATION_NORM VARCHAR2(50),
+    -- Last write through the application, the search index catches up from it after a restart
+    UPDATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL
 );
 
--- For filtering columns
-CREATE INDEX IDX_EVENTS_CATEGORY ON EVENTS(CATEGORY);
-CREATE INDEX IDX_EVENTS_TITLE ON EVENTS(TITLE);
-CREATE INDEX IDX_EVENTS_LOCATION ON EVENTS(LOCATION);
+-- For filtering columns, the filters compare the normalized copies so the title prefix is a range scan
+CREATE INDEX IDX_EVENTS_CATEGORY_NORM ON EVENTS(CATEGORY_NORM);
+CREATE INDEX IDX_EVENTS_TITLE_NORM ON EVENTS(TITLE_NORM);
+CREATE INDEX IDX_EVENTS_LOCATION_NORM ON EVENTS(LOCATION_NORM);
+
+-- One event per place and time, event creation inserts first and maps a violation to a conflict
+ALTER TABLE EVENTS ADD CONSTRAINT UK_EVENTS_DATETIME_LOCATION UNIQUE (DATE_TIME, LOCATION);
+
+-- For date-based sorting and keyset pagination on (DATE_TIME, EVENT_ID)
+CREATE INDEX IDX_EVENTS_DATETIME ON EVENTS(DATE_TIME, EVENT_ID);
 
--- For date-based sorting
-CREATE INDEX IDX_EVENTS_DATETIME ON EVENTS(DATE_TIME);
+-- For the foreign key and an organizer's events by date, one range scan per page on (MEMBER_ID, DATE_TIME, EVENT_ID)
+CREATE INDEX IDX_EVENTS_MEMBER_DATETIME ON EVENTS(MEMBER_ID, DATE_TIME, EVENT_ID);
 
--- For foreign key
-CREATE INDEX IDX_EVENTS_MEMBER_ID ON EVENTS(MEMBER_ID);
+-- For the search index catch-up, keyset pagination on (UPDATED_AT, EVENT_ID)
+CREATE INDEX IDX_EVENTS_UPDATED_AT ON EVENTS(UPDATED_AT, EVENT_ID);
 
 CREATE TABLE PAYMENTS (
     PAYMENT_ID NUMBER(10) CONSTRAINT PAYMENT_ID_PK PRIMARY KEY,
@@ -89,11 +106,22 @@ CREATE TABLE TICKETS (
     PURCHASE_AT DATE NOT NULL
 );
 
+-- For the foreign key, an event's tickets
+CREATE INDEX IDX_TICKETS_EVENT_ID ON TICKETS(EVENT_ID);
+
+-- Per node, the epoch millis up to which ticket codes may have been issued
+CREATE TABLE TICKET_CODE_NODES (
+    NODE_ID NUMBER(4) CONSTRAINT TICKET_CODE_NODE_ID_PK PRIMARY KEY,
+    RESERVED_UNTIL NUMBER(19) NOT NULL
+);
+
 -- Create sequences for each table
 CREATE SEQUENCE member_seq START WITH 1 INCREMENT BY 1;
-CREATE SEQUENCE event_seq START WITH 1 INCREMENT BY 1;
+-- Hibernate allocates event ids in blocks of 50 (pooled optimizer), the increment must match
+CREATE SEQUENCE event_seq START WITH 1 INCREMENT BY 50;
 CREATE SEQUENCE payment_seq START WITH 1 INCREMENT BY 1;
-CREATE SEQUENCE ticket_seq START WITH 1 INCREMENT BY 1;
+-- Ticket ids are allocated in blocks of 50 as well, tickets are inserted in write-behind batches
+CREATE SEQUENCE ticket_seq START WITH 1 INCREMENT BY 50;
 
 -- Create triggers to auto-populate IDs
 CREATE OR REPLACE TRIGGER member_id_trigger
@@ -104,9 +132,11 @@ BEGIN
 END;
 /
 
+-- Only rows inserted without an id, the application assigns its own from event_seq
 CREATE OR REPLACE TRIGGER event_id_trigger
 BEFORE INSERT ON EVENTS
 FOR EACH ROW
+WHEN (NEW.EVENT_ID IS NULL)
 BEGIN
   SELECT event_seq.NEXTVAL INTO :NEW.EVENT_ID FROM DUAL;
 END;
@@ -123,6 +153,7 @@ END;
 CREATE OR REPLACE TRIGGER ticket_id_trigger
 BEFORE INSERT ON TICKETS
 FOR EACH ROW
+WHEN (NEW.TICKET_ID IS NULL)
 BEGIN
   SELECT ticket_seq.NEXTVAL INTO :NEW.TICKET_ID FROM DUAL;
 END;
@@ -199,5 +230,8 @@ VALUES ('Comedy Night', 'Stand-up comedy show', null, 'Entertainment', TO_DATE('
 INSERT INTO EVENTS (TITLE, DESCRIPTION, IMAGE_PATH, CATEGORY, DATE_TIME, LOCATION, TOTAL_TICKETS, TICKETS_SOLD, PRICE_PER_TICKET, MEMBER_ID, CREATED_AT)
 VALUES ('Science Fair', 'Interactive science exhibits for all ages', null, 'Education', TO_DATE('2023-12-12 09:00', 'YYYY-MM-DD HH24:MI'), 'Science Museum', 400, 200, 12, 1, SYSDATE);
 
+-- Fill the normalized filter columns of the rows inserted above
+UPDATE EVENTS SET TITLE_NORM = UPPER(TITLE), CATEGORY_NORM = UPPER(CATEGORY), LOCATION_NORM = UPPER(LOCATION);
+
 -- Commit all changes
 COMMIT;
\ No newline at end of file
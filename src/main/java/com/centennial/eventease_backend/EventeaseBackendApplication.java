@@ -1,16 +1,27 @@
 package com.centennial.eventease_backend;
 
+import com.centennial.eventease_backend.security.EntityCacheProperties;
+import com.centennial.eventease_backend.security.HoldProperties;
+import com.centennial.eventease_backend.security.ReplicaProperties;
+import com.centennial.eventease_backend.security.ListingProperties;
 import com.centennial.eventease_backend.security.RsaKeyProperties;
 import com.centennial.eventease_backend.security.StorageProperties;
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.security.TicketWriterProperties;
+import com.centennial.eventease_backend.security.WaitingRoomProperties;
 import com.centennial.eventease_backend.services.contracts.StorageService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@EnableConfigurationProperties({RsaKeyProperties.class, StorageProperties.class})
+@EnableConfigurationProperties({RsaKeyProperties.class, StorageProperties.class, EntityCacheProperties.class, ReplicaProperties.class, ListingProperties.class, HoldProperties.class, TicketProperties.class, TicketWriterProperties.class, WaitingRoomProperties.class})
 @SpringBootApplication
+@EnableAsync(proxyTargetClass = true)
+@EnableScheduling
 public class EventeaseBackendApplication {
 
 	public static void main(String[] args) {
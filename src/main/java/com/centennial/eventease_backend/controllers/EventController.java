@@ -1,20 +1,35 @@
 package com.centennial.eventease_backend.controllers;
 
+import com.centennial.eventease_backend.dto.BulkImportReportDto;
 import com.centennial.eventease_backend.dto.CreateEventDto;
+import com.centennial.eventease_backend.dto.CursorPageDto;
+import com.centennial.eventease_backend.dto.EventDataFormat;
 import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
 import com.centennial.eventease_backend.dto.GetEventDto;
+import com.centennial.eventease_backend.dto.NearbyEventDto;
 import com.centennial.eventease_backend.exceptions.*;
 import com.centennial.eventease_backend.services.contracts.EventService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
 
 
 @RestController
@@ -34,13 +49,115 @@ public class EventController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String location,
-            @RequestParam(required = false) String category
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "true") boolean upcoming,
+            WebRequest request
+    ) throws PageOutOfRangeException, InvalidDateTimeException {
+        // Answer 304 from the in-memory version before any query runs
+        if (request.checkNotModified(etag(eventService.getCatalogVersion()))) {
+            return null;
+        }
+        return eventService.getAll(page, size, new EventFilter(title, location, category, from, to, upcoming));
+    }
+
+    @GetMapping(value = "/events", params = {"slice=true", "!cursor"})
+    public Slice<EventDto> getAllEventsAsSlice(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "true") boolean upcoming
+    ) throws PageOutOfRangeException, InvalidDateTimeException {
+        return eventService.getSlice(page, size, new EventFilter(title, location, category, from, to, upcoming));
+    }
+
+    @GetMapping(value = "/events", params = "cursor")
+    public CursorPageDto<EventDto> getAllEventsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "true") boolean upcoming
+    ) throws PageOutOfRangeException, InvalidCursorException, InvalidDateTimeException {
+        return eventService.getAllAfter(cursor, size, new EventFilter(title, location, category, from, to, upcoming));
+    }
+
+    @GetMapping("/events/export")
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @RequestParam(defaultValue = "NDJSON") EventDataFormat format,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "false") boolean upcoming
+    ) throws InvalidDateTimeException {
+        // Unlike the listing, past events are exported unless upcoming is asked for.
+        // Filters are validated here, the rows are streamed after the handler returns
+        StreamingResponseBody body = eventService.export(
+                new EventFilter(title, location, category, from, to, upcoming), format)::writeTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("events." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/events/facets")
+    public EventFacetsDto getEventFacets(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "true") boolean upcoming
+    ) throws InvalidDateTimeException {
+        return eventService.getFacets(new EventFilter(title, location, category, from, to, upcoming));
+    }
+
+    @GetMapping("/events/suggest")
+    public List<EventSuggestionDto> suggestEvents(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit
     ) throws PageOutOfRangeException {
-        return eventService.getAll(page, size, title, location, category);
+        return eventService.suggest(prefix, limit);
+    }
+
+    @GetMapping("/events/search")
+    public Page<EventDto> searchEvents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) throws PageOutOfRangeException {
+        return eventService.search(q, page, size);
+    }
+
+    @GetMapping("/events/nearby")
+    public List<NearbyEventDto> getNearbyEvents(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "true") boolean upcoming
+    ) throws InvalidCoordinatesException, PageOutOfRangeException {
+        return eventService.getNearby(lat, lng, radiusKm, limit, upcoming);
     }
 
     @GetMapping("/events/{id}")
-    public ResponseEntity<GetEventDto> getEvent(@PathVariable int id) throws EventNotFoundException {
+    public ResponseEntity<GetEventDto> getEvent(@PathVariable int id, WebRequest request) throws EventNotFoundException {
+        if (request.checkNotModified(etag(eventService.getVersion(id)))) {
+            return null;
+        }
         return eventService.get(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -56,18 +173,33 @@ public class EventController {
             @RequestParam("location") String location,
             @RequestParam("totalTickets") int totalTickets,
             @RequestParam("pricePerTicket") float pricePerTicket,
-            @RequestParam("memberId") int memberId
-    ) throws EventConflictException, InvalidDateTimeException, InvalidPriceException, MemberNotFoundException {
+            @RequestParam("memberId") int memberId,
+            @RequestParam(value = "latitude", required = false) Double latitude,
+            @RequestParam(value = "longitude", required = false) Double longitude
+    ) throws EventConflictException, InvalidDateTimeException, InvalidPriceException, InvalidCoordinatesException, MemberNotFoundException {
 
         CreateEventDto dto = new CreateEventDto(
                 title, description, file, category,
                 dateTime, location, totalTickets,
-                pricePerTicket, memberId
+                pricePerTicket, memberId,
+                latitude, longitude
         );
 
         eventService.save(dto);
     }
 
+    @PostMapping(value = "/events/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public BulkImportReportDto importEvents(
+            @RequestParam("memberId") int memberId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) throws MemberNotFoundException, InvalidImportException, IOException {
+        EventDataFormat format = contentType.isCompatibleWith(MediaType.parseMediaType(EventDataFormat.CSV.mediaType()))
+                ? EventDataFormat.CSV
+                : EventDataFormat.NDJSON;
+        return eventService.importEvents(memberId, format, body);
+    }
+
     @GetMapping("/events/member/{username}")
     public Page<EventDto> getAllEventsByUsername(
             @PathVariable String username,
@@ -77,4 +209,17 @@ public class EventController {
         return eventService.getAllByUsername(username, page, size);
     }
 
+    @GetMapping(value = "/events/member/{username}", params = "cursor")
+    public CursorPageDto<EventDto> getAllEventsByUsernameAndCursor(
+            @PathVariable String username,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) throws PageOutOfRangeException, InvalidCursorException, MemberNotFoundException {
+        return eventService.getAllByUsernameAfter(username, cursor, size);
+    }
+
+    private static String etag(String version) {
+        return "\"" + version + "\"";
+    }
+
 }
@@ -0,0 +1,83 @@
+package com.centennial.eventease_backend.controllers;
+
+import com.centennial.eventease_backend.dto.ConfirmHoldDto;
+import com.centennial.eventease_backend.dto.HoldTicketsDto;
+import com.centennial.eventease_backend.dto.PurchaseTicketsDto;
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.dto.TicketHoldDto;
+import com.centennial.eventease_backend.dto.TicketPurchaseDto;
+import com.centennial.eventease_backend.exceptions.EventNotFoundException;
+import com.centennial.eventease_backend.exceptions.HoldNotFoundException;
+import com.centennial.eventease_backend.exceptions.InvalidPurchaseException;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.QueueTokenNotFoundException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.services.contracts.TicketService;
+import com.centennial.eventease_backend.services.implementations.WaitingRoom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+public class TicketController {
+
+    private final TicketService ticketService;
+
+    @Autowired
+    public TicketController(@Qualifier("ticketServiceImpl") TicketService ticketService) {
+        this.ticketService = ticketService;
+    }
+
+    @PostMapping("/events/{id}/queue")
+    @ResponseStatus(HttpStatus.CREATED)
+    public QueuePositionDto joinQueue(@PathVariable int id, Authentication authentication)
+            throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException {
+        return ticketService.joinQueue(id, authentication.getName());
+    }
+
+    @GetMapping("/events/{id}/queue/{token}")
+    public QueuePositionDto getQueuePosition(@PathVariable int id, @PathVariable String token, Authentication authentication)
+            throws QueueTokenNotFoundException {
+        return ticketService.getQueuePosition(id, authentication.getName(), token);
+    }
+
+    @PostMapping("/events/{id}/tickets")
+    @ResponseStatus(HttpStatus.CREATED)
+    public TicketPurchaseDto purchaseTickets(
+            @PathVariable int id,
+            @RequestHeader(value = WaitingRoom.TOKEN_HEADER, required = false) String queueToken,
+            @RequestBody PurchaseTicketsDto purchaseTicketsDto,
+            Authentication authentication
+    ) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException, NotAdmittedException {
+        return ticketService.purchase(id, authentication.getName(), queueToken, purchaseTicketsDto);
+    }
+
+    @PostMapping("/events/{id}/holds")
+    @ResponseStatus(HttpStatus.CREATED)
+    public TicketHoldDto holdTickets(
+            @PathVariable int id,
+            @RequestHeader(value = WaitingRoom.TOKEN_HEADER, required = false) String queueToken,
+            @RequestBody HoldTicketsDto holdTicketsDto,
+            Authentication authentication
+    ) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException, NotAdmittedException {
+        return ticketService.hold(id, authentication.getName(), queueToken, holdTicketsDto);
+    }
+
+    @PostMapping("/events/{id}/holds/{holdId}/tickets")
+    @ResponseStatus(HttpStatus.CREATED)
+    public TicketPurchaseDto confirmHold(@PathVariable int id, @PathVariable String holdId, @RequestBody ConfirmHoldDto confirmHoldDto,
+                                         Authentication authentication)
+            throws HoldNotFoundException, InvalidPurchaseException, TicketsUnavailableException {
+        return ticketService.confirmHold(id, authentication.getName(), holdId, confirmHoldDto);
+    }
+
+    @DeleteMapping("/events/{id}/holds/{holdId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void releaseHold(@PathVariable int id, @PathVariable String holdId, Authentication authentication)
+            throws HoldNotFoundException {
+        ticketService.releaseHold(id, authentication.getName(), holdId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.centennial.eventease_backend.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: every row that was not imported is reported with its line and the reason.
+ */
+public record BulkImportReportDto(int received, int imported, List<BulkImportErrorDto> errors) {
+}
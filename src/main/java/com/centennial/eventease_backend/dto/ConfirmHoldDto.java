@@ -0,0 +1,5 @@
+package com.centennial.eventease_backend.dto;
+
+public record ConfirmHoldDto(String attendeeName,
+                             String attendeeEmail) {
+}
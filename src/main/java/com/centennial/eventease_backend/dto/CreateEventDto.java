@@ -13,5 +13,7 @@ public record CreateEventDto(String title,
                              String location,
                              int totalTickets,
                              float pricePerTicket,
-                             int memberId) {
+                             int memberId,
+                             Double latitude,
+                             Double longitude) {
 }
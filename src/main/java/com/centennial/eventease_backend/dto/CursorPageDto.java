@@ -0,0 +1,9 @@
+package com.centennial.eventease_backend.dto;
+
+import java.util.List;
+
+public record CursorPageDto<T>(List<T> content,
+                               int size,
+                               String nextCursor,
+                               boolean hasNext) {
+}
@@ -0,0 +1,45 @@
+package com.centennial.eventease_backend.dto;
+
+import com.centennial.eventease_backend.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned by a keyset (seek) listing. Events are listed by
+ * dateTime DESC, id DESC, so (dateTime, id) identifies a unique point in that order.
+ * Clients only ever see the opaque encoded form.
+ */
+public record EventCursor(LocalDateTime dateTime, int id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = dateTime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}. A null or blank value
+     * means "start from the newest event" and yields null.
+     */
+    public static EventCursor decode(String cursor) throws InvalidCursorException {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Invalid cursor: " + cursor);
+            }
+            LocalDateTime dateTime = LocalDateTime.parse(raw.substring(0, separator));
+            int id = Integer.parseInt(raw.substring(separator + 1));
+            return new EventCursor(dateTime, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.centennial.eventease_backend.dto;
+
+/**
+ * Formats of the catalog export and the bulk import, both one event per line.
+ */
+public enum EventDataFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    EventDataFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,11 @@
+package com.centennial.eventease_backend.dto;
+
+/**
+ * Events per normalized (category, location) pair, with one spelling of each as stored.
+ */
+public record EventFacetCountDto(String categoryNorm,
+                                 String locationNorm,
+                                 String category,
+                                 String location,
+                                 long count) {
+}
@@ -0,0 +1,13 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of one event the facet counts are kept by.
+ */
+public record EventFacetRowDto(int id,
+                               String category,
+                               String location,
+                               String title,
+                               LocalDateTime dateTime) {
+}
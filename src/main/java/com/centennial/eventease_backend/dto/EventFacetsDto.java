@@ -0,0 +1,11 @@
+package com.centennial.eventease_backend.dto;
+
+import java.util.Map;
+
+/**
+ * Event counts per category and per location for one filter set, most frequent values first.
+ */
+public record EventFacetsDto(long total,
+                             Map<String, Long> categories,
+                             Map<String, Long> locations) {
+}
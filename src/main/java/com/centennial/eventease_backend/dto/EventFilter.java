@@ -0,0 +1,79 @@
+package com.centennial.eventease_backend.dto;
+
+import com.centennial.eventease_backend.entities.Event;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * The optional filters of the event listing, normalized the way the listing queries compare them:
+ * blank means "no filter" and matching is case-insensitive. Title is a prefix match, location and
+ * category are substring matches. {@code from} and {@code to} bound the event date inclusively and
+ * {@code upcoming} additionally drops every event that has already started.
+ */
+public record EventFilter(String title,
+                          String location,
+                          String category,
+                          LocalDateTime from,
+                          LocalDateTime to,
+                          boolean upcoming) {
+
+    public EventFilter {
+        title = normalize(title);
+        location = normalize(location);
+        category = normalize(category);
+    }
+
+    public EventFilter(String title, String location, String category) {
+        this(title, location, category, null, null, false);
+    }
+
+    /**
+     * True when no text filter is set, the date bounds may still restrict the result.
+     */
+    public boolean isEmpty() {
+        return title == null && location == null && category == null;
+    }
+
+    /**
+     * True when only the upcoming bound applies, which is the default homepage listing.
+     */
+    public boolean isUpcomingOnly() {
+        return upcoming && isEmpty() && from == null && to == null;
+    }
+
+    /**
+     * The inclusive lower date bound at the given instant, combining {@code from} and {@code upcoming}.
+     */
+    public LocalDateTime lowerBound(LocalDateTime now) {
+        if (!upcoming) {
+            return from;
+        }
+        return from == null || from.isBefore(now) ? now : from;
+    }
+
+    public boolean matches(Event event) {
+        return (title == null || upper(event.getTitle()).startsWith(title))
+                && (location == null || upper(event.getLocation()).contains(location))
+                && (category == null || upper(event.getCategory()).contains(category))
+                && matchesDateTime(event.getDateTime(), LocalDateTime.now());
+    }
+
+    public boolean matchesDateTime(LocalDateTime dateTime, LocalDateTime now) {
+        LocalDateTime lower = lowerBound(now);
+        if (lower == null && to == null) {
+            return true;
+        }
+        return dateTime != null
+                && (lower == null || !dateTime.isBefore(lower))
+                && (to == null || !dateTime.isAfter(to));
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.toUpperCase(Locale.ROOT);
+    }
+
+    private static String upper(String value) {
+        return value == null ? "" : value.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,11 @@
+package com.centennial.eventease_backend.dto;
+
+import com.centennial.eventease_backend.entities.Event;
+
+/**
+ * Published by the event DAO whenever an event has been written, so in-memory
+ * read structures can follow the catalog without re-reading it. The same event may be
+ * published again after a change; listeners treat a known id as a replacement.
+ */
+public record EventSavedEvent(Event event) {
+}
@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.dto;
+
+/**
+ * Ids of the events on the requested page in relevance order, plus the total number of hits.
+ */
+public record EventSearchHitsDto(int[] ids, long totalHits) {
+}
@@ -0,0 +1,9 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The (dateTime, location) pair no two events may share.
+ */
+public record EventSlotDto(LocalDateTime dateTime, String location) {
+}
@@ -0,0 +1,14 @@
+package com.centennial.eventease_backend.dto;
+
+/**
+ * A typeahead suggestion: a title, location or category value and the number of upcoming events
+ * carrying it, which is also its rank.
+ */
+public record EventSuggestionDto(String text,
+                                 Field field,
+                                 int upcomingEvents) {
+
+    public enum Field {
+        TITLE, LOCATION, CATEGORY
+    }
+}
@@ -0,0 +1,9 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+
+public record GeoEventDto(int id,
+                          double latitude,
+                          double longitude,
+                          LocalDateTime dateTime) {
+}
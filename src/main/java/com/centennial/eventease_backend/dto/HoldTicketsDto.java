@@ -0,0 +1,4 @@
+package com.centennial.eventease_backend.dto;
+
+public record HoldTicketsDto(int quantity) {
+}
@@ -0,0 +1,17 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One event of a bulk import, as read from an NDJSON line or a CSV record.
+ */
+public record ImportEventDto(String title,
+                             String description,
+                             String category,
+                             LocalDateTime dateTime,
+                             String location,
+                             int totalTickets,
+                             float pricePerTicket,
+                             Double latitude,
+                             Double longitude) {
+}
@@ -0,0 +1,10 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+
+public record IndexedEventDto(int id,
+                              LocalDateTime dateTime,
+                              String title,
+                              String location,
+                              String category) {
+}
@@ -0,0 +1,8 @@
+package com.centennial.eventease_backend.dto;
+
+/**
+ * An event of a nearby search with its great-circle distance from the searched point.
+ */
+public record NearbyEventDto(EventDto event,
+                             double distanceKm) {
+}
@@ -0,0 +1,6 @@
+package com.centennial.eventease_backend.dto;
+
+public record PurchaseTicketsDto(int quantity,
+                                 String attendeeName,
+                                 String attendeeEmail) {
+}
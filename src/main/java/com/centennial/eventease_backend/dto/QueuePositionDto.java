@@ -0,0 +1,12 @@
+package com.centennial.eventease_backend.dto;
+
+/**
+ * A buyer's place in an event's waiting room. Once {@code admitted}, the token is sent as the
+ * {@code Queue-Token} header to buy or hold tickets.
+ */
+public record QueuePositionDto(String token,
+                               int eventId,
+                               long position,
+                               boolean admitted,
+                               long estimatedWaitSeconds) {
+}
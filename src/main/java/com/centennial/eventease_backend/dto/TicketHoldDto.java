@@ -0,0 +1,12 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A placed hold. Its tickets stay off sale until {@code expiresAt}, unless confirmed or released first.
+ */
+public record TicketHoldDto(String holdId,
+                            int eventId,
+                            int quantity,
+                            LocalDateTime expiresAt) {
+}
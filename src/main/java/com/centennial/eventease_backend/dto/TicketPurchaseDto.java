@@ -0,0 +1,12 @@
+package com.centennial.eventease_backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An accepted purchase. The tickets are final once returned, they reach the database shortly after.
+ */
+public record TicketPurchaseDto(int eventId,
+                                List<String> ticketCodes,
+                                LocalDateTime purchasedAt) {
+}
@@ -1,11 +1,15 @@
 package com.centennial.eventease_backend.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "AUTHORITIES", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"USERNAME", "AUTHORITY"})
 })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authorities")
 public class Authority {
     @EmbeddedId
     private AuthorityId id;
@@ -1,15 +1,34 @@
 package com.centennial.eventease_backend.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
-@Table(name = "EVENTS")
+@Table(name = "EVENTS", indexes = {
+        @Index(name = "IDX_EVENTS_DATETIME", columnList = "DATE_TIME, EVENT_ID"),
+        @Index(name = "IDX_EVENTS_TITLE_NORM", columnList = "TITLE_NORM"),
+        @Index(name = "IDX_EVENTS_LOCATION_NORM", columnList = "LOCATION_NORM"),
+        @Index(name = "IDX_EVENTS_CATEGORY_NORM", columnList = "CATEGORY_NORM"),
+        @Index(name = "IDX_EVENTS_MEMBER_DATETIME", columnList = "MEMBER_ID, DATE_TIME, EVENT_ID"),
+        @Index(name = "IDX_EVENTS_UPDATED_AT", columnList = "UPDATED_AT, EVENT_ID")
+}, uniqueConstraints = {
+        // One event per place and time, enforced by the database so concurrent creates cannot both pass
+        @UniqueConstraint(name = Event.UNIQUE_SLOT, columnNames = {"DATE_TIME", "LOCATION"})
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 public class Event {
 
+    public static final String UNIQUE_SLOT = "UK_EVENTS_DATETIME_LOCATION";
+
+    // Ids come from EVENT_SEQ in blocks of 50, so batched inserts need no generated key round trip
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventSeq")
+    @SequenceGenerator(name = "eventSeq", sequenceName = "EVENT_SEQ", allocationSize = 50)
     @Column(name = "EVENT_ID")
     private int id;
     @Column(name = "TITLE")
@@ -35,6 +54,20 @@ public class Event {
     private Member member;
     @Column(name = "CREATED_AT")
     private LocalDateTime createdAt;
+    @Column(name = "LATITUDE")
+    private Double latitude;
+    @Column(name = "LONGITUDE")
+    private Double longitude;
+    // Upper-cased copies the listing filters compare against, so no function wraps the indexed column
+    @Column(name = "TITLE_NORM")
+    private String titleNorm;
+    @Column(name = "LOCATION_NORM")
+    private String locationNorm;
+    @Column(name = "CATEGORY_NORM")
+    private String categoryNorm;
+    // Last write through the entity, lets the search index find what changed while it was down
+    @Column(name = "UPDATED_AT")
+    private LocalDateTime updatedAt;
 
     public Event(){}
 
@@ -148,6 +181,54 @@ public class Event {
         this.createdAt = createdAt;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getTitleNorm() {
+        return titleNorm;
+    }
+
+    public String getLocationNorm() {
+        return locationNorm;
+    }
+
+    public String getCategoryNorm() {
+        return categoryNorm;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        titleNorm = normalize(title);
+        locationNorm = normalize(location);
+        categoryNorm = normalize(category);
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * The case folding of the normalized columns, filter values must go through it as well.
+     */
+    public static String normalize(String value) {
+        return value == null ? null : value.toUpperCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return "Event{" +
@@ -163,6 +244,8 @@ public class Event {
                 ", pricePerTicket=" + pricePerTicket +
                 ", member=" + member +
                 ", createdAt=" + createdAt +
+                ", latitude=" + latitude +
+                ", longitude=" + longitude +
                 '}';
     }
 }
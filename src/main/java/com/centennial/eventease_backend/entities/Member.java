@@ -1,11 +1,17 @@
 package com.centennial.eventease_backend.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "MEMBERS")
+@Table(name = "MEMBERS", indexes = {
+        @Index(name = "IDX_MEMBERS_USERNAME", columnList = "USERNAME", unique = true)
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "members")
 public class Member {
 
     @Id
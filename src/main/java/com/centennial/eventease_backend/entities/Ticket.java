@@ -0,0 +1,88 @@
+package com.centennial.eventease_backend.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "TICKETS", indexes = {
+        @Index(name = "IDX_TICKETS_EVENT_ID", columnList = "EVENT_ID")
+})
+public class Ticket {
+
+    // Ids come from TICKET_SEQ in blocks of 50, so batched inserts need no generated key round trip
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticketSeq")
+    @SequenceGenerator(name = "ticketSeq", sequenceName = "TICKET_SEQ", allocationSize = 50)
+    @Column(name = "TICKET_ID")
+    private int id;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "EVENT_ID")
+    private Event event;
+    @Column(name = "TICKET_CODE", unique = true)
+    private String ticketCode;
+    @Column(name = "ATTENDEE_NAME", length = 200)
+    private String attendeeName;
+    @Column(name = "ATTENDEE_EMAIL", length = 200)
+    private String attendeeEmail;
+    @Column(name = "PURCHASE_AT")
+    private LocalDateTime purchaseAt;
+
+    public Ticket() {}
+
+    public Ticket(Event event, String ticketCode, String attendeeName, String attendeeEmail, LocalDateTime purchaseAt) {
+        this.event = event;
+        this.ticketCode = ticketCode;
+        this.attendeeName = attendeeName;
+        this.attendeeEmail = attendeeEmail;
+        this.purchaseAt = purchaseAt;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public void setEvent(Event event) {
+        this.event = event;
+    }
+
+    public String getTicketCode() {
+        return ticketCode;
+    }
+
+    public void setTicketCode(String ticketCode) {
+        this.ticketCode = ticketCode;
+    }
+
+    public String getAttendeeName() {
+        return attendeeName;
+    }
+
+    public void setAttendeeName(String attendeeName) {
+        this.attendeeName = attendeeName;
+    }
+
+    public String getAttendeeEmail() {
+        return attendeeEmail;
+    }
+
+    public void setAttendeeEmail(String attendeeEmail) {
+        this.attendeeEmail = attendeeEmail;
+    }
+
+    public LocalDateTime getPurchaseAt() {
+        return purchaseAt;
+    }
+
+    public void setPurchaseAt(LocalDateTime purchaseAt) {
+        this.purchaseAt = purchaseAt;
+    }
+}
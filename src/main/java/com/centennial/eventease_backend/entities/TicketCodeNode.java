@@ -0,0 +1,34 @@
+package com.centennial.eventease_backend.entities;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "TICKET_CODE_NODES")
+public class TicketCodeNode {
+
+    @Id
+    @Column(name = "NODE_ID")
+    private int nodeId;
+    // Epoch millis, no code of the node carries a later time
+    @Column(name = "RESERVED_UNTIL")
+    private long reservedUntil;
+
+    public TicketCodeNode() {}
+
+    public TicketCodeNode(int nodeId, long reservedUntil) {
+        this.nodeId = nodeId;
+        this.reservedUntil = reservedUntil;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    public long getReservedUntil() {
+        return reservedUntil;
+    }
+
+    public void setReservedUntil(long reservedUntil) {
+        this.reservedUntil = reservedUntil;
+    }
+}
@@ -1,11 +1,15 @@
 package com.centennial.eventease_backend.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
 @Entity
 @Table(name = "USERS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
     @Id
     @Column(name = "USERNAME")
@@ -14,6 +18,7 @@ public class User {
     private String password;
     @Column(name = "ENABLED", nullable = false)
     private char enabled;
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-authorities")
     @OneToMany(fetch = FetchType.EAGER, mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Authority> authorities;
 
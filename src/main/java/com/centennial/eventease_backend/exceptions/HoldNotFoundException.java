@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class HoldNotFoundException extends Exception {
+    public HoldNotFoundException(String message) {
+        super(message);
+    }
+}
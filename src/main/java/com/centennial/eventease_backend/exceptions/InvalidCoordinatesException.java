@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class InvalidCoordinatesException extends Exception {
+    public InvalidCoordinatesException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class InvalidCursorException extends Exception {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
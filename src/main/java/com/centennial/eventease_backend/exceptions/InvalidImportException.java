@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class InvalidImportException extends Exception {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class InvalidPurchaseException extends Exception {
+    public InvalidPurchaseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class NotAdmittedException extends Exception {
+
+    // -1 when the buyer has no place in the queue
+    private final long position;
+
+    public NotAdmittedException(String message) {
+        this(message, -1);
+    }
+
+    public NotAdmittedException(String message, long position) {
+        super(message);
+        this.position = position;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
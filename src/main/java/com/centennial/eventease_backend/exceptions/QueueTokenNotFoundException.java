@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class QueueTokenNotFoundException extends Exception {
+    public QueueTokenNotFoundException(String message) {
+        super(message);
+    }
+}
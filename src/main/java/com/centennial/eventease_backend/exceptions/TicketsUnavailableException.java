@@ -0,0 +1,7 @@
+package com.centennial.eventease_backend.exceptions;
+
+public class TicketsUnavailableException extends Exception {
+    public TicketsUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,18 +1,49 @@
 package com.centennial.eventease_backend.repository.contracts;
 
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetCountDto;
+import com.centennial.eventease_backend.dto.EventFacetRowDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSlotDto;
+import com.centennial.eventease_backend.dto.GeoEventDto;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
 import com.centennial.eventease_backend.entities.Event;
-import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.exceptions.EventConflictException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 
 public interface EventDao {
-    Page<Event> findAllOrderedByDate(String title, String location, String category, Pageable pageable);
+    Page<EventDto> findAllOrderedByDate(EventFilter filter, Pageable pageable);
+    Slice<EventDto> findSliceOrderedByDate(EventFilter filter, Pageable pageable);
+    List<Event> findAllOrderedByDateAfter(EventFilter filter, EventCursor after, int limit);
+    void forEachOrderedByDate(EventFilter filter, Consumer<Event> action);
+    List<EventCursor> findUpcomingKeys(LocalDateTime now);
     Optional<Event> findById(int id);
+    List<EventDto> findAllByIdsOrderedByDate(List<Integer> ids);
+    List<IndexedEventDto> findIndexedEventsAfterId(int afterId, int limit);
+    List<Event> findAllOrderedByIdAfter(int afterId, int limit);
+    List<Event> findAllUpdatedAfter(LocalDateTime afterUpdatedAt, int afterId, int limit);
+    List<GeoEventDto> findGeoEventsAfterId(int afterId, int limit);
+    List<EventFacetRowDto> findFacetRows();
+    List<EventFacetCountDto> countFacets(EventFilter filter);
     Optional<Event> findByDateAndLocation(LocalDateTime dateTime, String location);
-    void save(Event event);
-    Page<Event> findAllByMember(Member member, Pageable pageable);
+    List<EventSlotDto> findTakenSlots(Collection<LocalDateTime> dateTimes);
+    void save(Event event) throws EventConflictException;
+    void saveAll(List<Event> events);
+    void addTicketsSold(Map<Integer, Integer> soldByEvent);
+    boolean tryAddTicketsSold(int eventId, int quantity);
+    Page<EventDto> findAllByMember(int memberId, Pageable pageable);
+    List<Event> findAllByMemberAfter(int memberId, EventCursor after, int limit);
+    String getCatalogVersion();
+    String getVersion(int id);
 }
@@ -3,9 +3,11 @@ package com.centennial.eventease_backend.repository.contracts;
 import com.centennial.eventease_backend.entities.Member;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 public interface MemberDao {
     Optional<Member> findByUsername(String username);
+    OptionalInt findIdByUsername(String username);
     void save(Member member);
     Optional<Member> findById(int id);
     void update(Member member);
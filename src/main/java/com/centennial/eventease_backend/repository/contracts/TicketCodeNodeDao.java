@@ -0,0 +1,5 @@
+package com.centennial.eventease_backend.repository.contracts;
+
+public interface TicketCodeNodeDao {
+    long reserve(int nodeId, long untilMillis);
+}
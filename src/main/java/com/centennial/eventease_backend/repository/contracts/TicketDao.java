@@ -0,0 +1,9 @@
+package com.centennial.eventease_backend.repository.contracts;
+
+import com.centennial.eventease_backend.entities.Ticket;
+
+import java.util.List;
+
+public interface TicketDao {
+    void saveAll(List<Ticket> tickets);
+}
@@ -0,0 +1,95 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters of the event catalog, used as ETags so unchanged resources can be
+ * answered without reading them.
+ * <p>
+ * The catalog version moves on every committed event change, an event's version is the
+ * catalog version of its last change. Versions only live in memory, so every token carries
+ * the start time of this instance: after a restart no token issued before it can match.
+ * Counters are bumped after commit and read before the data, so a response can carry
+ * an older version than its body but never a newer one. The time of the last catalog edit is
+ * kept too, from the moment it is made until well after it committed. Sold ticket counts move
+ * the versions but are not an edit, they change with every sale.
+ */
+@Component
+public class CatalogVersion {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong catalog = new AtomicLong();
+    private final Map<Integer, Long> events = new ConcurrentHashMap<>();
+    private volatile long changedAt;
+
+    public String current() {
+        return epoch + "-" + catalog.get();
+    }
+
+    public String of(int eventId) {
+        return epoch + "-" + events.getOrDefault(eventId, 0L);
+    }
+
+    /**
+     * When the catalog was last edited, in epoch millis, 0 when it hasn't been since startup.
+     */
+    public long changedAt() {
+        return changedAt;
+    }
+
+    /**
+     * Bumps the catalog and the event once the surrounding transaction commits,
+     * right away when there is none.
+     */
+    public void bump(int eventId) {
+        bump(List.of(eventId));
+    }
+
+    /**
+     * Bumps the catalog once for all the events, which all take the new version.
+     */
+    public void bump(List<Integer> eventIds) {
+        bump(eventIds, true);
+    }
+
+    /**
+     * Bumps the versions of events whose sold tickets changed, without marking a catalog edit.
+     */
+    public void bumpTicketsSold(List<Integer> eventIds) {
+        bump(eventIds, false);
+    }
+
+    private void bump(List<Integer> eventIds, boolean edit) {
+        if (edit) {
+            // Marked before the commit as well, a reader reloading between commit and bump must see it
+            changedAt = System.currentTimeMillis();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(eventIds, edit);
+                }
+            });
+        } else {
+            bumpNow(eventIds, edit);
+        }
+    }
+
+    private void bumpNow(List<Integer> eventIds, boolean edit) {
+        if (edit) {
+            changedAt = System.currentTimeMillis();
+        }
+        long version = catalog.incrementAndGet();
+        for (int eventId : eventIds) {
+            events.merge(eventId, version, Math::max);
+        }
+    }
+}
@@ -1,79 +1,208 @@
 package com.centennial.eventease_backend.repository.implementations;
 
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetCountDto;
+import com.centennial.eventease_backend.dto.EventFacetRowDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.EventSlotDto;
+import com.centennial.eventease_backend.dto.GeoEventDto;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
 import com.centennial.eventease_backend.entities.Event;
 import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.exceptions.EventConflictException;
 import com.centennial.eventease_backend.repository.contracts.EventDao;
+import jakarta.persistence.Cache;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
+import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 
 @Repository
 public class EventDaoImpl implements EventDao {
 
+    private static final Duration COUNT_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int COUNT_CACHE_MAX_ENTRIES = 10_000;
+    private static final int EXPORT_FETCH_SIZE = 500;
+    // Matches hibernate.jdbc.batch_size, one flush sends one batch
+    private static final int BATCH_SIZE = 50;
+    private static final String TICKETS_SOLD_QUERY_SPACE = "EVENTS_TICKETS_SOLD";
+    // Listings select only the EventDto columns, so no entity, member proxy or dirty-checking snapshot is created
+    static final String EVENT_DTO_SELECT = "SELECT new com.centennial.eventease_backend.dto.EventDto(" +
+            "e.id, e.title, e.description, e.imagePath, e.category, e.location, e.totalTickets - e.ticketsSold, e.pricePerTicket)" +
+            " FROM Event e";
+    private static final String MEMBER_ORDER_BY = " ORDER BY e.dateTime DESC, e.id DESC";
+
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogVersion catalogVersion;
+    private final ParallelCount parallelCount;
+    private final TotalCountCache<EventFilter> totalByFilter = new TotalCountCache<>(COUNT_CACHE_TTL, COUNT_CACHE_MAX_ENTRIES);
+    private final TotalCountCache<Integer> totalByMember = new TotalCountCache<>(COUNT_CACHE_TTL, COUNT_CACHE_MAX_ENTRIES);
 
     @Autowired
-    public EventDaoImpl(EntityManager entityManager){
+    public EventDaoImpl(EntityManager entityManager, ApplicationEventPublisher eventPublisher, CatalogVersion catalogVersion,
+                        ParallelCount parallelCount){
         this.entityManager = entityManager;
+        this.parallelCount = parallelCount;
+        this.eventPublisher = eventPublisher;
+        this.catalogVersion = catalogVersion;
+        EventQueryShapes.register(entityManager.getEntityManagerFactory());
     }
 
 
 
     @Override
-    public Page<Event> findAllOrderedByDate(String title, String location, String category, Pageable pageable) {
-        // Base queries
-        String countJpql = "SELECT COUNT(e) FROM Event e WHERE 1=1";
-        String selectJpql = "SELECT e FROM Event e WHERE 1=1";
+    public Page<EventDto> findAllOrderedByDate(EventFilter filter, Pageable pageable) {
+        LocalDateTime lowerBound = filter.lowerBound(LocalDateTime.now());
+        int shape = EventQueryShapes.mask(filter, lowerBound);
 
-        // Build dynamic WHERE clauses
-        Map<String,Object> params = new HashMap<>();
+        // id breaks ties so pages are stable and match the keyset order
+        TypedQuery<EventDto> query = EventQueryShapes.bind(
+                entityManager.createNamedQuery(EventQueryShapes.listing(shape), EventDto.class),
+                shape, filter, lowerBound);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
 
-        if (title != null && !title.isBlank()) {
-            countJpql += " AND UPPER(e.title) LIKE UPPER(:title)";
-            selectJpql += " AND UPPER(e.title) LIKE UPPER(:title)";
-            params.put("title", title + "%");
+        // The count is only needed when the page alone cannot tell the total,
+        // and then it is served from the cache while it is fresh. The first page is
+        // read before counting: a short one is the whole listing and needs no count.
+        var cached = totalByFilter.get(filter);
+        if (cached.isEmpty() && pageable.getOffset() > 0 && parallelCount.isApplicable()) {
+            // Count on a second connection while this one reads the page. A count the page
+            // turns out not to need still completes in the background and fills the cache.
+            Optional<Future<Long>> total = parallelCount.trySubmit(() -> count(shape, filter, lowerBound));
+            if (total.isPresent()) {
+                List<EventDto> events;
+                try {
+                    events = parallelCount.withTimeout(query).getResultList();
+                } catch (RuntimeException e) {
+                    total.get().cancel(true);
+                    throw e;
+                }
+                return PageableExecutionUtils.getPage(events, pageable, () -> parallelCount.await(total.get()));
+            }
         }
 
-        if (location != null && !location.isBlank()) {
-            countJpql += " AND UPPER(e.location) LIKE UPPER(:location)";
-            selectJpql += " AND UPPER(e.location) LIKE UPPER(:location)";
-            params.put("location", "%" + location + "%");
-        }
+        List<EventDto> events = query.getResultList();
+        return PageableExecutionUtils.getPage(events, pageable,
+                () -> cached.isPresent() ? cached.getAsLong() : count(shape, filter, lowerBound));
+    }
+
+    private long count(int shape, EventFilter filter, LocalDateTime lowerBound) {
+        long total = EventQueryShapes.bind(
+                entityManager.createNamedQuery(EventQueryShapes.count(shape), Long.class),
+                shape, filter, lowerBound).getSingleResult();
+        totalByFilter.put(filter, total);
+        return total;
+    }
+
+    @Override
+    public Slice<EventDto> findSliceOrderedByDate(EventFilter filter, Pageable pageable) {
+        LocalDateTime lowerBound = filter.lowerBound(LocalDateTime.now());
+        int shape = EventQueryShapes.mask(filter, lowerBound);
+
+        // One extra row tells whether a next slice exists, no count query needed
+        TypedQuery<EventDto> query = EventQueryShapes.bind(
+                entityManager.createNamedQuery(EventQueryShapes.listing(shape), EventDto.class),
+                shape, filter, lowerBound);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<EventDto> events = query.getResultList();
 
-        if (category != null && !category.isBlank()) {
-            countJpql += " AND UPPER(e.category) LIKE UPPER(:category)";
-            selectJpql += " AND UPPER(e.category) LIKE UPPER(:category)";
-            params.put("category", "%" + category + "%");
+        boolean hasNext = events.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? events.subList(0, pageable.getPageSize()) : events, pageable, hasNext);
+    }
+
+    @Override
+    public List<Event> findAllOrderedByDateAfter(EventFilter filter, EventCursor after, int limit) {
+        LocalDateTime lowerBound = filter.lowerBound(LocalDateTime.now());
+        int shape = EventQueryShapes.mask(filter, lowerBound);
+
+        // Seek past the last row of the previous page instead of skipping an offset
+        TypedQuery<Event> query = EventQueryShapes.bind(
+                entityManager.createNamedQuery(EventQueryShapes.cursor(shape, after != null), Event.class),
+                shape, filter, lowerBound);
+        if (after != null) {
+            query.setParameter("afterDateTime", after.dateTime());
+            query.setParameter("afterId", after.id());
         }
+        query.setMaxResults(limit);
+        // Rows are only mapped to DTOs, skip the dirty-checking snapshots
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
 
-        // Add sorting
-        selectJpql += " ORDER BY e.dateTime DESC";
+        return query.getResultList();
+    }
 
-        // Execute count query
-        Query countQuery = entityManager.createQuery(countJpql);
-        params.forEach(countQuery::setParameter);
-        long total = (Long) countQuery.getSingleResult();
+    /**
+     * Runs the action on every event matching the filter, in listing order, through a forward-only
+     * cursor. Each event is detached once the action returns, so the persistence context never
+     * holds more than the current row however large the result is. The transaction keeps the
+     * connection of the cursor open until the last row.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachOrderedByDate(EventFilter filter, Consumer<Event> action) {
+        LocalDateTime lowerBound = filter.lowerBound(LocalDateTime.now());
+        int shape = EventQueryShapes.mask(filter, lowerBound);
 
-        // Execute select query
-        TypedQuery<Event> query = entityManager.createQuery(selectJpql, Event.class);
-        params.forEach(query::setParameter);
-        query.setFirstResult((int) pageable.getOffset());
-        query.setMaxResults(pageable.getPageSize());
+        org.hibernate.query.Query<Event> query = EventQueryShapes.bind(
+                entityManager.unwrap(Session.class).createNamedQuery(EventQueryShapes.cursor(shape, false), Event.class),
+                shape, filter, lowerBound);
+        query.setReadOnly(true);
+        query.setFetchSize(EXPORT_FETCH_SIZE);
+        // Exported rows are read once, putting them in the second-level cache would only cost
+        query.setCacheMode(CacheMode.IGNORE);
+
+        try (ScrollableResults<Event> rows = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                Event event = rows.get();
+                action.accept(event);
+                entityManager.detach(event);
+            }
+        }
+    }
 
-        return new PageImpl<>(query.getResultList(), pageable, total);
+    @Override
+    public List<EventCursor> findUpcomingKeys(LocalDateTime now) {
+        // A range scan on IDX_EVENTS_DATETIME, past events are never read
+        return entityManager.createQuery(
+                        "SELECT new com.centennial.eventease_backend.dto.EventCursor(e.dateTime, e.id)" +
+                                " FROM Event e WHERE e.dateTime >= :now", EventCursor.class)
+                .setParameter("now", now)
+                .getResultList();
     }
 
     @Override
@@ -86,6 +215,76 @@ public class EventDaoImpl implements EventDao {
         }
     }
 
+    @Override
+    public List<EventDto> findAllByIdsOrderedByDate(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        EVENT_DTO_SELECT + " WHERE e.id IN :ids ORDER BY e.dateTime DESC, e.id DESC", EventDto.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+
+    @Override
+    public List<IndexedEventDto> findIndexedEventsAfterId(int afterId, int limit) {
+        return entityManager.createQuery(
+                        "SELECT new com.centennial.eventease_backend.dto.IndexedEventDto(e.id, e.dateTime, e.title, e.location, e.category)" +
+                                " FROM Event e WHERE e.id > :afterId ORDER BY e.id", IndexedEventDto.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Event> findAllOrderedByIdAfter(int afterId, int limit) {
+        return entityManager.createQuery("SELECT e FROM Event e WHERE e.id > :afterId ORDER BY e.id", Event.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Event> findAllUpdatedAfter(LocalDateTime afterUpdatedAt, int afterId, int limit) {
+        // One range of IDX_EVENTS_UPDATED_AT per batch
+        return entityManager.createQuery(
+                        "SELECT e FROM Event e WHERE e.updatedAt >= :afterUpdatedAt" +
+                                " AND (e.updatedAt, e.id) > (:afterUpdatedAt, :afterId)" +
+                                " ORDER BY e.updatedAt, e.id", Event.class)
+                .setParameter("afterUpdatedAt", afterUpdatedAt)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<GeoEventDto> findGeoEventsAfterId(int afterId, int limit) {
+        return entityManager.createQuery(
+                        "SELECT new com.centennial.eventease_backend.dto.GeoEventDto(e.id, e.latitude, e.longitude, e.dateTime)" +
+                                " FROM Event e WHERE e.id > :afterId AND e.latitude IS NOT NULL AND e.longitude IS NOT NULL" +
+                                " ORDER BY e.id", GeoEventDto.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<EventFacetRowDto> findFacetRows() {
+        return entityManager.createQuery(
+                        "SELECT new com.centennial.eventease_backend.dto.EventFacetRowDto(e.id, e.category, e.location, e.title, e.dateTime)" +
+                                " FROM Event e", EventFacetRowDto.class)
+                .getResultList();
+    }
+
+    @Override
+    public List<EventFacetCountDto> countFacets(EventFilter filter) {
+        LocalDateTime lowerBound = filter.lowerBound(LocalDateTime.now());
+        int shape = EventQueryShapes.mask(filter, lowerBound);
+        return EventQueryShapes.bind(
+                entityManager.createNamedQuery(EventQueryShapes.facets(shape), EventFacetCountDto.class),
+                shape, filter, lowerBound).getResultList();
+    }
+
     @Override
     public Optional<Event> findByDateAndLocation(LocalDateTime dateTime, String location) {
         try {
@@ -102,32 +301,203 @@ public class EventDaoImpl implements EventDao {
     }
 
     @Override
-    public void save(Event event) {
+    public List<EventSlotDto> findTakenSlots(Collection<LocalDateTime> dateTimes) {
+        if (dateTimes.isEmpty()) {
+            return List.of();
+        }
+        // Probes IDX_EVENTS_DATETIME once per date, the caller matches the locations
+        return entityManager.createQuery(
+                        "SELECT new com.centennial.eventease_backend.dto.EventSlotDto(e.dateTime, e.location)" +
+                                " FROM Event e WHERE e.dateTime IN :dateTimes", EventSlotDto.class)
+                .setParameter("dateTimes", dateTimes)
+                .getResultList();
+    }
+
+    @Override
+    public void save(Event event) throws EventConflictException {
         entityManager.persist(event);
-        entityManager.flush(); // Ensures the insert happens immediately
+        try {
+            entityManager.flush(); // Ensures the insert happens immediately
+        } catch (PersistenceException e) {
+            if (isSlotConflict(e)) {
+                throw new EventConflictException("An event already exists at this location and time");
+            }
+            throw e;
+        }
+
+        afterSave(List.of(event));
+    }
+
+    private static boolean isSlotConflict(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                // Drivers report the name with schema or index decorations around it
+                return violation.getConstraintName() != null
+                        && violation.getConstraintName().toUpperCase(Locale.ROOT).contains(Event.UNIQUE_SLOT);
+            }
+        }
+        return false;
     }
 
+    /**
+     * Inserts the events in one transaction. With {@code hibernate.jdbc.batch_size} and ordered
+     * inserts the rows go out in JDBC batches, sequence ids are allocated in blocks so no insert
+     * waits for its generated key. The context is flushed and cleared every batch so it never
+     * holds more than one batch of events.
+     */
     @Override
-    public Page<Event> findAllByMember(Member member, Pageable pageable) {
-        // Base queries
-        String countJpql = "SELECT COUNT(e) FROM Event e WHERE e.member = :member";
-        String selectJpql = "SELECT e FROM Event e WHERE e.member = :member";
+    @Transactional
+    public void saveAll(List<Event> events) {
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            // Cascading persist to a member detached by an earlier clear would fail, a reference does not
+            if (event.getMember() != null && !entityManager.contains(event.getMember())) {
+                event.setMember(entityManager.getReference(Member.class, event.getMember().getMemberId()));
+            }
+            entityManager.persist(event);
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        afterSave(events);
+    }
+
+    /**
+     * Adds sold tickets with one UPDATE per event. The statement declares a query space of its
+     * own, otherwise Hibernate would drop the whole events cache region; only the updated events
+     * are evicted, again after commit so a concurrent read cannot cache the old count.
+     */
+    @Override
+    public void addTicketsSold(Map<Integer, Integer> soldByEvent) {
+        soldByEvent.forEach((eventId, quantity) -> ticketsSoldUpdate(
+                "UPDATE EVENTS SET TICKETS_SOLD = TICKETS_SOLD + :quantity WHERE EVENT_ID = :eventId", eventId, quantity)
+                .executeUpdate());
+        afterTicketsSoldChanged(List.copyOf(soldByEvent.keySet()));
+    }
 
-        // Execute count query
-        Query countQuery = entityManager.createQuery(countJpql)
-                .setParameter("member", member);
-        long total = (Long) countQuery.getSingleResult();
+    /**
+     * Adds sold tickets in one statement that only matches while they fit, the row is never read
+     * first and the database serializes concurrent calls on the row lock. A negative quantity
+     * gives tickets back.
+     */
+    @Override
+    public boolean tryAddTicketsSold(int eventId, int quantity) {
+        int updated = ticketsSoldUpdate("UPDATE EVENTS SET TICKETS_SOLD = TICKETS_SOLD + :quantity" +
+                " WHERE EVENT_ID = :eventId AND TICKETS_SOLD + :quantity BETWEEN 0 AND TOTAL_TICKETS", eventId, quantity)
+                .executeUpdate();
+        if (updated == 0) {
+            return false;
+        }
+        afterTicketsSoldChanged(List.of(eventId));
+        return true;
+    }
+
+    private Query ticketsSoldUpdate(String sql, int eventId, int quantity) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(TICKETS_SOLD_QUERY_SPACE)
+                .setParameter("quantity", quantity)
+                .setParameter("eventId", eventId);
+    }
 
-        // Execute select query with pagination
-        TypedQuery<Event> query = entityManager.createQuery(selectJpql, Event.class)
-                .setParameter("member", member)
+    private void afterTicketsSoldChanged(List<Integer> eventIds) {
+        evictEvents(eventIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEvents(eventIds);
+                }
+            });
+        }
+        catalogVersion.bumpTicketsSold(eventIds);
+    }
+
+    private void evictEvents(List<Integer> eventIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        eventIds.forEach(eventId -> cache.evict(Event.class, eventId));
+    }
+
+    @Override
+    public Page<EventDto> findAllByMember(int memberId, Pageable pageable) {
+        // Same order as the keyset listing, read along IDX_EVENTS_MEMBER_DATETIME
+        TypedQuery<EventDto> query = entityManager.createQuery(
+                        EVENT_DTO_SELECT + " WHERE e.member.memberId = :memberId" + MEMBER_ORDER_BY, EventDto.class)
+                .setParameter("memberId", memberId)
                 .setFirstResult((int) pageable.getOffset())
                 .setMaxResults(pageable.getPageSize());
+        List<EventDto> events = query.getResultList();
+
+        return PageableExecutionUtils.getPage(events, pageable, () -> {
+            var cached = totalByMember.get(memberId);
+            if (cached.isPresent()) {
+                return cached.getAsLong();
+            }
+            long total = entityManager.createQuery("SELECT COUNT(e) FROM Event e WHERE e.member.memberId = :memberId", Long.class)
+                    .setParameter("memberId", memberId)
+                    .getSingleResult();
+            totalByMember.put(memberId, total);
+            return total;
+        });
+    }
+
+    @Override
+    public List<Event> findAllByMemberAfter(int memberId, EventCursor after, int limit) {
+        // The member and the seek bound make the whole page one range of IDX_EVENTS_MEMBER_DATETIME
+        String seek = after != null
+                ? " AND e.dateTime <= :afterDateTime AND (e.dateTime, e.id) < (:afterDateTime, :afterId)"
+                : "";
+        TypedQuery<Event> query = entityManager.createQuery(
+                        "SELECT e FROM Event e WHERE e.member.memberId = :memberId" + seek + MEMBER_ORDER_BY, Event.class)
+                .setParameter("memberId", memberId);
+        if (after != null) {
+            query.setParameter("afterDateTime", after.dateTime());
+            query.setParameter("afterId", after.id());
+        }
+        query.setMaxResults(limit);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
 
-        query.setHint("org.hibernate.cacheable", false); // Disable cache for consistent results
-        List<Event> events = query.getResultList();
+        return query.getResultList();
+    }
+
+    @Override
+    public String getCatalogVersion() {
+        return catalogVersion.current();
+    }
+
+    @Override
+    public String getVersion(int id) {
+        return catalogVersion.of(id);
+    }
+
+    private void afterSave(List<Event> events) {
+        invalidateTotals(events);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A concurrent reader may have re-cached the old total before we committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateTotals(events);
+                }
+            });
+        }
+        catalogVersion.bump(events.stream().map(Event::getId).toList());
+        events.forEach(event -> eventPublisher.publishEvent(new EventSavedEvent(event)));
+    }
 
-        return new PageImpl<>(events, pageable, total);
+    private void invalidateTotals(List<Event> events) {
+        // Only totals whose filters one of the new events satisfies have changed
+        totalByFilter.invalidateIf(filter -> events.stream().anyMatch(filter::matches));
+        events.stream()
+                .map(Event::getMember)
+                .filter(Objects::nonNull)
+                .map(Member::getMemberId)
+                .distinct()
+                .forEach(totalByMember::invalidate);
     }
 
 
@@ -0,0 +1,142 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import com.centennial.eventease_backend.dto.EventFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+
+/**
+ * Every shape the filtered event listing queries can take, registered once as named queries.
+ * <p>
+ * Each optional filter sets one bit of a mask, so the three text filters and the two date bounds
+ * give 32 shapes per query and the cursor query doubles that with its seek predicate.
+ * The facet query groups the same matches by their normalized category and location. The JPQL of all shapes is built and
+ * registered when the DAO is created; a request only computes the mask, looks up the named query,
+ * whose parsed tree Hibernate keeps, and binds the present filters directly.
+ */
+final class EventQueryShapes {
+
+    private static final int TITLE = 1;
+    private static final int LOCATION = 2;
+    private static final int CATEGORY = 4;
+    private static final int FROM = 8;
+    private static final int TO = 16;
+    private static final int SHAPES = 32;
+
+    private static final String EVENT_DTO_SELECT = EventDaoImpl.EVENT_DTO_SELECT + " WHERE 1=1";
+    private static final String ORDER_BY = " ORDER BY e.dateTime DESC, e.id DESC";
+    private static final String FACETS_SELECT = "SELECT new com.centennial.eventease_backend.dto.EventFacetCountDto(" +
+            "e.categoryNorm, e.locationNorm, MIN(e.category), MIN(e.location), COUNT(e)) FROM Event e WHERE 1=1";
+    private static final String FACETS_GROUP_BY = " GROUP BY e.categoryNorm, e.locationNorm";
+    // The plain dateTime bound gives the optimizer a range on IDX_EVENTS_DATETIME,
+    // the tuple comparison settles ties on the same dateTime
+    private static final String SEEK = " AND e.dateTime <= :afterDateTime AND (e.dateTime, e.id) < (:afterDateTime, :afterId)";
+
+    private static final String[] LISTING = new String[SHAPES];
+    private static final String[] COUNT = new String[SHAPES];
+    private static final String[] CURSOR_FIRST = new String[SHAPES];
+    private static final String[] CURSOR_AFTER = new String[SHAPES];
+    private static final String[] FACETS = new String[SHAPES];
+
+    static {
+        for (int mask = 0; mask < SHAPES; mask++) {
+            LISTING[mask] = "Event.listing." + mask;
+            COUNT[mask] = "Event.count." + mask;
+            CURSOR_FIRST[mask] = "Event.cursorFirst." + mask;
+            CURSOR_AFTER[mask] = "Event.cursorAfter." + mask;
+            FACETS[mask] = "Event.facets." + mask;
+        }
+    }
+
+    private EventQueryShapes() {
+    }
+
+    static void register(EntityManagerFactory entityManagerFactory) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            for (int mask = 0; mask < SHAPES; mask++) {
+                String where = where(mask);
+                entityManagerFactory.addNamedQuery(LISTING[mask],
+                        entityManager.createQuery(EVENT_DTO_SELECT + where + ORDER_BY));
+                entityManagerFactory.addNamedQuery(COUNT[mask],
+                        entityManager.createQuery("SELECT COUNT(e) FROM Event e WHERE 1=1" + where));
+                entityManagerFactory.addNamedQuery(CURSOR_FIRST[mask],
+                        entityManager.createQuery("SELECT e FROM Event e WHERE 1=1" + where + ORDER_BY));
+                entityManagerFactory.addNamedQuery(CURSOR_AFTER[mask],
+                        entityManager.createQuery("SELECT e FROM Event e WHERE 1=1" + where + SEEK + ORDER_BY));
+                entityManagerFactory.addNamedQuery(FACETS[mask],
+                        entityManager.createQuery(FACETS_SELECT + where + FACETS_GROUP_BY));
+            }
+        }
+    }
+
+    static int mask(EventFilter filter, LocalDateTime lowerBound) {
+        return (filter.title() != null ? TITLE : 0)
+                | (filter.location() != null ? LOCATION : 0)
+                | (filter.category() != null ? CATEGORY : 0)
+                | (lowerBound != null ? FROM : 0)
+                | (filter.to() != null ? TO : 0);
+    }
+
+    static String listing(int mask) {
+        return LISTING[mask];
+    }
+
+    static String count(int mask) {
+        return COUNT[mask];
+    }
+
+    static String cursor(int mask, boolean after) {
+        return after ? CURSOR_AFTER[mask] : CURSOR_FIRST[mask];
+    }
+
+    static String facets(int mask) {
+        return FACETS[mask];
+    }
+
+    /**
+     * Binds the filters of the mask with the listing semantics: title is a prefix match,
+     * location and category are substring matches, all on the normalized columns the
+     * filter values are already folded for. Date bounds are inclusive.
+     */
+    static <Q extends Query> Q bind(Q query, int mask, EventFilter filter, LocalDateTime lowerBound) {
+        if ((mask & TITLE) != 0) {
+            query.setParameter("title", filter.title() + "%");
+        }
+        if ((mask & LOCATION) != 0) {
+            query.setParameter("location", "%" + filter.location() + "%");
+        }
+        if ((mask & CATEGORY) != 0) {
+            query.setParameter("category", "%" + filter.category() + "%");
+        }
+        if ((mask & FROM) != 0) {
+            query.setParameter("from", lowerBound);
+        }
+        if ((mask & TO) != 0) {
+            query.setParameter("to", filter.to());
+        }
+        return query;
+    }
+
+    private static String where(int mask) {
+        StringBuilder where = new StringBuilder();
+        if ((mask & TITLE) != 0) {
+            where.append(" AND e.titleNorm LIKE :title");
+        }
+        if ((mask & LOCATION) != 0) {
+            where.append(" AND e.locationNorm LIKE :location");
+        }
+        if ((mask & CATEGORY) != 0) {
+            where.append(" AND e.categoryNorm LIKE :category");
+        }
+        // Date bounds are range predicates on the leading column of IDX_EVENTS_DATETIME
+        if ((mask & FROM) != 0) {
+            where.append(" AND e.dateTime >= :from");
+        }
+        if ((mask & TO) != 0) {
+            where.append(" AND e.dateTime <= :to");
+        }
+        return where.toString();
+    }
+}
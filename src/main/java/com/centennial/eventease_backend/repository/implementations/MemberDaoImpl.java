@@ -2,16 +2,27 @@ package com.centennial.eventease_backend.repository.implementations;
 
 import com.centennial.eventease_backend.entities.Member;
 import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 @Repository
 public class MemberDaoImpl implements MemberDao {
 
+    private static final int MAX_CACHED_IDS = 10_000;
+
     private final EntityManager entityManager;
+    // Usernames never change and members are never deleted, so a resolved id stays valid
+    private final Cache<String, Integer> idByUsername = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_IDS)
+            .build();
 
     @Autowired
     public MemberDaoImpl(EntityManager entityManager){
@@ -22,8 +33,10 @@ public class MemberDaoImpl implements MemberDao {
     public Optional<Member> findByUsername(String username) {
         String query = "SELECT m FROM Member m WHERE m.username = :username";
         try{
+            // Cached ids of the matching member, hydrated from the members region
             Member member = entityManager.createQuery(query, Member.class)
                     .setParameter("username", username)
+                    .setHint(HibernateHints.HINT_CACHEABLE, true)
                     .getSingleResult();
 
             return Optional.ofNullable(member);
@@ -32,6 +45,27 @@ public class MemberDaoImpl implements MemberDao {
         }
     }
 
+    /**
+     * The id of the member with the username. Found ids are cached, unknown usernames are not
+     * since the member may register later.
+     */
+    @Override
+    public OptionalInt findIdByUsername(String username) {
+        Integer cached = idByUsername.getIfPresent(username);
+        if (cached != null) {
+            return OptionalInt.of(cached);
+        }
+        try {
+            int memberId = entityManager.createQuery("SELECT m.memberId FROM Member m WHERE m.username = :username", Integer.class)
+                    .setParameter("username", username)
+                    .getSingleResult();
+            idByUsername.put(username, memberId);
+            return OptionalInt.of(memberId);
+        } catch (NoResultException e) {
+            return OptionalInt.empty();
+        }
+    }
+
     @Override
     public void save(Member member) {
         entityManager.persist(member);
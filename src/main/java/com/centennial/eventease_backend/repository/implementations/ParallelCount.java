@@ -0,0 +1,129 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import com.centennial.eventease_backend.security.ListingProperties;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs listing COUNT queries on a virtual thread, in their own read-only transaction and so on
+ * their own connection, while the caller selects the page. A listing then takes as long as the
+ * slower of the two queries instead of both.
+ * <p>
+ * Each count takes a second connection from the pool, so only {@code listing.max-parallel-counts}
+ * run at once. A listing that finds no permit free counts on its own connection after the page.
+ * <p>
+ * A count that fails, times out or is abandoned because the page failed is cancelled, and its
+ * transaction carries the same timeout so the database stops working on it too.
+ */
+@Component
+public class ParallelCount {
+
+    private final boolean enabled;
+    private final int timeoutMillis;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Autowired
+    public ParallelCount(PlatformTransactionManager transactionManager, ListingProperties properties) {
+        this.enabled = properties.parallelCount();
+        this.timeoutMillis = (int) properties.queryTimeout().toMillis();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, properties.queryTimeout().toSeconds()));
+        this.permits = new Semaphore(properties.maxParallelCounts());
+    }
+
+    /**
+     * True when a count on another connection sees what the caller sees: outside a transaction or
+     * inside a read-only one. A read-write transaction may hold rows only its own connection sees.
+     */
+    public boolean isApplicable() {
+        return enabled && (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+    }
+
+    /**
+     * Starts the count, empty when too many are running already and the caller should count itself.
+     */
+    public Optional<Future<Long>> trySubmit(Supplier<Long> count) {
+        if (!permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        // Given back once the transaction ended, before the result is visible, or when the
+        // count is cancelled, which also covers one that never started
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        // The security context travels along so the count is routed like the caller's queries
+        FutureTask<Long> task = new FutureTask<>(DelegatingSecurityContextCallable.create(() -> {
+            try {
+                return readOnlyTransaction.execute(status -> count.get());
+            } finally {
+                release.run();
+            }
+        }, null)) {
+            @Override
+            protected void done() {
+                release.run();
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+        return Optional.of(task);
+    }
+
+    public <T> TypedQuery<T> withTimeout(TypedQuery<T> query) {
+        return query.setHint("jakarta.persistence.query.timeout", timeoutMillis);
+    }
+
+    public long await(Future<Long> count) {
+        try {
+            return count.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            count.cancel(true);
+            throw new QueryTimeoutException("Counting the listing took longer than " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            count.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while counting the listing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
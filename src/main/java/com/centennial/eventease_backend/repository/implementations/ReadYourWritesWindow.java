@@ -0,0 +1,72 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers the members who committed a write in the last {@code window}, so their reads can be
+ * kept off a replica that may not have caught up yet. A zero window turns it off.
+ * <p>
+ * The catalog is shared: for {@code window} after it was edited every read goes to the primary.
+ * The caches evicted by the edit refill from those reads, a lagging replica would put the
+ * old rows back in them, to be served under the new catalog version. Ticket sales don't count
+ * as edits, they would keep every read on the primary while an event sells; a sold count read
+ * from the replica is at most the lag behind, and the inventory, not the count, decides sales.
+ */
+public class ReadYourWritesWindow implements TransactionExecutionListener {
+
+    private static final int MAX_WRITERS = 100_000;
+
+    private final Duration window;
+    private final CatalogVersion catalogVersion;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(Duration window, CatalogVersion catalogVersion) {
+        this.window = window;
+        this.catalogVersion = catalogVersion;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAX_WRITERS)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly() && !window.isZero()) {
+            currentUser().ifPresent(username -> recentWriters.put(username, Boolean.TRUE));
+        }
+    }
+
+    /**
+     * True while the reads of this thread must stay on the primary.
+     */
+    public boolean isOpenForCurrentRead() {
+        return isOpenForCatalog() || isOpenForCurrentUser();
+    }
+
+    public boolean isOpenForCatalog() {
+        long changedAt = catalogVersion.changedAt();
+        return changedAt != 0 && System.currentTimeMillis() - changedAt < window.toMillis();
+    }
+
+    public boolean isOpenForCurrentUser() {
+        return currentUser().map(username -> recentWriters.getIfPresent(username) != null).orElse(false);
+    }
+
+    private static Optional<String> currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(authentication.getName());
+    }
+}
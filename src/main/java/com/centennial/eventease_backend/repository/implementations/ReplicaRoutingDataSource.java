@@ -0,0 +1,31 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends the connections of read-only transactions to the replica and everything else to the
+ * primary. Members inside their read-your-writes window stay on the primary so they see what
+ * they just wrote, and so does everyone right after the catalog changed. The key is read when a
+ * connection is fetched, so this must sit behind a lazy connection proxy that fetches on the first
+ * statement, once the transaction is set up. The {@link Target} data sources are set by whoever
+ * creates it, before {@code afterPropertiesSet()}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    public ReplicaRoutingDataSource(ReadYourWritesWindow readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !readYourWritesWindow.isOpenForCurrentRead()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
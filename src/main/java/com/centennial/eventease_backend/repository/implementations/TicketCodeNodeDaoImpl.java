@@ -0,0 +1,38 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import com.centennial.eventease_backend.entities.TicketCodeNode;
+import com.centennial.eventease_backend.repository.contracts.TicketCodeNodeDao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class TicketCodeNodeDaoImpl implements TicketCodeNodeDao {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public TicketCodeNodeDaoImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Moves the node's reservation up to {@code untilMillis} unless it already reaches further, and
+     * returns the one it had, 0 for a node that never reserved. The row is locked while it is
+     * read and moved, so reservations of one node apply one after the other.
+     */
+    @Override
+    @Transactional
+    public long reserve(int nodeId, long untilMillis) {
+        TicketCodeNode node = entityManager.find(TicketCodeNode.class, nodeId, LockModeType.PESSIMISTIC_WRITE);
+        if (node == null) {
+            entityManager.persist(new TicketCodeNode(nodeId, untilMillis));
+            return 0;
+        }
+        long previous = node.getReservedUntil();
+        node.setReservedUntil(Math.max(previous, untilMillis));
+        return previous;
+    }
+}
@@ -0,0 +1,46 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Ticket;
+import com.centennial.eventease_backend.repository.contracts.TicketDao;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public class TicketDaoImpl implements TicketDao {
+
+    private static final int BATCH_SIZE = 50;
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public TicketDaoImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Inserts the tickets in JDBC batches, flushing and clearing the context every batch. Tickets
+     * point at their event through a reference, so no event is loaded.
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<Ticket> tickets) {
+        for (int i = 0; i < tickets.size(); i++) {
+            Ticket ticket = tickets.get(i);
+            if (!entityManager.contains(ticket.getEvent())) {
+                ticket.setEvent(entityManager.getReference(Event.class, ticket.getEvent().getId()));
+            }
+            entityManager.persist(ticket);
+            if ((i + 1) % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
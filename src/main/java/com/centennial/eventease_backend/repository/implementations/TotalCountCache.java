@@ -0,0 +1,57 @@
+package com.centennial.eventease_backend.repository.implementations;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Remembers the result of listing COUNT queries per filter combination for a short time,
+ * so paging through a listing does not pay for the count on every request.
+ * Entries expire after the TTL and writers invalidate the keys they affect.
+ */
+public class TotalCountCache<K> {
+
+    private record Entry(long total, long expiresAt) {}
+
+    private final ConcurrentHashMap<K, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public TotalCountCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public OptionalLong get(K key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return OptionalLong.empty();
+        }
+        if (System.nanoTime() - entry.expiresAt() >= 0) {
+            entries.remove(key, entry);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(entry.total());
+    }
+
+    public void put(K key, long total) {
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            entries.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+            if (entries.size() >= maxEntries) {
+                // Too many distinct filters are live, start over rather than grow unbounded
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(total, System.nanoTime() + ttlNanos));
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        entries.keySet().removeIf(predicate);
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+}
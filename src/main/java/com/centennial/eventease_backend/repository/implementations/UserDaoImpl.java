@@ -26,15 +26,7 @@ public class UserDaoImpl implements UserDao {
 
     @Override
     public Optional<User> findByUsername(String username) {
-        String query = "SELECT u FROM User u WHERE u.username = :username";
-        try{
-            User user = entityManager.createQuery(query, User.class)
-                    .setParameter("username", username)
-                    .getSingleResult();
-
-            return Optional.ofNullable(user);
-        } catch (Exception e){
-            return Optional.empty();
-        }
+        // The username is the id, so a lookup by id is answered from the second-level cache
+        return Optional.ofNullable(entityManager.find(User.class, username));
     }
 }
@@ -0,0 +1,17 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Regions of the Hibernate second-level cache, by region name. A region without a TTL
+ * only loses entries to its size bound.
+ */
+@ConfigurationProperties("entity-cache")
+public record EntityCacheProperties(Map<String, Region> regions) {
+
+    public record Region(long maxEntries, Duration ttl) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Ticket holds taken during checkout. A hold keeps its tickets off sale for {@code ttl}, at most
+ * {@code maxOutstanding} holds exist at once so their memory stays bounded.
+ */
+@ConfigurationProperties("tickets.holds")
+public record HoldProperties(Duration ttl, int maxOutstanding) {
+
+    public HoldProperties {
+        if (ttl == null) {
+            ttl = Duration.ofMinutes(10);
+        }
+        if (maxOutstanding <= 0) {
+            maxOutstanding = 1_000_000;
+        }
+    }
+}
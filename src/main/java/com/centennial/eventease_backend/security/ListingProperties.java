@@ -0,0 +1,24 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Execution of the filtered event listing. With {@code parallelCount} the COUNT query of a page
+ * runs on its own connection while the page is selected. Both queries are bounded by {@code queryTimeout}.
+ * At most {@code maxParallelCounts} counts run beside their pages, keep it well below the connection
+ * pool size since every caller already holds a connection of its own.
+ */
+@ConfigurationProperties("listing")
+public record ListingProperties(boolean parallelCount, Duration queryTimeout, int maxParallelCounts) {
+
+    public ListingProperties {
+        if (queryTimeout == null) {
+            queryTimeout = Duration.ofSeconds(5);
+        }
+        if (maxParallelCounts <= 0) {
+            maxParallelCounts = 4;
+        }
+    }
+}
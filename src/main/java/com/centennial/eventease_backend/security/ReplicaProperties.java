@@ -0,0 +1,20 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection of the read replica, read-only transactions are routed to it when {@code url} is set.
+ * After a member commits a write, their reads stay on the primary for {@code readYourWritesWindow},
+ * after the event catalog changes everyone's do. Set it above the replica's usual lag.
+ */
+@ConfigurationProperties("replica")
+public record ReplicaProperties(String url, String username, String password, Duration readYourWritesWindow) {
+
+    public ReplicaProperties {
+        if (readYourWritesWindow == null) {
+            readYourWritesWindow = Duration.ZERO;
+        }
+    }
+}
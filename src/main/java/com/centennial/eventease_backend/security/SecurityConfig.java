@@ -69,11 +69,19 @@ public class SecurityConfig {
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // Allow all OPTIONS requests
                     .requestMatchers(HttpMethod.POST, "/api/login").permitAll()
                     .requestMatchers(HttpMethod.POST, "/api/members").permitAll()
+                    // Queue tokens and holds belong to the buyer who took them
+                    .requestMatchers(HttpMethod.GET, "/api/events/*/queue/*").authenticated()
                     .requestMatchers(HttpMethod.GET, "/api/events/**").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/images/**").permitAll()
                     .requestMatchers(HttpMethod.GET, "/api/members/**").hasRole("MEMBER")
                     .requestMatchers(HttpMethod.PUT, "/api/members").hasRole("MEMBER")
                     .requestMatchers(HttpMethod.POST, "/api/events").hasRole("MEMBER")
+                    .requestMatchers(HttpMethod.POST, "/api/events/bulk").hasRole("MEMBER")
+                    .requestMatchers(HttpMethod.POST, "/api/events/*/queue").authenticated()
+                    .requestMatchers(HttpMethod.POST, "/api/events/*/tickets").authenticated()
+                    .requestMatchers(HttpMethod.POST, "/api/events/*/holds", "/api/events/*/holds/*/tickets").authenticated()
+                    .requestMatchers(HttpMethod.DELETE, "/api/events/*/holds/*").authenticated()
+                    .requestMatchers(HttpMethod.GET, "/actuator/**").authenticated()
             )
         ;
 
@@ -2,6 +2,8 @@ package com.centennial.eventease_backend.security;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.nio.file.Paths;
+
 @ConfigurationProperties("storage")
 public class StorageProperties {
 
@@ -10,6 +12,11 @@ public class StorageProperties {
      */
     private String location = "uploads";
 
+    /**
+     * Folder location for the event full-text index, defaults to a folder under the storage location
+     */
+    private String searchIndexLocation;
+
     public String getLocation() {
         return location;
     }
@@ -18,4 +25,15 @@ public class StorageProperties {
         this.location = location;
     }
 
+    public String getSearchIndexLocation() {
+        if (searchIndexLocation == null || searchIndexLocation.isBlank()) {
+            return Paths.get(location, "search-index").toString();
+        }
+        return searchIndexLocation;
+    }
+
+    public void setSearchIndexLocation(String searchIndexLocation) {
+        this.searchIndexLocation = searchIndexLocation;
+    }
+
 }
@@ -0,0 +1,23 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Ticket sales. Without {@code databaseGuard} the in-memory inventory decides every sale, which
+ * holds for a single node. With it, each sale is also counted in TICKETS_SOLD right away by a
+ * conditional update, so several nodes selling the same event can never oversell it.
+ * {@code nodeId} goes into every ticket code, each node selling tickets needs its own. The shipped
+ * configuration sets 0 for a single node, a second node left on it would hand out the same codes.
+ */
+@ConfigurationProperties("tickets")
+public record TicketProperties(boolean databaseGuard, Integer nodeId) {
+
+    public TicketProperties {
+        if (nodeId == null) {
+            throw new IllegalArgumentException("tickets.node-id must be set, between 0 and 1023 and different on every node");
+        }
+        if (nodeId < 0 || nodeId > 1023) {
+            throw new IllegalArgumentException("tickets.node-id must be between 0 and 1023, was " + nodeId);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The write-behind of sold tickets. At most {@code maxPending} tickets wait for a flush, further
+ * purchases are turned away until it catches up. A ticket whose write failed {@code maxAttempts}
+ * times is given up on and logged as dead-lettered.
+ */
+@ConfigurationProperties("tickets.writer")
+public record TicketWriterProperties(int maxPending, int maxAttempts) {
+
+    public TicketWriterProperties {
+        if (maxPending <= 0) {
+            maxPending = 100_000;
+        }
+        if (maxAttempts <= 0) {
+            maxAttempts = 10;
+        }
+    }
+}
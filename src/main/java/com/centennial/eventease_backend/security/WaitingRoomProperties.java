@@ -0,0 +1,26 @@
+package com.centennial.eventease_backend.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission to checkout. When {@code enabled}, buying or holding tickets needs a queue token that
+ * was let through; {@code admissionsPerSecond} buyers of an event are let through per second.
+ * An admission stays valid for {@code admissionTtl}, at most {@code maxQueued} buyers wait per event.
+ */
+@ConfigurationProperties("waiting-room")
+public record WaitingRoomProperties(boolean enabled, int admissionsPerSecond, Duration admissionTtl, int maxQueued) {
+
+    public WaitingRoomProperties {
+        if (admissionsPerSecond <= 0) {
+            admissionsPerSecond = 50;
+        }
+        if (admissionTtl == null) {
+            admissionTtl = Duration.ofMinutes(10);
+        }
+        if (maxQueued <= 0) {
+            maxQueued = 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.centennial.eventease_backend.services.contracts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An export whose filters are already validated, the rows are only read once it is written.
+ */
+@FunctionalInterface
+public interface EventExport {
+    void writeTo(OutputStream out) throws IOException;
+}
@@ -0,0 +1,9 @@
+package com.centennial.eventease_backend.services.contracts;
+
+import com.centennial.eventease_backend.dto.EventSearchHitsDto;
+import com.centennial.eventease_backend.entities.Event;
+
+public interface EventSearchService {
+    void index(Event event);
+    EventSearchHitsDto search(String query, int offset, int limit);
+}
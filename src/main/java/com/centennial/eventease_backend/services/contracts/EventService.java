@@ -1,17 +1,39 @@
 package com.centennial.eventease_backend.services.contracts;
 
+import com.centennial.eventease_backend.dto.BulkImportReportDto;
 import com.centennial.eventease_backend.dto.CreateEventDto;
+import com.centennial.eventease_backend.dto.CursorPageDto;
+import com.centennial.eventease_backend.dto.EventDataFormat;
 import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
 import com.centennial.eventease_backend.dto.GetEventDto;
+import com.centennial.eventease_backend.dto.NearbyEventDto;
 import com.centennial.eventease_backend.exceptions.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Optional;
 
 
 public interface EventService {
-    Page<EventDto> getAll(int page, int size, String title, String location, String category) throws PageOutOfRangeException;
+    Page<EventDto> getAll(int page, int size, EventFilter filter) throws PageOutOfRangeException, InvalidDateTimeException;
+    Slice<EventDto> getSlice(int page, int size, EventFilter filter) throws PageOutOfRangeException, InvalidDateTimeException;
+    CursorPageDto<EventDto> getAllAfter(String cursor, int size, EventFilter filter) throws PageOutOfRangeException, InvalidCursorException, InvalidDateTimeException;
+    EventExport export(EventFilter filter, EventDataFormat format) throws InvalidDateTimeException;
+    EventFacetsDto getFacets(EventFilter filter) throws InvalidDateTimeException;
+    List<EventSuggestionDto> suggest(String prefix, int limit) throws PageOutOfRangeException;
+    Page<EventDto> search(String query, int page, int size) throws PageOutOfRangeException;
+    List<NearbyEventDto> getNearby(double latitude, double longitude, double radiusKm, int limit, boolean upcoming) throws InvalidCoordinatesException, PageOutOfRangeException;
     Optional<GetEventDto> get(int id) throws EventNotFoundException;
-    void save(CreateEventDto createEventDto) throws EventConflictException, InvalidDateTimeException, InvalidPriceException, MemberNotFoundException;
+    void save(CreateEventDto createEventDto) throws EventConflictException, InvalidDateTimeException, InvalidPriceException, InvalidCoordinatesException, MemberNotFoundException;
+    BulkImportReportDto importEvents(int memberId, EventDataFormat format, InputStream in) throws MemberNotFoundException, InvalidImportException, IOException;
     Page<EventDto> getAllByUsername(String username, int page, int size) throws PageOutOfRangeException, MemberNotFoundException;
+    CursorPageDto<EventDto> getAllByUsernameAfter(String username, String cursor, int size) throws PageOutOfRangeException, InvalidCursorException, MemberNotFoundException;
+    String getCatalogVersion();
+    String getVersion(int id);
 }
@@ -0,0 +1,23 @@
+package com.centennial.eventease_backend.services.contracts;
+
+import com.centennial.eventease_backend.dto.ConfirmHoldDto;
+import com.centennial.eventease_backend.dto.HoldTicketsDto;
+import com.centennial.eventease_backend.dto.PurchaseTicketsDto;
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.dto.TicketHoldDto;
+import com.centennial.eventease_backend.dto.TicketPurchaseDto;
+import com.centennial.eventease_backend.exceptions.EventNotFoundException;
+import com.centennial.eventease_backend.exceptions.HoldNotFoundException;
+import com.centennial.eventease_backend.exceptions.InvalidPurchaseException;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.QueueTokenNotFoundException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+
+public interface TicketService {
+    QueuePositionDto joinQueue(int eventId, String buyer) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException;
+    QueuePositionDto getQueuePosition(int eventId, String buyer, String queueToken) throws QueueTokenNotFoundException;
+    TicketPurchaseDto purchase(int eventId, String buyer, String queueToken, PurchaseTicketsDto purchaseTicketsDto) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException, NotAdmittedException;
+    TicketHoldDto hold(int eventId, String buyer, String queueToken, HoldTicketsDto holdTicketsDto) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException, NotAdmittedException;
+    TicketPurchaseDto confirmHold(int eventId, String buyer, String holdId, ConfirmHoldDto confirmHoldDto) throws HoldNotFoundException, InvalidPurchaseException, TicketsUnavailableException;
+    void releaseHold(int eventId, String buyer, String holdId) throws HoldNotFoundException;
+}
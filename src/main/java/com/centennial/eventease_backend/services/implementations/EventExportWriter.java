@@ -0,0 +1,84 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventDataFormat;
+import com.centennial.eventease_backend.dto.GetEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes exported events one line at a time, as NDJSON or as CSV after a header row.
+ * Nothing is kept per row, the buffer is flushed to the response whenever it fills up.
+ */
+public class EventExportWriter {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final String CSV_HEADER = "id,title,description,imagePath,category,dateTime,location,ticketsLeft,pricePerTicket";
+
+    private final EventDataFormat format;
+    private final ObjectWriter json;
+    private final Writer writer;
+
+    public EventExportWriter(EventDataFormat format, ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.format = format;
+        this.json = objectMapper.writerFor(GetEventDto.class);
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == EventDataFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    public void write(GetEventDto event) throws IOException {
+        if (format == EventDataFormat.NDJSON) {
+            writer.write(json.writeValueAsString(event));
+        } else {
+            writer.write(Integer.toString(event.id()));
+            writer.write(',');
+            writeCsvField(event.title());
+            writer.write(',');
+            writeCsvField(event.description());
+            writer.write(',');
+            writeCsvField(event.imagePath());
+            writer.write(',');
+            writeCsvField(event.category());
+            writer.write(',');
+            writeCsvField(event.dateTime() == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(event.dateTime()));
+            writer.write(',');
+            writeCsvField(event.location());
+            writer.write(',');
+            writer.write(Integer.toString(event.ticketsLeft()));
+            writer.write(',');
+            writer.write(Float.toString(event.pricePerTicket()));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Flushes what is still buffered, the response stream itself is closed by the container.
+     */
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeCsvField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        // RFC 4180: quote fields holding a separator, a quote or a line break, double the quotes
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,289 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventFacetCountDto;
+import com.centennial.eventease_backend.dto.EventFacetRowDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Event counts per category and location, kept as pre-aggregated counters.
+ * <p>
+ * The counters are filled once at startup and then follow saved events, so a facet request
+ * never touches the database. They are keyed on the normalized values the listing filters
+ * compare, so spellings differing in case share one bucket, shown with the first spelling seen.
+ * Every (category, location) cell keeps its counts per normalized title in a sorted map: the
+ * location and category substring filters are checked once per cell and the title prefix
+ * filter becomes a range of that map, which gives exactly the semantics of the SQL listing.
+ * A request costs the number of cells, not the number of events.
+ * <p>
+ * One set of counters holds every event, a second one the events that have not started; those
+ * leave it in start order as time passes. A filter with its own date bounds can't be answered
+ * from either and is counted by the database, grouped the same way.
+ */
+@Service
+public class EventFacetIndex {
+
+    private final EventDao eventDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counters all = new Counters();
+    private final Counters upcoming = new Counters();
+    // The ids of the events counted in upcoming, by start
+    private final NavigableMap<LocalDateTime, Set<Integer>> upcomingByStart = new TreeMap<>();
+    // What each event is counted with, so saving it again moves its count
+    private final Map<Integer, Counted> counted = new HashMap<>();
+    private final Map<String, String> categoryNames = new HashMap<>();
+    private final Map<String, String> locationNames = new HashMap<>();
+    private volatile boolean ready;
+
+    @Autowired
+    public EventFacetIndex(@Qualifier("eventDaoImpl") EventDao eventDao) {
+        this.eventDao = eventDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            upcoming.clear();
+            upcomingByStart.clear();
+            counted.clear();
+            for (EventFacetRowDto row : eventDao.findFacetRows()) {
+                putLocked(row.id(), row.category(), row.location(), row.title(), row.dateTime(), now);
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent saved) {
+        Event event = saved.event();
+        lock.writeLock().lock();
+        try {
+            putLocked(event.getId(), event.getCategory(), event.getLocation(), event.getTitle(), event.getDateTime(),
+                    LocalDateTime.now());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Counts the events matching the filter per category and per location.
+     */
+    public EventFacetsDto count(EventFilter filter) {
+        return count(filter, LocalDateTime.now());
+    }
+
+    public EventFacetsDto count(EventFilter filter, LocalDateTime now) {
+        if (!ready || filter.from() != null || filter.to() != null) {
+            return countInDatabase(filter);
+        }
+        if (filter.upcoming()) {
+            expire(now);
+        }
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> locations = new HashMap<>();
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            Counters counters = filter.upcoming() ? upcoming : all;
+            for (Map.Entry<CellKey, Cell> entry : counters.cells.entrySet()) {
+                CellKey key = entry.getKey();
+                if (!contains(key.location(), filter.location()) || !contains(key.category(), filter.category())) {
+                    continue;
+                }
+                long count = entry.getValue().count(filter.title());
+                if (count == 0) {
+                    continue;
+                }
+                categories.merge(categoryNames.get(key.category()), count, Long::sum);
+                locations.merge(locationNames.get(key.location()), count, Long::sum);
+                total += count;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new EventFacetsDto(total, sortByCount(categories), sortByCount(locations));
+    }
+
+    private EventFacetsDto countInDatabase(EventFilter filter) {
+        List<EventFacetCountDto> rows = eventDao.countFacets(filter);
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> locations = new HashMap<>();
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            // Shown with the spelling the counters show, the database one for a value they haven't seen
+            for (EventFacetCountDto row : rows) {
+                String category = nullToEmpty(row.categoryNorm());
+                String location = nullToEmpty(row.locationNorm());
+                categories.merge(categoryNames.getOrDefault(category, nullToEmpty(row.category())), row.count(), Long::sum);
+                locations.merge(locationNames.getOrDefault(location, nullToEmpty(row.location())), row.count(), Long::sum);
+                total += row.count();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new EventFacetsDto(total, sortByCount(categories), sortByCount(locations));
+    }
+
+    /**
+     * Moves the events that started before {@code now} out of the upcoming counters.
+     */
+    private void expire(LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            if (upcomingByStart.isEmpty() || !upcomingByStart.firstKey().isBefore(now)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            Map<LocalDateTime, Set<Integer>> started = upcomingByStart.headMap(now, false);
+            for (Set<Integer> ids : started.values()) {
+                for (int id : ids) {
+                    upcoming.add(counted.get(id), -1);
+                }
+            }
+            started.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(int id, String category, String location, String title, LocalDateTime dateTime, LocalDateTime now) {
+        Counted columns = new Counted(normalize(category), normalize(location), normalize(title), dateTime);
+        categoryNames.putIfAbsent(columns.category(), nullToEmpty(category));
+        locationNames.putIfAbsent(columns.location(), nullToEmpty(location));
+
+        Counted previous = counted.put(id, columns);
+        if (columns.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            all.add(previous, -1);
+            if (previous.dateTime() != null) {
+                Set<Integer> ids = upcomingByStart.get(previous.dateTime());
+                if (ids != null && ids.remove(id)) {
+                    upcoming.add(previous, -1);
+                    if (ids.isEmpty()) {
+                        upcomingByStart.remove(previous.dateTime());
+                    }
+                }
+            }
+        }
+        all.add(columns, 1);
+        if (dateTime != null && !dateTime.isBefore(now)) {
+            upcoming.add(columns, 1);
+            upcomingByStart.computeIfAbsent(dateTime, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static boolean contains(String value, String filter) {
+        return filter == null || value.contains(filter);
+    }
+
+    private static Map<String, Long> sortByCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * The folding of the *_NORM columns, which the filter values went through as well.
+     */
+    private static String normalize(String value) {
+        return nullToEmpty(Event.normalize(value));
+    }
+
+    private record CellKey(String category, String location) {
+    }
+
+    /**
+     * What an event is counted with, normalized.
+     */
+    private record Counted(String category, String location, String title, LocalDateTime dateTime) {
+        CellKey cellKey() {
+            return new CellKey(category, location);
+        }
+    }
+
+    /**
+     * Counts per normalized (category, location) cell.
+     */
+    private static final class Counters {
+
+        private final Map<CellKey, Cell> cells = new HashMap<>();
+
+        void add(Counted columns, long count) {
+            CellKey key = columns.cellKey();
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+            cell.add(columns.title(), count);
+            if (cell.total == 0) {
+                cells.remove(key);
+            }
+        }
+
+        void clear() {
+            cells.clear();
+        }
+    }
+
+    /**
+     * Counts of one (category, location) pair, total and per normalized title.
+     */
+    private static final class Cell {
+
+        private final NavigableMap<String, Long> byTitle = new TreeMap<>();
+        private long total;
+
+        void add(String title, long count) {
+            // A title whose count drops to zero is removed from the map
+            byTitle.merge(title, count, (current, added) -> current + added == 0 ? null : current + added);
+            total += count;
+        }
+
+        long count(String titlePrefix) {
+            if (titlePrefix == null) {
+                return total;
+            }
+            // Every title starting with the prefix sorts between the prefix and prefix + U+FFFF
+            long count = 0;
+            for (long titleCount : byTitle.subMap(titlePrefix, true, titlePrefix + Character.MAX_VALUE, true).values()) {
+                count += titleCount;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.GeoEventDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory grid index over event coordinates.
+ * <p>
+ * The globe is cut into cells of {@link #CELL_DEGREES} degrees and every located event is stored
+ * in its cell, with its coordinates kept in primitive arrays next to the ids. A radius search
+ * visits the cells of the radius' bounding box, so for a city sized radius only a handful of cells
+ * and their events are checked, then filters by exact great-circle distance and sorts by it.
+ * The longitude range wraps around the antimeridian and widens to the full circle near the poles.
+ * Start times are kept next to the coordinates, so a search can leave out started events the
+ * way the listing does.
+ */
+@Service
+public class EventGeoIndex {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LNG_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * EARTH_RADIUS_KM;
+    private static final int LOAD_BATCH_SIZE = 5_000;
+
+    private final EventDao eventDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Cell> cells = new HashMap<>();
+    // What each event is stored with, so saving it again moves it
+    private final Map<Integer, GeoEventDto> indexed = new HashMap<>();
+
+    @Autowired
+    public EventGeoIndex(@Qualifier("eventDaoImpl") EventDao eventDao) {
+        this.eventDao = eventDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            indexed.clear();
+
+            int lastId = 0;
+            List<GeoEventDto> batch;
+            do {
+                batch = eventDao.findGeoEventsAfterId(lastId, LOAD_BATCH_SIZE);
+                for (GeoEventDto entry : batch) {
+                    addLocked(entry);
+                    lastId = entry.id();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent saved) {
+        Event event = saved.event();
+        if (event.getLatitude() != null && event.getLongitude() != null) {
+            add(new GeoEventDto(event.getId(), event.getLatitude(), event.getLongitude(), event.getDateTime()));
+        }
+    }
+
+    public void add(GeoEventDto entry) {
+        lock.writeLock().lock();
+        try {
+            addLocked(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Events within the radius of the point, nearest first, at most {@code limit} of them.
+     * With {@code startingFrom} set, only the events starting at or after it count.
+     */
+    public List<Hit> nearby(double latitude, double longitude, double radiusKm, int limit, LocalDateTime startingFrom) {
+        long fromSecond = startingFrom == null ? Long.MIN_VALUE : epochSecond(startingFrom);
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        // Near a pole a few kilometers can span every meridian
+        double lngDelta = cosLat * 180 <= latDelta ? 180 : Math.min(180, latDelta / cosLat);
+
+        List<Hit> hits = new ArrayList<>();
+        forEachInBox(latitude - latDelta, longitude - lngDelta, latitude + latDelta, longitude + lngDelta,
+                (id, lat, lng, start) -> {
+                    if (start < fromSecond) {
+                        return;
+                    }
+                    double distance = distanceKm(latitude, longitude, lat, lng);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(id, distance));
+                    }
+                });
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm).thenComparingInt(Hit::id));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * Ids of the events inside the box. A box whose west edge is east of its east edge
+     * crosses the antimeridian.
+     */
+    public int[] withinBox(double south, double west, double north, double east) {
+        if (east < west) {
+            east += 360;
+        }
+        double finalEast = east;
+        List<Integer> ids = new ArrayList<>();
+        forEachInBox(south, west, north, east, (id, lat, lng, start) -> {
+            double shifted = lng < west ? lng + 360 : lng;
+            if (lat >= south && lat <= north && shifted <= finalEast) {
+                ids.add(id);
+            }
+        });
+        return ids.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private void forEachInBox(double south, double west, double north, double east, PointConsumer consumer) {
+        int fromLat = latCell(Math.max(-90, south));
+        int toLat = latCell(Math.min(90, north));
+        int fromLng = (int) Math.floor((west + 180) / CELL_DEGREES);
+        int toLng = (int) Math.floor((east + 180) / CELL_DEGREES);
+        if (toLng - fromLng >= LNG_CELLS) {
+            fromLng = 0;
+            toLng = LNG_CELLS - 1;
+        }
+
+        lock.readLock().lock();
+        try {
+            for (int latIndex = fromLat; latIndex <= toLat; latIndex++) {
+                for (int lngIndex = fromLng; lngIndex <= toLng; lngIndex++) {
+                    Cell cell = cells.get(key(latIndex, Math.floorMod(lngIndex, LNG_CELLS)));
+                    if (cell != null) {
+                        for (int i = 0; i < cell.size; i++) {
+                            consumer.accept(cell.ids[i], cell.latitudes[i], cell.longitudes[i], cell.starts[i]);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(GeoEventDto entry) {
+        GeoEventDto previous = indexed.put(entry.id(), entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            long previousKey = cellKey(previous);
+            Cell cell = cells.get(previousKey);
+            if (cell != null && cell.remove(entry.id()) && cell.size == 0) {
+                cells.remove(previousKey);
+            }
+        }
+        cells.computeIfAbsent(cellKey(entry), k -> new Cell())
+                .add(entry.id(), entry.latitude(), entry.longitude(), entry.dateTime() == null ? Long.MIN_VALUE : epochSecond(entry.dateTime()));
+    }
+
+    private static long cellKey(GeoEventDto entry) {
+        return key(latCell(entry.latitude()), Math.floorMod(lngCell(entry.longitude()), LNG_CELLS));
+    }
+
+    private static long epochSecond(LocalDateTime dateTime) {
+        // Only ever compared with each other, any fixed offset orders them the same
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int latCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / CELL_DEGREES);
+    }
+
+    private static int lngCell(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+
+    private static long key(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | lngIndex;
+    }
+
+    public record Hit(int id, double distanceKm) {
+    }
+
+    @FunctionalInterface
+    private interface PointConsumer {
+        void accept(int id, double latitude, double longitude, long startSecond);
+    }
+
+    /**
+     * Events of one grid cell, coordinates and start seconds stored next to the ids so a scan
+     * touches no objects. Events without a start are stored as starting at {@link Long#MIN_VALUE}.
+     */
+    private static final class Cell {
+
+        private int[] ids = new int[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private long[] starts = new long[4];
+        private int size;
+
+        void add(int id, double latitude, double longitude, long startSecond) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+            }
+            ids[size] = id;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            starts[size] = startSecond;
+            size++;
+        }
+
+        boolean remove(int id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    // Order within a cell doesn't matter, the last entry fills the gap
+                    size--;
+                    ids[i] = ids[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    starts[i] = starts[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
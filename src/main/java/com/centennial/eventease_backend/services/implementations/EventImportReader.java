@@ -0,0 +1,213 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventDataFormat;
+import com.centennial.eventease_backend.dto.ImportEventDto;
+import com.centennial.eventease_backend.exceptions.InvalidImportException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads the events of a bulk import, as NDJSON or as CSV with a header row naming the columns.
+ * A row that cannot be read is returned with its error so the rest of the file still goes through,
+ * only a file that is not readable as a whole is rejected.
+ */
+public class EventImportReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "category", "dateTime", "location", "totalTickets", "pricePerTicket");
+
+    private EventImportReader() {
+    }
+
+    public static List<Row> read(EventDataFormat format, ObjectMapper objectMapper, InputStream in, int maxRows) throws IOException, InvalidImportException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return format == EventDataFormat.CSV ? readCsv(reader, maxRows) : readNdjson(reader, objectMapper, maxRows);
+    }
+
+    private static List<Row> readNdjson(BufferedReader reader, ObjectMapper objectMapper, int maxRows) throws IOException, InvalidImportException {
+        ObjectReader json = objectMapper.readerFor(ImportEventDto.class);
+        List<Row> rows = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            checkRowCount(rows, maxRows);
+            try {
+                rows.add(new Row(lineNumber, json.readValue(line), null));
+            } catch (JsonProcessingException e) {
+                rows.add(new Row(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage()));
+            }
+        }
+        return rows;
+    }
+
+    private static List<Row> readCsv(BufferedReader reader, int maxRows) throws IOException, InvalidImportException {
+        CsvRecords records = new CsvRecords(reader);
+        List<String> header = records.next();
+        if (header == null) {
+            throw new InvalidImportException("The CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new InvalidImportException("The CSV header is missing the column " + column);
+            }
+        }
+
+        List<Row> rows = new ArrayList<>();
+        List<String> fields;
+        while (true) {
+            int lineNumber = records.lineNumber() + 1;
+            if ((fields = records.next()) == null) {
+                break;
+            }
+            if (fields.size() == 1 && fields.getFirst().isBlank()) {
+                continue;
+            }
+            checkRowCount(rows, maxRows);
+            try {
+                CsvRow row = new CsvRow(columns, fields);
+                rows.add(new Row(lineNumber, new ImportEventDto(
+                        row.text("title"),
+                        row.text("description"),
+                        row.text("category"),
+                        row.required("dateTime", LocalDateTime::parse),
+                        row.text("location"),
+                        row.required("totalTickets", Integer::parseInt),
+                        row.required("pricePerTicket", Float::parseFloat),
+                        row.optional("latitude", Double::valueOf),
+                        row.optional("longitude", Double::valueOf)), null));
+            } catch (IllegalArgumentException e) {
+                rows.add(new Row(lineNumber, null, e.getMessage()));
+            }
+        }
+        return rows;
+    }
+
+    private static void checkRowCount(List<Row> rows, int maxRows) throws InvalidImportException {
+        if (rows.size() == maxRows) {
+            throw new InvalidImportException("An import cannot exceed " + maxRows + " events");
+        }
+    }
+
+    /**
+     * A row of the file, with either the event or the reason it could not be read.
+     */
+    public record Row(int line, ImportEventDto event, String error) {
+    }
+
+    private record CsvRow(Map<String, Integer> columns, List<String> fields) {
+
+        String text(String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        <T> T required(String column, Function<String, T> parser) {
+            T value = optional(column, parser);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value for " + column);
+            }
+            return value;
+        }
+
+        <T> T optional(String column, Function<String, T> parser) {
+            String text = text(column);
+            if (text == null) {
+                return null;
+            }
+            try {
+                return parser.apply(text.trim());
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value for " + column + ": " + text);
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 records: quoted fields may hold separators, doubled quotes and line breaks.
+     */
+    private static final class CsvRecords {
+
+        private final BufferedReader reader;
+        private int lineNumber;
+
+        CsvRecords(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        int lineNumber() {
+            return lineNumber;
+        }
+
+        List<String> next() throws IOException, InvalidImportException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    // A quoted field goes on over the next line
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new InvalidImportException("Unterminated quoted field at line " + lineNumber);
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
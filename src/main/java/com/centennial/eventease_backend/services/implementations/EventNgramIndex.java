@@ -0,0 +1,305 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over event title, location and category.
+ * <p>
+ * The listing filters are substring (location, category) and prefix (title) matches, which
+ * SQL can only answer with a full scan. Here every field value is split into trigrams and each
+ * trigram maps to a sorted posting list of event ids, so a filter resolves to the intersection
+ * of a few small int arrays. Candidates are then verified against the stored values, which makes
+ * the result exact. Filters shorter than a trigram cannot be resolved and fall back to SQL.
+ * <p>
+ * Saved events are indexed as they commit. Rows written by other instances or outside the
+ * application are picked up by a scheduled catch-up on UPDATED_AT, the way the search index
+ * catches up at startup.
+ */
+@Service
+public class EventNgramIndex {
+
+    private static final int N = 3;
+    private static final int LOAD_BATCH_SIZE = 5_000;
+    private static final long CATCH_UP_INTERVAL_MS = 60_000;
+    // Covers transactions still open when the catch-up reads and clocks of other instances
+    private static final Duration CAUGHT_UP_TO_MARGIN = Duration.ofMinutes(5);
+
+    private final EventDao eventDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, IndexedEventDto> documents = new HashMap<>();
+    private final Map<Long, IntPostingList> titleGrams = new HashMap<>();
+    private final Map<Long, IntPostingList> locationGrams = new HashMap<>();
+    private final Map<Long, IntPostingList> categoryGrams = new HashMap<>();
+    private volatile LocalDateTime caughtUpTo;
+    private volatile boolean ready;
+
+    @Autowired
+    public EventNgramIndex(@Qualifier("eventDaoImpl") EventDao eventDao) {
+        this.eventDao = eventDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // Taken before reading, whatever commits during the load is read again by the catch-up
+        LocalDateTime readAt = LocalDateTime.now().minus(CAUGHT_UP_TO_MARGIN);
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            titleGrams.clear();
+            locationGrams.clear();
+            categoryGrams.clear();
+
+            int lastId = 0;
+            List<IndexedEventDto> batch;
+            do {
+                batch = eventDao.findIndexedEventsAfterId(lastId, LOAD_BATCH_SIZE);
+                for (IndexedEventDto entry : batch) {
+                    addLocked(entry);
+                    lastId = entry.id();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            caughtUpTo = readAt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the events updated since the last load or catch-up, including the ones this
+     * instance never saw an {@link EventSavedEvent} for.
+     */
+    @Scheduled(fixedDelay = CATCH_UP_INTERVAL_MS, initialDelay = CATCH_UP_INTERVAL_MS)
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime readAt = LocalDateTime.now().minus(CAUGHT_UP_TO_MARGIN);
+        LocalDateTime lastUpdatedAt = caughtUpTo;
+        int lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventDao.findAllUpdatedAfter(lastUpdatedAt, lastId, LOAD_BATCH_SIZE);
+            for (Event event : batch) {
+                onEventSaved(new EventSavedEvent(event));
+                lastUpdatedAt = event.getUpdatedAt();
+                lastId = event.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        caughtUpTo = readAt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent saved) {
+        Event event = saved.event();
+        add(new IndexedEventDto(event.getId(), event.getDateTime(), event.getTitle(), event.getLocation(), event.getCategory()));
+    }
+
+    public void add(IndexedEventDto entry) {
+        lock.writeLock().lock();
+        try {
+            addLocked(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Resolves the filter to the ids of all matching events ordered by dateTime DESC, id DESC,
+     * the same order as the SQL listing. Empty when the index cannot answer the filter.
+     */
+    public Optional<int[]> search(EventFilter filter) {
+        if (!ready || !isIndexable(filter)) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int[] candidates = null;
+            candidates = narrow(candidates, titleGrams, filter.title());
+            candidates = narrow(candidates, locationGrams, filter.location());
+            candidates = narrow(candidates, categoryGrams, filter.category());
+
+            LocalDateTime now = LocalDateTime.now();
+            List<IndexedEventDto> matches = new ArrayList<>(candidates.length);
+            for (int id : candidates) {
+                IndexedEventDto entry = documents.get(id);
+                if (verify(entry, filter, now)) {
+                    matches.add(entry);
+                }
+            }
+            matches.sort(Comparator.comparing(IndexedEventDto::dateTime, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(Comparator.comparingInt(IndexedEventDto::id).reversed()));
+            return Optional.of(matches.stream().mapToInt(IndexedEventDto::id).toArray());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static boolean isIndexable(EventFilter filter) {
+        // At least one filter has to be long enough to produce a trigram, the others are verified
+        return !filter.isEmpty()
+                && (length(filter.title()) >= N || length(filter.location()) >= N || length(filter.category()) >= N);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static int[] narrow(int[] candidates, Map<Long, IntPostingList> grams, String value) {
+        if (value == null || value.length() < N) {
+            return candidates;
+        }
+        for (int i = 0; i + N <= value.length(); i++) {
+            IntPostingList postings = grams.get(gram(value, i));
+            if (postings == null) {
+                return new int[0];
+            }
+            candidates = candidates == null ? postings.toArray() : IntPostingList.intersect(candidates, postings);
+            if (candidates.length == 0) {
+                return candidates;
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean verify(IndexedEventDto entry, EventFilter filter, LocalDateTime now) {
+        return entry != null
+                && (filter.title() == null || entry.title().startsWith(filter.title()))
+                && (filter.location() == null || entry.location().contains(filter.location()))
+                && (filter.category() == null || entry.category().contains(filter.category()))
+                && filter.matchesDateTime(entry.dateTime(), now);
+    }
+
+    private void addLocked(IndexedEventDto entry) {
+        IndexedEventDto normalized = new IndexedEventDto(entry.id(), entry.dateTime(),
+                upper(entry.title()), upper(entry.location()), upper(entry.category()));
+        IndexedEventDto previous = documents.put(entry.id(), normalized);
+        if (normalized.equals(previous)) {
+            return;
+        }
+        // A changed event is re-indexed, its old values must no longer match
+        if (previous != null) {
+            unindex(titleGrams, previous.title(), entry.id());
+            unindex(locationGrams, previous.location(), entry.id());
+            unindex(categoryGrams, previous.category(), entry.id());
+        }
+        index(titleGrams, normalized.title(), entry.id());
+        index(locationGrams, normalized.location(), entry.id());
+        index(categoryGrams, normalized.category(), entry.id());
+    }
+
+    private static void index(Map<Long, IntPostingList> grams, String value, int id) {
+        for (int i = 0; i + N <= value.length(); i++) {
+            grams.computeIfAbsent(gram(value, i), key -> new IntPostingList()).add(id);
+        }
+    }
+
+    private static void unindex(Map<Long, IntPostingList> grams, String value, int id) {
+        for (int i = 0; i + N <= value.length(); i++) {
+            long gram = gram(value, i);
+            IntPostingList postings = grams.get(gram);
+            if (postings != null && postings.remove(id) && postings.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    private static long gram(String value, int offset) {
+        return ((long) value.charAt(offset) << 32) | ((long) value.charAt(offset + 1) << 16) | value.charAt(offset + 2);
+    }
+
+    private static String upper(String value) {
+        return value == null ? "" : value.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Sorted, duplicate-free list of event ids backed by a primitive array.
+     */
+    static final class IntPostingList {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] >= id) {
+                // Ids normally arrive in ascending order, only out-of-order inserts pay for a search
+                int position = Arrays.binarySearch(ids, 0, size, id);
+                if (position >= 0) {
+                    return;
+                }
+                insertAt(-position - 1, id);
+                return;
+            }
+            insertAt(size, id);
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        static int[] intersect(int[] candidates, IntPostingList postings) {
+            int[] result = new int[Math.min(candidates.length, postings.size)];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < candidates.length && j < postings.size) {
+                int a = candidates[i];
+                int b = postings.ids[j];
+                if (a == b) {
+                    result[count++] = a;
+                    i++;
+                    j++;
+                } else if (a < b) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+
+        private void insertAt(int position, int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.entities.Event;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of event listing pages, keyed by page, size and filters.
+ * <p>
+ * Caffeine's W-TinyLFU policy keeps the few hot pages (first pages, unfiltered or by a single
+ * category) resident while one-off filter combinations are evicted first. A saved event only
+ * evicts the pages whose filters it matches, every other page stays valid. Hit and miss counts
+ * are published as the {@code cache.*} meters with {@code cache=eventPages}.
+ */
+@Component
+public class EventPageCache {
+
+    public static final String CACHE_NAME = "eventPages";
+    private static final int MAX_ENTRIES = 1_000;
+    // Safety net for rows changed outside the application, saves through it evict right away
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    private final Cache<Key, Page<EventDto>> pages = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(MAX_AGE)
+            .recordStats()
+            .build();
+
+    @Autowired
+    public EventPageCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, CACHE_NAME);
+    }
+
+    public Page<EventDto> get(int page, int size, EventFilter filter, Supplier<Page<EventDto>> loader) {
+        return pages.get(new Key(page, size, filter), key -> loader.get());
+    }
+
+    /**
+     * Evicts every page whose filters the event satisfies, again after the surrounding
+     * transaction commits so a page read concurrently from the old rows does not survive.
+     */
+    public void invalidate(Event event) {
+        evictMatching(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictMatching(event);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts every page, cheaper than matching each event of a bulk import against every page.
+     */
+    public void invalidateAll() {
+        pages.invalidateAll();
+    }
+
+    /**
+     * Evicts every page of an upcoming listing, called when started events leave the upcoming set.
+     */
+    public void invalidateUpcoming() {
+        pages.asMap().keySet().removeIf(key -> key.filter().upcoming());
+    }
+
+    public long size() {
+        pages.cleanUp();
+        return pages.estimatedSize();
+    }
+
+    private void evictMatching(Event event) {
+        pages.asMap().keySet().removeIf(key -> key.filter().matches(event));
+    }
+
+    record Key(int page, int size, EventFilter filter) {
+    }
+}
@@ -1,28 +1,56 @@
 package com.centennial.eventease_backend.services.implementations;
 
+import com.centennial.eventease_backend.dto.BulkImportErrorDto;
+import com.centennial.eventease_backend.dto.BulkImportReportDto;
 import com.centennial.eventease_backend.dto.CreateEventDto;
+import com.centennial.eventease_backend.dto.CursorPageDto;
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventDataFormat;
 import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSearchHitsDto;
+import com.centennial.eventease_backend.dto.EventSlotDto;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
 import com.centennial.eventease_backend.dto.GetEventDto;
+import com.centennial.eventease_backend.dto.ImportEventDto;
+import com.centennial.eventease_backend.dto.NearbyEventDto;
 import com.centennial.eventease_backend.dto.RenamedMultipartFile;
 import com.centennial.eventease_backend.entities.Event;
 import com.centennial.eventease_backend.entities.Member;
 import com.centennial.eventease_backend.exceptions.*;
 import com.centennial.eventease_backend.repository.contracts.EventDao;
 import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.services.contracts.EventExport;
+import com.centennial.eventease_backend.services.contracts.EventSearchService;
 import com.centennial.eventease_backend.services.contracts.EventService;
 import com.centennial.eventease_backend.services.contracts.StorageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 
@@ -32,35 +60,160 @@ public class EventServiceImpl implements EventService {
     private final EventDao eventDao;
     private final StorageService imageStorageService;
     private final MemberDao memberDao;
+    private final EventNgramIndex eventNgramIndex;
+    private final EventSearchService eventSearchService;
+    private final EventFacetIndex eventFacetIndex;
+    private final EventPageCache eventPageCache;
+    private final EventGeoIndex eventGeoIndex;
+    private final UpcomingEventIndex upcomingEventIndex;
+    private final EventSuggestIndex eventSuggestIndex;
+    private final ObjectMapper objectMapper;
     private static final int MAX_PAGE_SIZE = 100;
+    private static final double MAX_RADIUS_KM = 500;
+    private static final int MAX_IMPORT_ROWS = 10_000;
+    private static final int IMPORT_CHUNK_SIZE = 1_000;
 
     @Autowired
     public EventServiceImpl(@Qualifier("eventDaoImpl") EventDao eventDao,
                             @Qualifier("imageStorageService") StorageService imageStorageService,
-                            @Qualifier("memberDaoImpl") MemberDao memberDao){
+                            @Qualifier("memberDaoImpl") MemberDao memberDao,
+                            EventNgramIndex eventNgramIndex,
+                            @Qualifier("luceneEventSearchService") EventSearchService eventSearchService,
+                            EventFacetIndex eventFacetIndex,
+                            EventPageCache eventPageCache,
+                            EventGeoIndex eventGeoIndex,
+                            UpcomingEventIndex upcomingEventIndex,
+                            EventSuggestIndex eventSuggestIndex,
+                            ObjectMapper objectMapper){
         this.eventDao = eventDao;
         this.memberDao = memberDao;
         this.imageStorageService = imageStorageService;
+        this.eventNgramIndex = eventNgramIndex;
+        this.eventSearchService = eventSearchService;
+        this.eventFacetIndex = eventFacetIndex;
+        this.eventPageCache = eventPageCache;
+        this.eventGeoIndex = eventGeoIndex;
+        this.upcomingEventIndex = upcomingEventIndex;
+        this.eventSuggestIndex = eventSuggestIndex;
+        this.objectMapper = objectMapper;
     }
 
+    @Transactional(readOnly = true)
     @Override
-    public Page<EventDto> getAll(int page, int size, String title, String location, String category) throws PageOutOfRangeException {
+    public Page<EventDto> getAll(int page, int size, EventFilter filter) throws PageOutOfRangeException, InvalidDateTimeException {
+        validatePage(page, size);
+        validateDateRange(filter);
 
-        if(page < 0){
-            throw new PageOutOfRangeException("Page number cannot be negative");
-        }
-        else if(size <= 0){
-            throw new PageOutOfRangeException("Page size must be greater than 0");
+        return eventPageCache.get(page, size, filter, () -> loadPage(PageRequest.of(page, size), filter));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<EventDto> getSlice(int page, int size, EventFilter filter) throws PageOutOfRangeException, InvalidDateTimeException {
+        validatePage(page, size);
+        validateDateRange(filter);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return eventDao.findSliceOrderedByDate(filter, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<EventDto> getAllAfter(String cursor, int size, EventFilter filter) throws PageOutOfRangeException, InvalidCursorException, InvalidDateTimeException {
+        validatePage(0, size);
+        validateDateRange(filter);
+        EventCursor after = EventCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page follows
+        List<Event> events = eventDao.findAllOrderedByDateAfter(filter, after, size + 1);
+        boolean hasNext = events.size() > size;
+        List<Event> content = hasNext ? events.subList(0, size) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = content.getLast();
+            nextCursor = new EventCursor(last.getDateTime(), last.getId()).encode();
         }
-        else if(size > MAX_PAGE_SIZE){
-            throw new PageOutOfRangeException("Page size cannot exceed " + MAX_PAGE_SIZE);
+        return new CursorPageDto<>(content.stream().map(eventDtoMapper).toList(), size, nextCursor, hasNext);
+    }
+
+    @Override
+    public EventExport export(EventFilter filter, EventDataFormat format) throws InvalidDateTimeException {
+        validateDateRange(filter);
+
+        // Rows are read while the response is written, one at a time, so the export is not bounded by the heap
+        return out -> {
+            EventExportWriter writer = new EventExportWriter(format, objectMapper, out);
+            try {
+                eventDao.forEachOrderedByDate(filter, event -> {
+                    try {
+                        writer.write(getEventDtoMapper.apply(event));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.finish();
+        };
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public EventFacetsDto getFacets(EventFilter filter) throws InvalidDateTimeException {
+        validateDateRange(filter);
+
+        return eventFacetIndex.count(filter);
+    }
+
+    @Override
+    public List<EventSuggestionDto> suggest(String prefix, int limit) throws PageOutOfRangeException {
+        if (limit <= 0 || limit > EventSuggestIndex.MAX_SUGGESTIONS) {
+            throw new PageOutOfRangeException("Suggestion limit must be between 1 and " + EventSuggestIndex.MAX_SUGGESTIONS);
         }
+        return eventSuggestIndex.suggest(prefix, limit);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<EventDto> search(String query, int page, int size) throws PageOutOfRangeException {
+        validatePage(page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Event> eventPage = eventDao.findAllOrderedByDate(title, location, category, pageable);
-        return eventPage.map(eventDtoMapper);
+        EventSearchHitsDto hits = eventSearchService.search(query, (int) pageable.getOffset(), size);
+        List<Integer> ids = Arrays.stream(hits.ids()).boxed().toList();
+
+        // The database only hydrates the page, the index decides the order
+        List<EventDto> content = eventDao.findAllByIdsOrderedByDate(ids).stream()
+                .sorted(Comparator.comparingInt(event -> ids.indexOf(event.id())))
+                .toList();
+        return new PageImpl<>(content, pageable, hits.totalHits());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<NearbyEventDto> getNearby(double latitude, double longitude, double radiusKm, int limit, boolean upcoming) throws InvalidCoordinatesException, PageOutOfRangeException {
+        validatePage(0, limit);
+        validateCoordinates(latitude, longitude);
+        if (!(radiusKm > 0) || radiusKm > MAX_RADIUS_KM) {
+            throw new InvalidCoordinatesException("Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+        }
+
+        // The index picks and orders the events, the database only hydrates them
+        List<EventGeoIndex.Hit> hits = eventGeoIndex.nearby(latitude, longitude, radiusKm, limit,
+                upcoming ? LocalDateTime.now() : null);
+        Map<Integer, EventDto> events = new HashMap<>();
+        for (EventDto event : eventDao.findAllByIdsOrderedByDate(hits.stream().map(EventGeoIndex.Hit::id).toList())) {
+            events.put(event.id(), event);
+        }
+        return hits.stream()
+                .filter(hit -> events.containsKey(hit.id()))
+                .map(hit -> new NearbyEventDto(events.get(hit.id()), hit.distanceKm()))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<GetEventDto> get(int id) throws EventNotFoundException {
         return Optional.ofNullable(eventDao.findById(id)
@@ -68,57 +221,233 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new EventNotFoundException("The event with id {" + id + "} was not found")));
     }
 
-    @Transactional
+    /**
+     * Creates the event by inserting it right away. The unique (dateTime, location) constraint
+     * decides conflicts, also between concurrent creates, so no lookup precedes the insert. The
+     * checks that need no I/O run first, and the image is only stored once the row is in.
+     */
+    @Transactional(rollbackFor = EventConflictException.class)
     @Override
-    public void save(CreateEventDto createEventDto) throws EventConflictException, InvalidDateTimeException, InvalidPriceException, MemberNotFoundException {
+    public void save(CreateEventDto createEventDto) throws EventConflictException, InvalidDateTimeException, InvalidPriceException, InvalidCoordinatesException, MemberNotFoundException {
+        validateEvent(createEventDto.dateTime(), createEventDto.pricePerTicket(), createEventDto.latitude(), createEventDto.longitude());
 
-        if (eventDao.findByDateAndLocation(createEventDto.dateTime(), createEventDto.location()).isPresent()) {
-            throw new EventConflictException("An event already exists at this location and time");
-        }
-        // Validate dateTime is in the future
-        if (createEventDto.dateTime().isBefore(LocalDateTime.now())) {
-            throw new InvalidDateTimeException("Event date must be in the future");
-        }
-        // Validate price is not negative
-        if (createEventDto.pricePerTicket() <= 0) {
-            throw new InvalidPriceException("Price must be greater than or equal to zero");
-        }
+        // Usually served by the members cache region
+        Member member = memberDao.findById(createEventDto.memberId())
+                .orElseThrow(() -> new MemberNotFoundException("Member not found with id: " + createEventDto.memberId()));
 
-        // Handle file upload
+        // Map DTO to Event entity
+        Event event = createEventDtoMapper.apply(createEventDto);
+        MultipartFile file = createEventDto.file();
         String filename = null;
-        if (createEventDto.file() != null && !createEventDto.file().isEmpty()) {
-            try {
-                // Generate unique filename while preserving extension
-                String originalFilename = Objects.requireNonNull(createEventDto.file().getOriginalFilename());
-                String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-                filename = UUID.randomUUID() + extension;
-
-                // Create a renamed version of the file
-                MultipartFile renamedFile = new RenamedMultipartFile(createEventDto.file(), filename);
-
-                // Store the file
-                imageStorageService.store(renamedFile);
-            } catch (Exception e) {
-                throw new StorageException("Failed to store event image: " + e.getMessage());
+        if (file != null && !file.isEmpty()) {
+            // Generate unique filename while preserving extension
+            String originalFilename = file.getOriginalFilename();
+            if (originalFilename == null || originalFilename.lastIndexOf('.') < 0) {
+                throw new StorageException("Failed to store event image: the file name has no extension");
             }
+            filename = UUID.randomUUID() + originalFilename.substring(originalFilename.lastIndexOf('.'));
         }
-
-        // Map DTO to Event entity
-        Event event = createEventDtoMapper.apply(createEventDto);
         event.setImagePath(filename);
-        // Set member
-        Member member = memberDao.findById(createEventDto.memberId())
-                .orElseThrow(() -> new MemberNotFoundException("Member not found with id: " + createEventDto.memberId()));
         event.setMember(member);
         // Set creation timestamp
         event.setCreatedAt(LocalDateTime.now());
         event.setTicketsSold(0); // Initialize tickets sold to 0
-        // Save event
+        // Throws EventConflictException when the slot is taken
         eventDao.save(event);
+
+        if (filename != null) {
+            try {
+                imageStorageService.store(new RenamedMultipartFile(file, filename));
+            } catch (Exception e) {
+                // Rolls the insert back
+                throw new StorageException("Failed to store event image: " + e.getMessage());
+            }
+        }
+        eventPageCache.invalidate(event);
+    }
+
+    /**
+     * Imports the events of an NDJSON or CSV file. Conflicts with existing events are found with
+     * one query for the whole file, then the valid rows are inserted in chunks, each chunk in its
+     * own transaction through JDBC batches. Rows that fail validation, clash with another event or
+     * belong to a chunk that could not be saved are reported with their line, the others are kept.
+     */
+    @Override
+    public BulkImportReportDto importEvents(int memberId, EventDataFormat format, InputStream in) throws MemberNotFoundException, InvalidImportException, IOException {
+        Member member = memberDao.findById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException("Member not found with id: " + memberId));
+        List<EventImportReader.Row> rows = EventImportReader.read(format, objectMapper, in, MAX_IMPORT_ROWS);
+
+        List<BulkImportErrorDto> errors = new ArrayList<>();
+        Map<EventSlotDto, EventImportReader.Row> accepted = new LinkedHashMap<>();
+        for (EventImportReader.Row row : rows) {
+            String error = row.error() != null ? row.error() : validateImportRow(row.event());
+            if (error == null) {
+                EventImportReader.Row previous = accepted.putIfAbsent(new EventSlotDto(row.event().dateTime(), row.event().location()), row);
+                if (previous != null) {
+                    error = "Same date and location as line " + previous.line();
+                }
+            }
+            if (error != null) {
+                errors.add(new BulkImportErrorDto(row.line(), error));
+            }
+        }
+
+        Set<EventSlotDto> taken = new HashSet<>(eventDao.findTakenSlots(
+                accepted.keySet().stream().map(EventSlotDto::dateTime).distinct().toList()));
+        List<EventImportReader.Row> toSave = new ArrayList<>();
+        accepted.forEach((slot, row) -> {
+            if (taken.contains(slot)) {
+                errors.add(new BulkImportErrorDto(row.line(), "An event already exists at this location and time"));
+            } else {
+                toSave.add(row);
+            }
+        });
+
+        int imported = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < toSave.size(); from += IMPORT_CHUNK_SIZE) {
+            List<EventImportReader.Row> chunk = toSave.subList(from, Math.min(from + IMPORT_CHUNK_SIZE, toSave.size()));
+            List<Event> events = chunk.stream().map(row -> importEventMapper.apply(row.event())).toList();
+            events.forEach(event -> {
+                event.setMember(member);
+                event.setCreatedAt(now);
+                event.setTicketsSold(0);
+            });
+            try {
+                eventDao.saveAll(events);
+                imported += events.size();
+            } catch (RuntimeException e) {
+                // The chunk was rolled back as a whole, earlier chunks stay committed
+                chunk.forEach(row -> errors.add(new BulkImportErrorDto(row.line(), "Could not be saved: " + e.getMessage())));
+            }
+            // Each chunk is committed by now, one sweep is cheaper than matching every event against every page
+            eventPageCache.invalidateAll();
+        }
+
+        errors.sort(Comparator.comparingInt(BulkImportErrorDto::line));
+        return new BulkImportReportDto(rows.size(), imported, errors);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Page<EventDto> getAllByUsername(String username, int page, int size) throws PageOutOfRangeException, MemberNotFoundException {
+        validatePage(page, size);
+        int memberId = resolveMemberId(username);
+
+        Pageable pageable = PageRequest.of(page, size);
+        return eventDao.findAllByMember(memberId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<EventDto> getAllByUsernameAfter(String username, String cursor, int size) throws PageOutOfRangeException, InvalidCursorException, MemberNotFoundException {
+        validatePage(0, size);
+        EventCursor after = EventCursor.decode(cursor);
+        int memberId = resolveMemberId(username);
+
+        // Fetch one extra row to know whether another page follows
+        List<Event> events = eventDao.findAllByMemberAfter(memberId, after, size + 1);
+        boolean hasNext = events.size() > size;
+        List<Event> content = hasNext ? events.subList(0, size) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = content.getLast();
+            nextCursor = new EventCursor(last.getDateTime(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(content.stream().map(eventDtoMapper).toList(), size, nextCursor, hasNext);
+    }
+
+    private int resolveMemberId(String username) throws MemberNotFoundException {
+        // Resolved ids are cached by the DAO, so an organizer's listing usually costs one query
+        return memberDao.findIdByUsername(username)
+                .orElseThrow(() -> new MemberNotFoundException("Member not found with username: " + username));
+    }
+
+    @Override
+    public String getCatalogVersion() {
+        // Upcoming listings also change when events start, without any write
+        return eventDao.getCatalogVersion() + "-" + upcomingEventIndex.generation();
+    }
+
+    @Override
+    public String getVersion(int id) {
+        return eventDao.getVersion(id);
+    }
+
+    private Page<EventDto> loadPage(Pageable pageable, EventFilter filter) {
+        int size = pageable.getPageSize();
+
+        // The default listing pages through the in-memory upcoming set, past rows are never read
+        if (filter.isUpcomingOnly() && upcomingEventIndex.isReady()) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Integer> pageIds = upcomingEventIndex.page(pageable.getOffset(), size, now);
+            return new PageImpl<>(eventDao.findAllByIdsOrderedByDate(pageIds), pageable, upcomingEventIndex.count(now));
+        }
+
+        // Substring filters are resolved in memory so only the rows of the requested page are read
+        Optional<int[]> matchingIds = eventNgramIndex.search(filter);
+        if (matchingIds.isPresent()) {
+            int[] ids = matchingIds.get();
+            int from = (int) Math.min(pageable.getOffset(), ids.length);
+            int to = Math.min(from + size, ids.length);
+            List<Integer> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+            return new PageImpl<>(eventDao.findAllByIdsOrderedByDate(pageIds), pageable, ids.length);
+        }
+
+        return eventDao.findAllOrderedByDate(filter, pageable);
+    }
+
+    private void validateEvent(LocalDateTime dateTime, float pricePerTicket, Double latitude, Double longitude) throws InvalidDateTimeException, InvalidPriceException, InvalidCoordinatesException {
+        // Validate dateTime is in the future
+        if (dateTime.isBefore(LocalDateTime.now())) {
+            throw new InvalidDateTimeException("Event date must be in the future");
+        }
+        // Validate price is not negative
+        if (pricePerTicket <= 0) {
+            throw new InvalidPriceException("Price must be greater than or equal to zero");
+        }
+        // Coordinates are optional, but a point needs both of them
+        if ((latitude == null) != (longitude == null)) {
+            throw new InvalidCoordinatesException("Latitude and longitude must be given together");
+        }
+        if (latitude != null) {
+            validateCoordinates(latitude, longitude);
+        }
+    }
+
+    private String validateImportRow(ImportEventDto row) {
+        if (row.title() == null || row.category() == null || row.dateTime() == null || row.location() == null) {
+            return "Title, category, date and location are required";
+        }
+        if (row.totalTickets() <= 0) {
+            return "Total tickets must be greater than 0";
+        }
+        try {
+            validateEvent(row.dateTime(), row.pricePerTicket(), row.latitude(), row.longitude());
+            return null;
+        } catch (InvalidDateTimeException | InvalidPriceException | InvalidCoordinatesException e) {
+            return e.getMessage();
+        }
+    }
+
+    private void validateDateRange(EventFilter filter) throws InvalidDateTimeException {
+        if (filter.from() != null && filter.to() != null && filter.from().isAfter(filter.to())) {
+            throw new InvalidDateTimeException("The start of the date range must not be after its end");
+        }
+    }
+
+    private void validateCoordinates(double latitude, double longitude) throws InvalidCoordinatesException {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new InvalidCoordinatesException("Latitude must be between -90 and 90");
+        }
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new InvalidCoordinatesException("Longitude must be between -180 and 180");
+        }
+    }
+
+    private void validatePage(int page, int size) throws PageOutOfRangeException {
         if(page < 0){
             throw new PageOutOfRangeException("Page number cannot be negative");
         }
@@ -128,12 +457,6 @@ public class EventServiceImpl implements EventService {
         else if(size > MAX_PAGE_SIZE){
             throw new PageOutOfRangeException("Page size cannot exceed " + MAX_PAGE_SIZE);
         }
-        Member member = memberDao.findByUsername(username)
-                .orElseThrow(() -> new MemberNotFoundException("Member not found with username: " + username));
-
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Event> eventPage = eventDao.findAllByMember(member, pageable);
-        return eventPage.map(eventDtoMapper);
     }
 
     private final Function<Event, EventDto> eventDtoMapper = entity -> {
@@ -165,6 +488,21 @@ public class EventServiceImpl implements EventService {
     };
 
 
+    private final Function<ImportEventDto, Event> importEventMapper = dto -> {
+        Event event = new Event();
+        event.setTitle(dto.title());
+        event.setDescription(dto.description());
+        event.setCategory(dto.category());
+        event.setDateTime(dto.dateTime());
+        event.setLocation(dto.location());
+        event.setTotalTickets(dto.totalTickets());
+        event.setPricePerTicket(dto.pricePerTicket());
+        event.setLatitude(dto.latitude());
+        event.setLongitude(dto.longitude());
+
+        return event;
+    };
+
     private final Function<CreateEventDto, Event> createEventDtoMapper = dto -> {
         Event event = new Event();
         event.setTitle(dto.title());
@@ -174,6 +512,8 @@ public class EventServiceImpl implements EventService {
         event.setLocation(dto.location());
         event.setTotalTickets(dto.totalTickets());
         event.setPricePerTicket(dto.pricePerTicket());
+        event.setLatitude(dto.latitude());
+        event.setLongitude(dto.longitude());
 
         return event;
     };
@@ -0,0 +1,343 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
+import com.centennial.eventease_backend.dto.EventSuggestionDto.Field;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Radix trie of the titles, locations and categories of upcoming events, for typeahead.
+ * <p>
+ * Values are keyed case-insensitively and weighted by the number of upcoming events carrying
+ * them. Every node keeps the best {@link #MAX_SUGGESTIONS} values of its subtree, so a lookup
+ * walks the prefix and copies one short array, without touching the database. A change of weight
+ * recomputes those arrays along the path of the value only. A scheduled job takes events out as
+ * they start, like {@link UpcomingEventIndex}.
+ */
+@Service
+public class EventSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final long PRUNE_INTERVAL_MS = 60_000;
+    private static final int LOAD_BATCH_SIZE = 5_000;
+    private static final Term[] NO_TERMS = new Term[0];
+    private static final Comparator<Term> RANK = Comparator.comparingInt((Term term) -> term.weight).reversed()
+            .thenComparing(term -> term.key)
+            .thenComparing(term -> term.field);
+
+    private final EventDao eventDao;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private final Map<Integer, IndexedEventDto> counted = new HashMap<>();
+    private final NavigableSet<EventCursor> startOrder = new TreeSet<>(
+            Comparator.comparing(EventCursor::dateTime).thenComparingInt(EventCursor::id));
+    private volatile boolean ready;
+
+    @Autowired
+    public EventSuggestIndex(@Qualifier("eventDaoImpl") EventDao eventDao) {
+        this.eventDao = eventDao;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            root.children = new Node[0];
+            root.terms = new Term[Field.values().length];
+            root.top = NO_TERMS;
+            counted.clear();
+            startOrder.clear();
+
+            LocalDateTime now = LocalDateTime.now();
+            int lastId = 0;
+            List<IndexedEventDto> batch;
+            do {
+                batch = eventDao.findIndexedEventsAfterId(lastId, LOAD_BATCH_SIZE);
+                for (IndexedEventDto entry : batch) {
+                    addLocked(entry, now, false);
+                    lastId = entry.id();
+                }
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            // Ranked once for the whole tree instead of along the path of every value
+            rankSubtree(root);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent saved) {
+        Event event = saved.event();
+        put(new IndexedEventDto(event.getId(), event.getDateTime(), event.getTitle(), event.getLocation(), event.getCategory()));
+    }
+
+    /**
+     * Adds the event, replacing the values it was counted with before.
+     */
+    public void put(IndexedEventDto entry) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(entry.id());
+            addLocked(entry, LocalDateTime.now(), true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes out the events that have started.
+     */
+    @Scheduled(fixedDelay = PRUNE_INTERVAL_MS, initialDelay = PRUNE_INTERVAL_MS)
+    public void prune() {
+        LocalDateTime now = LocalDateTime.now();
+        lock.writeLock().lock();
+        try {
+            while (!startOrder.isEmpty() && startOrder.first().dateTime().isBefore(now)) {
+                removeLocked(startOrder.first().id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * The best ranked values starting with the prefix, case-insensitively, at most {@code limit}.
+     */
+    public List<EventSuggestionDto> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, node.top.length);
+            List<EventSuggestionDto> suggestions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Term term = node.top[i];
+                suggestions.add(new EventSuggestionDto(term.text, term.field, term.weight));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(IndexedEventDto entry, LocalDateTime now, boolean rank) {
+        if (entry.dateTime() == null || entry.dateTime().isBefore(now)) {
+            return;
+        }
+        counted.put(entry.id(), entry);
+        startOrder.add(new EventCursor(entry.dateTime(), entry.id()));
+        adjust(Field.TITLE, entry.title(), 1, rank);
+        adjust(Field.LOCATION, entry.location(), 1, rank);
+        adjust(Field.CATEGORY, entry.category(), 1, rank);
+    }
+
+    private void removeLocked(int id) {
+        IndexedEventDto entry = counted.remove(id);
+        if (entry == null) {
+            return;
+        }
+        startOrder.remove(new EventCursor(entry.dateTime(), entry.id()));
+        adjust(Field.TITLE, entry.title(), -1, true);
+        adjust(Field.LOCATION, entry.location(), -1, true);
+        adjust(Field.CATEGORY, entry.category(), -1, true);
+    }
+
+    private void adjust(Field field, String text, int delta, boolean rank) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        List<Node> path = new ArrayList<>();
+        Node node = insert(key, path);
+
+        Term term = node.terms[field.ordinal()];
+        if (term == null) {
+            term = new Term(key, text.strip(), field);
+            node.terms[field.ordinal()] = term;
+        }
+        term.weight += delta;
+        if (term.weight <= 0) {
+            node.terms[field.ordinal()] = null;
+        }
+        if (rank) {
+            // Only the subtrees on the path of the value changed
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).rank();
+            }
+        }
+    }
+
+    private static void rankSubtree(Node node) {
+        for (Node child : node.children) {
+            rankSubtree(child);
+        }
+        node.rank();
+    }
+
+    /**
+     * The node of the key, created along with any edge split it needs. The nodes walked
+     * through, the root first, are added to {@code path}.
+     */
+    private Node insert(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            int index = node.childIndex(key.charAt(position));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(position));
+                node.addChild(-index - 1, leaf);
+                path.add(leaf);
+                return leaf;
+            }
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, position);
+            if (common < child.label.length()) {
+                // The key leaves the edge midway, split it there
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children = new Node[]{child};
+                middle.top = child.top;
+                node.children[index] = middle;
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * The node whose subtree holds exactly the keys starting with the prefix, null if none does.
+     * The prefix may end in the middle of an edge.
+     */
+    private Node find(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int index = node.childIndex(prefix.charAt(position));
+            if (index < 0) {
+                return null;
+            }
+            node = node.children[index];
+            int common = commonPrefix(node.label, prefix, position);
+            if (common < node.label.length() && position + common < prefix.length()) {
+                return null;
+            }
+            position += common;
+        }
+        return node;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < length && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * A suggested value. Its display text is the spelling it was first seen with.
+     */
+    private static final class Term {
+
+        private final String key;
+        private final String text;
+        private final Field field;
+        private int weight;
+
+        Term(String key, String text, Field field) {
+            this.key = key;
+            this.text = text;
+            this.field = field;
+        }
+    }
+
+    private static final class Node {
+
+        private String label;
+        private Node[] children = new Node[0];
+        private Term[] terms = new Term[Field.values().length];
+        // Best terms of the subtree, in rank order
+        private Term[] top = NO_TERMS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        /**
+         * Children are sorted by the first character of their label, which is unique among them.
+         */
+        int childIndex(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char c = children[middle].label.charAt(0);
+                if (c < first) {
+                    low = middle + 1;
+                } else if (c > first) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void addChild(int index, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        void rank() {
+            List<Term> candidates = new ArrayList<>();
+            for (Term term : terms) {
+                if (term != null) {
+                    candidates.add(term);
+                }
+            }
+            for (Node child : children) {
+                Collections.addAll(candidates, child.top);
+            }
+            candidates.sort(RANK);
+            top = candidates.subList(0, Math.min(MAX_SUGGESTIONS, candidates.size())).toArray(NO_TERMS);
+        }
+    }
+}
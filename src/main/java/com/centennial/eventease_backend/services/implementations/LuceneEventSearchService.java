@@ -0,0 +1,271 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.EventSearchHitsDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.exceptions.StorageException;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.security.StorageProperties;
+import com.centennial.eventease_backend.services.contracts.EventSearchService;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Full-text search over event title and description backed by an on-disk Lucene index.
+ * <p>
+ * Documents only carry the event id and the analyzed text, results are ranked with BM25
+ * (title hits weigh twice as much as description hits) and the caller hydrates the page
+ * from the database by id. Saved events are indexed asynchronously once their transaction
+ * commits and become searchable on the next near-real-time refresh, which runs on a schedule
+ * rather than per event. Events saved by other instances or outside the application are read
+ * by a scheduled catch-up on UPDATED_AT. Every commit records in its user data up to when the
+ * database was last read, so a restart re-reads only the events updated since then.
+ */
+@Service
+public class LuceneEventSearchService implements EventSearchService {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2f, DESCRIPTION, 1f);
+    private static final int COMMIT_INTERVAL = 1_000;
+    private static final long REFRESH_INTERVAL_MS = 1_000;
+    private static final long CATCH_UP_INTERVAL_MS = 60_000;
+    private static final int LOAD_BATCH_SIZE = 1_000;
+    private static final String INDEXED_UP_TO = "indexedUpTo";
+    // Covers transactions still open when the catch-up reads and clocks of other instances
+    private static final Duration INDEXED_UP_TO_MARGIN = Duration.ofMinutes(5);
+
+    private final EventDao eventDao;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicInteger uncommitted = new AtomicInteger();
+    private volatile LocalDateTime indexedUpTo;
+
+    @Autowired
+    public LuceneEventSearchService(StorageProperties properties, @Qualifier("eventDaoImpl") EventDao eventDao) {
+        this.eventDao = eventDao;
+        try {
+            Path indexLocation = Paths.get(properties.getSearchIndexLocation());
+            Files.createDirectories(indexLocation);
+            this.directory = FSDirectory.open(indexLocation);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new StorageException("Could not open search index", e);
+        }
+    }
+
+    /**
+     * Indexes events written or changed while this instance was down, all of them when the
+     * index does not record up to when it was loaded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        // Taken before reading, whatever commits during the load is read again next time
+        LocalDateTime readAt = LocalDateTime.now().minus(INDEXED_UP_TO_MARGIN);
+        LocalDateTime recorded = recordedIndexedUpTo();
+        if (recorded == null) {
+            indexAll();
+        } else {
+            indexUpdatedSince(recorded);
+        }
+        indexedUpTo = readAt;
+        commit();
+        refresh();
+    }
+
+    /**
+     * Indexes the events updated since the database was last read, including the ones this
+     * instance never saw an {@link EventSavedEvent} for, and moves the recorded point forward.
+     */
+    @Scheduled(fixedDelay = CATCH_UP_INTERVAL_MS, initialDelay = CATCH_UP_INTERVAL_MS)
+    public void catchUpUpdated() {
+        LocalDateTime since = indexedUpTo;
+        if (since == null) {
+            return;
+        }
+        LocalDateTime readAt = LocalDateTime.now().minus(INDEXED_UP_TO_MARGIN);
+        indexUpdatedSince(since);
+        indexedUpTo = readAt;
+        commit();
+    }
+
+    /**
+     * Makes what was indexed since the last refresh searchable.
+     */
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new StorageException("Failed to refresh search index", e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent saved) {
+        index(saved.event());
+    }
+
+    @Override
+    public void index(Event event) {
+        addDocument(event);
+        if (uncommitted.incrementAndGet() >= COMMIT_INTERVAL) {
+            commit();
+        }
+    }
+
+    @Override
+    public EventSearchHitsDto search(String query, int offset, int limit) {
+        Query parsed = new SimpleQueryParser(analyzer, FIELD_WEIGHTS).parse(query == null ? "" : query);
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(parsed, Math.max(offset + limit, 1));
+            long totalHits = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? topDocs.totalHits.value
+                    : searcher.count(parsed);
+
+            StoredFields storedFields = searcher.storedFields();
+            int from = Math.min(offset, topDocs.scoreDocs.length);
+            int[] ids = new int[topDocs.scoreDocs.length - from];
+            for (int i = from; i < topDocs.scoreDocs.length; i++) {
+                ids[i - from] = Integer.parseInt(storedFields.document(topDocs.scoreDocs[i].doc).get(ID));
+            }
+            return new EventSearchHitsDto(ids, totalHits);
+        } catch (IOException e) {
+            throw new StorageException("Failed to search events", e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void addDocument(Event event) {
+        Document document = new Document();
+        String id = String.valueOf(event.getId());
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new TextField(TITLE, nullToEmpty(event.getTitle()), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, nullToEmpty(event.getDescription()), Field.Store.NO));
+        try {
+            // Replacing by id keeps re-indexing idempotent
+            writer.updateDocument(new Term(ID, id), document);
+        } catch (IOException e) {
+            throw new StorageException("Failed to index event " + id, e);
+        }
+    }
+
+    private void indexAll() {
+        int lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventDao.findAllOrderedByIdAfter(lastId, LOAD_BATCH_SIZE);
+            for (Event event : batch) {
+                addDocument(event);
+                lastId = event.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+    }
+
+    private void indexUpdatedSince(LocalDateTime since) {
+        LocalDateTime lastUpdatedAt = since;
+        int lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventDao.findAllUpdatedAfter(lastUpdatedAt, lastId, LOAD_BATCH_SIZE);
+            for (Event event : batch) {
+                addDocument(event);
+                lastUpdatedAt = event.getUpdatedAt();
+                lastId = event.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+    }
+
+    /**
+     * Up to when the last commit read the database, null for an index written without it.
+     */
+    private LocalDateTime recordedIndexedUpTo() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (INDEXED_UP_TO.equals(entry.getKey())) {
+                return LocalDateTime.parse(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    private void commit() {
+        LocalDateTime upTo = indexedUpTo;
+        if (upTo != null) {
+            writer.setLiveCommitData(Map.of(INDEXED_UP_TO, upTo.toString()).entrySet());
+        }
+        try {
+            uncommitted.set(0);
+            writer.commit();
+        } catch (IOException e) {
+            throw new StorageException("Failed to commit search index", e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new StorageException("Failed to release index searcher", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -49,6 +49,7 @@ public class MemberServiceImpl implements MemberService {
         memberDao.save(memberMapper(addMemberDto));
     }
 
+    @Transactional(readOnly = true)
     @Override
     public Optional<GetMemberDto> getByUsername(String username) throws MemberNotFoundException {
         return Optional.ofNullable(memberDao.findByUsername(username)
@@ -0,0 +1,121 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.repository.contracts.TicketCodeNodeDao;
+import com.centennial.eventease_backend.security.TicketProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ticket codes unique across nodes without asking the database.
+ * <p>
+ * A code is a 63-bit id of 41 bits of milliseconds since 2025-01-01, the 10-bit node id and a
+ * 12-bit sequence, written as 13 Crockford base32 characters so codes sort by creation time and
+ * read unambiguously. The last id lives in one {@link AtomicLong}: a new millisecond restarts the
+ * sequence, a full sequence carries into the next millisecond instead of waiting for it, and a
+ * clock stepping back is ignored, so ids only grow. Drawing an id allocates nothing, encoding
+ * writes into the caller's buffer.
+ * <p>
+ * Ids only grow within a process, so each node reserves the time its codes may carry in
+ * TICKET_CODE_NODES: a minute ahead at startup, renewed every 20 seconds. A restarted node
+ * starts after the last reservation, whatever its clock says, so a clock stepped back or a
+ * sequence that ran ahead before the restart can't hand out a code twice. No id is drawn past
+ * the reservation, when renewing fails purchases fail once it runs out.
+ * <p>
+ * Codes identify tickets, they are not secrets: the next one can be guessed from the last.
+ */
+@Component
+public class TicketCodeGenerator {
+
+    public static final int CODE_LENGTH = 13;
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1_735_689_600_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long RESERVATION_MILLIS = 60_000;
+    private static final long RENEW_INTERVAL_MS = 20_000;
+
+    private final TicketCodeNodeDao ticketCodeNodeDao;
+    private final int nodeId;
+    private final long nodeBits;
+    // (milliseconds since the epoch << SEQUENCE_BITS) | sequence, of the last id drawn
+    private final AtomicLong last = new AtomicLong();
+    // Same layout, the first id past the reservation
+    private volatile long reservedUntil;
+
+    @Autowired
+    public TicketCodeGenerator(TicketProperties properties, @Qualifier("ticketCodeNodeDaoImpl") TicketCodeNodeDao ticketCodeNodeDao) {
+        this.ticketCodeNodeDao = ticketCodeNodeDao;
+        this.nodeId = properties.nodeId();
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+
+        long now = System.currentTimeMillis();
+        long previous = ticketCodeNodeDao.reserve(nodeId, now + RESERVATION_MILLIS);
+        if (previous > 0) {
+            // Codes up to the previous reservation may have been handed out before the restart
+            last.set(state(previous) | SEQUENCE_MASK);
+        }
+        if (previous > now) {
+            ticketCodeNodeDao.reserve(nodeId, previous + RESERVATION_MILLIS);
+        }
+        reservedUntil = state(Math.max(previous, now) + RESERVATION_MILLIS);
+    }
+
+    /**
+     * Moves the reservation a minute past the later of now and the last id drawn.
+     */
+    @Scheduled(fixedDelay = RENEW_INTERVAL_MS, initialDelay = RENEW_INTERVAL_MS)
+    public void renewReservation() {
+        long from = Math.max(System.currentTimeMillis(), (last.get() >>> SEQUENCE_BITS) + EPOCH_MILLIS);
+        long until = from + RESERVATION_MILLIS;
+        ticketCodeNodeDao.reserve(nodeId, until);
+        reservedUntil = Math.max(reservedUntil, state(until));
+    }
+
+    /**
+     * @throws IllegalStateException when the reservation ran out because it could not be renewed
+     */
+    public long nextId() {
+        long now = state(System.currentTimeMillis());
+        long previous;
+        long next;
+        do {
+            previous = last.get();
+            next = Math.max(now, previous + 1);
+            if (next >= reservedUntil) {
+                throw new IllegalStateException("Ticket codes of node " + nodeId + " are only reserved until "
+                        + ((reservedUntil >>> SEQUENCE_BITS) + EPOCH_MILLIS) + ", renewing the reservation failed");
+            }
+        } while (!last.compareAndSet(previous, next));
+        return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * Writes the next code into {@code buffer} from {@code offset}, {@link #CODE_LENGTH} characters.
+     */
+    public void nextCode(char[] buffer, int offset) {
+        encode(nextId(), buffer, offset);
+    }
+
+    public String nextCode() {
+        char[] buffer = new char[CODE_LENGTH];
+        nextCode(buffer, 0);
+        return new String(buffer);
+    }
+
+    private static long state(long epochMillis) {
+        return (epochMillis - EPOCH_MILLIS) << SEQUENCE_BITS;
+    }
+
+    public static void encode(long id, char[] buffer, int offset) {
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            buffer[offset + i] = CROCKFORD_BASE32[(int) (id & 31)];
+            id >>>= 5;
+        }
+    }
+}
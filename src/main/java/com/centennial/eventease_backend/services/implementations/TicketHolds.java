@@ -0,0 +1,155 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.security.HoldProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tickets held off sale while a buyer checks out.
+ * <p>
+ * A hold has already taken its tickets from {@link TicketInventory}. It is either taken back by
+ * the buyer who placed it, to confirm or release it, or expires and gives its tickets back to
+ * the stock.
+ * Expiry runs on a {@link TimingWheel} advanced every second, so placing, taking and expiring
+ * a hold are O(1) whatever the number outstanding, and nothing polls the database. Removal from
+ * the hold map decides a race between a buyer and the expiry, the tickets are returned once.
+ */
+@Service
+public class TicketHolds {
+
+    private static final long TICK_MS = 1_000;
+
+    private final TicketInventory ticketInventory;
+    private final ConcurrentMap<String, Hold> holds = new ConcurrentHashMap<>();
+    private final TimingWheel<Hold> wheel;
+    private final Lock wheelLock = new ReentrantLock();
+    private final Duration ttl;
+    private final int maxOutstanding;
+
+    @Autowired
+    public TicketHolds(HoldProperties properties, TicketInventory ticketInventory) {
+        this.ticketInventory = ticketInventory;
+        this.ttl = properties.ttl();
+        this.maxOutstanding = properties.maxOutstanding();
+        this.wheel = new TimingWheel<>(Duration.ofMillis(TICK_MS), ttl, System.currentTimeMillis());
+    }
+
+    /**
+     * Holds {@code quantity} tickets the caller already took from the stock for {@code buyer},
+     * until the hold expires.
+     */
+    public Hold place(TicketInventory.Stock stock, int quantity, String buyer) throws TicketsUnavailableException {
+        if (holds.size() >= maxOutstanding) {
+            throw new TicketsUnavailableException("Too many tickets are on hold, try again shortly");
+        }
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        Hold hold = new Hold(UUID.randomUUID().toString(), buyer, stock, quantity, expiresAt);
+        holds.put(hold.id(), hold);
+        wheelLock.lock();
+        try {
+            wheel.schedule(hold, expiresAt);
+        } finally {
+            wheelLock.unlock();
+        }
+        return hold;
+    }
+
+    /**
+     * Removes the hold of the event for its buyer, empty when it does not exist, has expired or
+     * was placed by someone else.
+     */
+    public Optional<Hold> take(int eventId, String holdId, String buyer) {
+        Hold hold = holds.get(holdId);
+        if (hold == null || hold.stock().event().getId() != eventId || !hold.buyer().equals(buyer) || !holds.remove(holdId, hold)) {
+            return Optional.empty();
+        }
+        wheelLock.lock();
+        try {
+            wheel.cancel(hold);
+        } finally {
+            wheelLock.unlock();
+        }
+        return Optional.of(hold);
+    }
+
+    @Scheduled(fixedDelay = TICK_MS, initialDelay = TICK_MS)
+    public void expire() {
+        expire(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the tickets of every hold due by {@code nowMillis} to their stock.
+     */
+    public int expire(long nowMillis) {
+        List<Hold> expired;
+        wheelLock.lock();
+        try {
+            expired = wheel.advance(nowMillis);
+        } finally {
+            wheelLock.unlock();
+        }
+        int released = 0;
+        for (Hold hold : expired) {
+            if (holds.remove(hold.id(), hold)) {
+                ticketInventory.release(hold.stock(), hold.quantity());
+                released++;
+            }
+        }
+        return released;
+    }
+
+    public int outstanding() {
+        return holds.size();
+    }
+
+    /**
+     * One hold, linked into the wheel by itself.
+     */
+    public static final class Hold extends TimingWheel.Timeout {
+
+        private final String id;
+        private final String buyer;
+        private final TicketInventory.Stock stock;
+        private final int quantity;
+        private final long expiresAt;
+
+        Hold(String id, String buyer, TicketInventory.Stock stock, int quantity, long expiresAt) {
+            this.id = id;
+            this.buyer = buyer;
+            this.stock = stock;
+            this.quantity = quantity;
+            this.expiresAt = expiresAt;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String buyer() {
+            return buyer;
+        }
+
+        public TicketInventory.Stock stock() {
+            return stock;
+        }
+
+        public int quantity() {
+            return quantity;
+        }
+
+        public long expiresAt() {
+            return expiresAt;
+        }
+    }
+}
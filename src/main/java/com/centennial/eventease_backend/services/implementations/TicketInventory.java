@@ -0,0 +1,194 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.security.TicketProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tickets left per event, the authority purchases are decided against.
+ * <p>
+ * Each event's stock is loaded once from its row and then only changes in memory: a purchase
+ * takes tickets with a compare-and-set, no row is locked and no query runs. The count is split
+ * into stripes so concurrent buyers of one event mostly update different cache lines, a buyer
+ * starts on a random stripe and moves on when it runs dry. A stripe never goes below zero,
+ * so an event can never be oversold. Sold tickets reach the database through
+ * {@link TicketSalesWriter}, which is why the rows must not be reloaded while sales are pending:
+ * stocks stay resident until their event has started.
+ * <p>
+ * With {@code tickets.database-guard} the stock only turns away buyers early, each sale is then
+ * also counted in the event's row through {@link TicketsSoldCombiner}, which has the last word.
+ */
+@Service
+public class TicketInventory {
+
+    private static final long PRUNE_INTERVAL_MS = 60_000;
+    private static final int MAX_STRIPES = 16;
+
+    private final EventDao eventDao;
+    private final TicketsSoldCombiner ticketsSoldCombiner;
+    private final boolean databaseGuard;
+    private final ConcurrentMap<Integer, Stock> stocks = new ConcurrentHashMap<>();
+    private final int stripes;
+
+    @Autowired
+    public TicketInventory(@Qualifier("eventDaoImpl") EventDao eventDao, TicketsSoldCombiner ticketsSoldCombiner,
+                           TicketProperties properties) {
+        this.eventDao = eventDao;
+        this.ticketsSoldCombiner = ticketsSoldCombiner;
+        this.databaseGuard = properties.databaseGuard();
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        this.stripes = Integer.highestOneBit(Math.max(1, processors));
+    }
+
+    /**
+     * The stock of the event, loaded from the event's row on first use.
+     */
+    public Optional<Stock> stock(int eventId) {
+        Stock stock = stocks.get(eventId);
+        if (stock != null) {
+            return Optional.of(stock);
+        }
+        // Loaded outside computeIfAbsent, the query must not run under the map's bin lock
+        return eventDao.findById(eventId)
+                .map(event -> {
+                    Stock loaded = new Stock(event, stripes);
+                    Stock existing = stocks.putIfAbsent(eventId, loaded);
+                    return existing != null ? existing : loaded;
+                });
+    }
+
+    /**
+     * Takes {@code quantity} tickets from the stock, or none.
+     */
+    public boolean tryAcquire(Stock stock, int quantity) {
+        if (!stock.tryAcquire(quantity)) {
+            return false;
+        }
+        if (databaseGuard && !ticketsSoldCombiner.add(stock.event().getId(), quantity)) {
+            // Sold by another node, the row is the authority
+            stock.release(quantity);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Puts tickets that were taken but not sold back on sale.
+     */
+    public void release(Stock stock, int quantity) {
+        if (databaseGuard) {
+            ticketsSoldCombiner.add(stock.event().getId(), -quantity);
+        }
+        stock.release(quantity);
+    }
+
+    /**
+     * Drops the stocks of events that have started, no tickets are sold for them anymore.
+     */
+    @Scheduled(fixedDelay = PRUNE_INTERVAL_MS, initialDelay = PRUNE_INTERVAL_MS)
+    public void prune() {
+        LocalDateTime now = LocalDateTime.now();
+        stocks.values().removeIf(stock -> stock.event().getDateTime().isBefore(now));
+    }
+
+    /**
+     * Tickets left of one event, striped over padded slots of an {@link AtomicLongArray}.
+     */
+    public static final class Stock {
+
+        // 8 longs apart, so two stripes never share a 64 byte cache line
+        private static final int PADDING = 8;
+
+        private final Event event;
+        private final AtomicLongArray slots;
+        private final int mask;
+
+        Stock(Event event, int stripes) {
+            this.event = event;
+            this.slots = new AtomicLongArray(stripes * PADDING);
+            this.mask = stripes - 1;
+            long left = Math.max(0, event.getTotalTickets() - event.getTicketsSold());
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                slots.set(stripe * PADDING, left / stripes + (stripe < left % stripes ? 1 : 0));
+            }
+        }
+
+        /**
+         * The event as it was loaded, for the details a purchase is checked against.
+         */
+        public Event event() {
+            return event;
+        }
+
+        /**
+         * Takes {@code quantity} tickets, or none. The home stripe is tried first, then each
+         * other stripe, and only then are the tickets gathered from several stripes. While two
+         * buyers are gathering at once both may fail with enough tickets left between them.
+         */
+        public boolean tryAcquire(int quantity) {
+            int home = ThreadLocalRandom.current().nextInt(mask + 1);
+            for (int i = 0; i <= mask; i++) {
+                if (take((home + i) & mask, quantity)) {
+                    return true;
+                }
+            }
+            long taken = 0;
+            for (int i = 0; i <= mask && taken < quantity; i++) {
+                taken += takeUpTo((home + i) & mask, quantity - taken);
+            }
+            if (taken == quantity) {
+                return true;
+            }
+            slots.addAndGet(home * PADDING, taken);
+            return false;
+        }
+
+        public void release(int quantity) {
+            slots.addAndGet(ThreadLocalRandom.current().nextInt(mask + 1) * PADDING, quantity);
+        }
+
+        public long available() {
+            long left = 0;
+            for (int stripe = 0; stripe <= mask; stripe++) {
+                left += slots.get(stripe * PADDING);
+            }
+            return left;
+        }
+
+        private boolean take(int stripe, long quantity) {
+            int slot = stripe * PADDING;
+            long left = slots.get(slot);
+            while (left >= quantity) {
+                if (slots.weakCompareAndSetVolatile(slot, left, left - quantity)) {
+                    return true;
+                }
+                left = slots.get(slot);
+            }
+            return false;
+        }
+
+        private long takeUpTo(int stripe, long quantity) {
+            int slot = stripe * PADDING;
+            long left = slots.get(slot);
+            while (left > 0) {
+                long taken = Math.min(left, quantity);
+                if (slots.weakCompareAndSetVolatile(slot, left, left - taken)) {
+                    return taken;
+                }
+                left = slots.get(slot);
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Ticket;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.contracts.TicketDao;
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.security.TicketWriterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes sold tickets behind the purchases that sold them.
+ * <p>
+ * A purchase only queues its tickets. Every flush inserts what was queued in JDBC batches and
+ * adds the sold count of each event with a single UPDATE, in one transaction, so a burst of
+ * purchases costs one round of statements instead of one transaction each. Listings show the
+ * new ticket counts once the flush committed. Tickets still queued when the process dies are
+ * lost, a clean shutdown flushes them first. Under {@code tickets.database-guard} the sales were
+ * counted as they were made, a flush only inserts the tickets.
+ * <p>
+ * A batch rejected by a constraint is split in halves until the offending tickets are alone,
+ * those are dead-lettered and the rest written. Any other failure is taken for an outage: the
+ * batch goes back in the queue and scheduled flushes back off, doubling up to a minute. A ticket
+ * that failed {@code tickets.writer.max-attempts} times is dead-lettered as well. Dead letters go
+ * to the {@code tickets.dead-letter} log with everything needed to insert them by hand. The queue
+ * holds at most {@code tickets.writer.max-pending} tickets, purchases beyond that are refused.
+ * Published as {@code tickets.pending}, {@code tickets.write.failures} and {@code tickets.dead.letters}.
+ */
+@Component
+public class TicketSalesWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketSalesWriter.class);
+    private static final Logger deadLetters = LoggerFactory.getLogger("tickets.dead-letter");
+    private static final int MAX_TICKETS_PER_FLUSH = 5_000;
+    private static final long MIN_BACKOFF_MS = 1_000;
+    private static final long MAX_BACKOFF_MS = 60_000;
+
+    private final TicketDao ticketDao;
+    private final EventDao eventDao;
+    private final EventPageCache eventPageCache;
+    private final TransactionTemplate transaction;
+    private final boolean databaseGuard;
+    private final int maxPending;
+    private final int maxAttempts;
+    private final Queue<Pending> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount;
+    private final Counter writeFailures;
+    private final Counter deadLettered;
+    private final Lock flushLock = new ReentrantLock();
+    private int consecutiveFailures;
+    private volatile long retryAt;
+
+    @Autowired
+    public TicketSalesWriter(@Qualifier("ticketDaoImpl") TicketDao ticketDao,
+                             @Qualifier("eventDaoImpl") EventDao eventDao,
+                             EventPageCache eventPageCache,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             TicketProperties properties,
+                             TicketWriterProperties writerProperties) {
+        this.databaseGuard = properties.databaseGuard();
+        this.maxPending = writerProperties.maxPending();
+        this.maxAttempts = writerProperties.maxAttempts();
+        this.ticketDao = ticketDao;
+        this.eventDao = eventDao;
+        this.eventPageCache = eventPageCache;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.pendingCount = meterRegistry.gauge("tickets.pending", new AtomicInteger());
+        this.writeFailures = meterRegistry.counter("tickets.write.failures");
+        this.deadLettered = meterRegistry.counter("tickets.dead.letters");
+    }
+
+    /**
+     * Queues the tickets of one purchase, all or none.
+     *
+     * @throws TicketsUnavailableException when the queue has no room left for them
+     */
+    public void enqueue(List<Ticket> tickets) throws TicketsUnavailableException {
+        int queued;
+        do {
+            queued = pendingCount.get();
+            if (queued + tickets.size() > maxPending) {
+                throw new TicketsUnavailableException("Ticket sales are backed up, please try again shortly");
+            }
+        } while (!pendingCount.compareAndSet(queued, queued + tickets.size()));
+        tickets.forEach(ticket -> pending.add(new Pending(ticket, ticket.getEvent(), 0)));
+    }
+
+    public int pending() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Writes everything queued so far. Flushes never overlap, a caller waits for the running one.
+     * Stops early when a write fails for a reason other than a constraint.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Pending> batch = drain();
+            while (!batch.isEmpty() && write(batch)) {
+                batch = drain();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.flush-interval-ms:200}")
+    public void scheduledFlush() {
+        if (System.currentTimeMillis() >= retryAt) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = new ArrayList<>();
+        Pending next;
+        while (batch.size() < MAX_TICKETS_PER_FLUSH && (next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * Returns false when the batch, or part of it, went back in the queue.
+     */
+    private boolean write(List<Pending> batch) {
+        Map<Integer, Integer> soldByEvent = new HashMap<>();
+        Map<Integer, Event> events = new HashMap<>();
+        List<Ticket> tickets = new ArrayList<>(batch.size());
+        for (Pending next : batch) {
+            // Ids and event proxies left by a rolled back attempt would make the tickets look detached
+            next.ticket().setId(0);
+            next.ticket().setEvent(next.event());
+            tickets.add(next.ticket());
+            soldByEvent.merge(next.event().getId(), 1, Integer::sum);
+            events.putIfAbsent(next.event().getId(), next.event());
+        }
+        try {
+            transaction.executeWithoutResult(status -> {
+                ticketDao.saveAll(tickets);
+                if (!databaseGuard) {
+                    eventDao.addTicketsSold(soldByEvent);
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            writeFailures.increment();
+            if (batch.size() == 1) {
+                deadLetter(batch.getFirst(), e);
+                return true;
+            }
+            int middle = batch.size() / 2;
+            boolean first = write(batch.subList(0, middle));
+            boolean second = write(batch.subList(middle, batch.size()));
+            return first && second;
+        } catch (RuntimeException e) {
+            writeFailures.increment();
+            long backoff = Math.min(MIN_BACKOFF_MS << Math.min(consecutiveFailures++, 16), MAX_BACKOFF_MS);
+            retryAt = System.currentTimeMillis() + backoff;
+            log.error("Writing {} sold tickets failed, retrying in {} ms", batch.size(), backoff, e);
+            for (Pending next : batch) {
+                if (next.attempts() + 1 >= maxAttempts) {
+                    deadLetter(next, e);
+                } else {
+                    pending.add(new Pending(next.ticket(), next.event(), next.attempts() + 1));
+                    pendingCount.incrementAndGet();
+                }
+            }
+            return false;
+        }
+        consecutiveFailures = 0;
+        events.values().forEach(eventPageCache::invalidate);
+        return true;
+    }
+
+    private void deadLetter(Pending failed, RuntimeException cause) {
+        deadLettered.increment();
+        Ticket ticket = failed.ticket();
+        deadLetters.error("event={} code={} name={} email={} purchasedAt={} attempts={} cause={}",
+                failed.event().getId(), ticket.getTicketCode(), ticket.getAttendeeName(), ticket.getAttendeeEmail(),
+                ticket.getPurchaseAt(), failed.attempts() + 1, NestedExceptionUtils.getMostSpecificCause(cause).getMessage());
+    }
+
+    /**
+     * A queued ticket with the event it was sold for, kept apart from the entity so a rolled
+     * back attempt can't leave a proxy behind, and the number of writes that failed for it.
+     */
+    private record Pending(Ticket ticket, Event event, int attempts) {
+    }
+}
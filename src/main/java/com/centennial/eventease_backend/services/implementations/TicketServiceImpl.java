@@ -0,0 +1,184 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.ConfirmHoldDto;
+import com.centennial.eventease_backend.dto.HoldTicketsDto;
+import com.centennial.eventease_backend.dto.PurchaseTicketsDto;
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.dto.TicketHoldDto;
+import com.centennial.eventease_backend.dto.TicketPurchaseDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Ticket;
+import com.centennial.eventease_backend.exceptions.EventNotFoundException;
+import com.centennial.eventease_backend.exceptions.HoldNotFoundException;
+import com.centennial.eventease_backend.exceptions.InvalidPurchaseException;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.QueueTokenNotFoundException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.services.contracts.TicketService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class TicketServiceImpl implements TicketService {
+
+    private static final int MAX_TICKETS_PER_PURCHASE = 10;
+    // ATTENDEE_NAME and ATTENDEE_EMAIL are VARCHAR2(200)
+    private static final int MAX_ATTENDEE_LENGTH = 200;
+
+    private final TicketInventory ticketInventory;
+    private final TicketHolds ticketHolds;
+    private final TicketSalesWriter ticketSalesWriter;
+    private final WaitingRoom waitingRoom;
+    private final TicketCodeGenerator ticketCodeGenerator;
+
+    @Autowired
+    public TicketServiceImpl(TicketInventory ticketInventory, TicketHolds ticketHolds, TicketSalesWriter ticketSalesWriter,
+                             WaitingRoom waitingRoom, TicketCodeGenerator ticketCodeGenerator) {
+        this.ticketInventory = ticketInventory;
+        this.ticketHolds = ticketHolds;
+        this.ticketSalesWriter = ticketSalesWriter;
+        this.waitingRoom = waitingRoom;
+        this.ticketCodeGenerator = ticketCodeGenerator;
+    }
+
+    /**
+     * Queues the signed in buyer in the event's waiting room. The event is checked against the
+     * inventory, which only reads its row the first time.
+     */
+    @Override
+    public QueuePositionDto joinQueue(int eventId, String buyer) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException {
+        TicketInventory.Stock stock = ticketInventory.stock(eventId)
+                .orElseThrow(() -> new EventNotFoundException("The event with id {" + eventId + "} was not found"));
+        if (stock.event().getDateTime().isBefore(LocalDateTime.now())) {
+            throw new InvalidPurchaseException("Tickets cannot be bought for an event that has started");
+        }
+        return waitingRoom.join(eventId, buyer);
+    }
+
+    @Override
+    public QueuePositionDto getQueuePosition(int eventId, String buyer, String queueToken) throws QueueTokenNotFoundException {
+        return waitingRoom.position(eventId, buyer, queueToken);
+    }
+
+    /**
+     * Sells the tickets against the inventory, no transaction is opened unless the database guard
+     * is on. The tickets are queued for {@link TicketSalesWriter} and their codes returned right away.
+     */
+    @Override
+    public TicketPurchaseDto purchase(int eventId, String buyer, String queueToken, PurchaseTicketsDto purchaseTicketsDto) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException, NotAdmittedException {
+        validateQuantity(purchaseTicketsDto.quantity());
+        validateAttendee(purchaseTicketsDto.attendeeName(), purchaseTicketsDto.attendeeEmail());
+        waitingRoom.checkAdmitted(eventId, buyer, queueToken);
+
+        TicketInventory.Stock stock = acquire(eventId, purchaseTicketsDto.quantity());
+        return sell(eventId, stock, purchaseTicketsDto.quantity(),
+                purchaseTicketsDto.attendeeName(), purchaseTicketsDto.attendeeEmail());
+    }
+
+    /**
+     * Takes the tickets off sale now and keeps them for the buyer until the hold expires.
+     */
+    @Override
+    public TicketHoldDto hold(int eventId, String buyer, String queueToken, HoldTicketsDto holdTicketsDto) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException, NotAdmittedException {
+        validateQuantity(holdTicketsDto.quantity());
+        waitingRoom.checkAdmitted(eventId, buyer, queueToken);
+
+        TicketInventory.Stock stock = acquire(eventId, holdTicketsDto.quantity());
+        TicketHolds.Hold hold;
+        try {
+            hold = ticketHolds.place(stock, holdTicketsDto.quantity(), buyer);
+        } catch (TicketsUnavailableException e) {
+            ticketInventory.release(stock, holdTicketsDto.quantity());
+            throw e;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.expiresAt()), ZoneId.systemDefault());
+        return new TicketHoldDto(hold.id(), eventId, hold.quantity(), expiresAt);
+    }
+
+    /**
+     * Sells the held tickets. The hold already went through the waiting room and took its
+     * tickets from the stock when it was placed. If the tickets can't be queued for writing the
+     * hold is gone and its tickets are back on sale.
+     */
+    @Override
+    public TicketPurchaseDto confirmHold(int eventId, String buyer, String holdId, ConfirmHoldDto confirmHoldDto) throws HoldNotFoundException, InvalidPurchaseException, TicketsUnavailableException {
+        validateAttendee(confirmHoldDto.attendeeName(), confirmHoldDto.attendeeEmail());
+
+        TicketHolds.Hold hold = ticketHolds.take(eventId, holdId, buyer)
+                .orElseThrow(() -> new HoldNotFoundException("The hold {" + holdId + "} was not found or has expired"));
+        return sell(eventId, hold.stock(), hold.quantity(),
+                confirmHoldDto.attendeeName(), confirmHoldDto.attendeeEmail());
+    }
+
+    @Override
+    public void releaseHold(int eventId, String buyer, String holdId) throws HoldNotFoundException {
+        TicketHolds.Hold hold = ticketHolds.take(eventId, holdId, buyer)
+                .orElseThrow(() -> new HoldNotFoundException("The hold {" + holdId + "} was not found or has expired"));
+        ticketInventory.release(hold.stock(), hold.quantity());
+    }
+
+    private TicketInventory.Stock acquire(int eventId, int quantity) throws EventNotFoundException, InvalidPurchaseException, TicketsUnavailableException {
+        TicketInventory.Stock stock = ticketInventory.stock(eventId)
+                .orElseThrow(() -> new EventNotFoundException("The event with id {" + eventId + "} was not found"));
+        if (stock.event().getDateTime().isBefore(LocalDateTime.now())) {
+            throw new InvalidPurchaseException("Tickets cannot be bought for an event that has started");
+        }
+        if (!ticketInventory.tryAcquire(stock, quantity)) {
+            throw new TicketsUnavailableException("Only " + stock.available() + " tickets are left for the event with id {" + eventId + "}");
+        }
+        return stock;
+    }
+
+    /**
+     * Queues the sold tickets, or gives their seats back to the stock when the writer is full.
+     */
+    private TicketPurchaseDto sell(int eventId, TicketInventory.Stock stock, int quantity, String attendeeName, String attendeeEmail) throws TicketsUnavailableException {
+        Event event = stock.event();
+        LocalDateTime now = LocalDateTime.now();
+        List<Ticket> tickets = new ArrayList<>(quantity);
+        char[] code = new char[TicketCodeGenerator.CODE_LENGTH];
+        for (int i = 0; i < quantity; i++) {
+            ticketCodeGenerator.nextCode(code, 0);
+            tickets.add(new Ticket(event, new String(code), attendeeName.trim(), attendeeEmail.trim(), now));
+        }
+        try {
+            ticketSalesWriter.enqueue(tickets);
+        } catch (TicketsUnavailableException e) {
+            ticketInventory.release(stock, quantity);
+            throw e;
+        }
+
+        return new TicketPurchaseDto(eventId, tickets.stream().map(Ticket::getTicketCode).toList(), now);
+    }
+
+    private void validateQuantity(int quantity) throws InvalidPurchaseException {
+        if (quantity < 1 || quantity > MAX_TICKETS_PER_PURCHASE) {
+            throw new InvalidPurchaseException("Between 1 and " + MAX_TICKETS_PER_PURCHASE + " tickets can be bought at once");
+        }
+    }
+
+    /**
+     * Checks the attendee as it will be written, trimmed. A sale is confirmed before its tickets
+     * are written, so anything TICKETS would reject must be turned away here.
+     */
+    private void validateAttendee(String attendeeName, String attendeeEmail) throws InvalidPurchaseException {
+        if (attendeeName == null || attendeeName.isBlank()) {
+            throw new InvalidPurchaseException("Attendee name is required");
+        }
+        if (attendeeEmail == null || !attendeeEmail.contains("@")) {
+            throw new InvalidPurchaseException("A valid attendee email is required");
+        }
+        if (attendeeName.trim().length() > MAX_ATTENDEE_LENGTH) {
+            throw new InvalidPurchaseException("Attendee name must be at most " + MAX_ATTENDEE_LENGTH + " characters");
+        }
+        if (attendeeEmail.trim().length() > MAX_ATTENDEE_LENGTH) {
+            throw new InvalidPurchaseException("Attendee email must be at most " + MAX_ATTENDEE_LENGTH + " characters");
+        }
+    }
+}
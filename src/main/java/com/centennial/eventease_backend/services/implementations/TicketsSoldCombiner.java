@@ -0,0 +1,127 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit of TICKETS_SOLD changes: concurrent changes to one event are merged into one
+ * conditional UPDATE, committed once.
+ * <p>
+ * Every caller queues its change on the event's lane, then takes the lane's lock. The lock holder
+ * yields once and then applies everything queued by then, its own change and those of the callers
+ * waiting behind it, so while one statement runs the next batch builds up. A caller that finds its change already
+ * applied just returns. When the merged change does not fit, the batch is retried change by
+ * change, which only happens as an event sells out.
+ */
+@Component
+public class TicketsSoldCombiner {
+
+    private final EventDao eventDao;
+    private final TransactionTemplate transaction;
+    private final ConcurrentMap<Integer, Lane> lanes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TicketsSoldCombiner(@Qualifier("eventDaoImpl") EventDao eventDao, PlatformTransactionManager transactionManager) {
+        this.eventDao = eventDao;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Adds {@code quantity} to the event's sold tickets once committed, false when they do not fit.
+     */
+    public boolean add(int eventId, int quantity) {
+        Lane lane = lanes.computeIfAbsent(eventId, id -> new Lane());
+        Change change = new Change(quantity);
+        lane.queued.add(change);
+        lane.lock.lock();
+        try {
+            if (!change.done) {
+                apply(eventId, lane);
+            }
+        } finally {
+            lane.lock.unlock();
+        }
+        if (change.failure != null) {
+            throw change.failure;
+        }
+        return change.applied;
+    }
+
+    private void apply(int eventId, Lane lane) {
+        // Let callers that are ready to run queue their change first, the statement itself may
+        // never park the thread (an embedded database) and would then always run alone
+        Thread.yield();
+        List<Change> batch = new ArrayList<>();
+        Change queued;
+        while ((queued = lane.queued.poll()) != null) {
+            batch.add(queued);
+        }
+        try {
+            int total = batch.stream().mapToInt(Change::quantity).sum();
+            if (update(eventId, total)) {
+                batch.forEach(change -> change.applied = true);
+            } else if (batch.size() > 1) {
+                applyOneByOne(eventId, batch);
+            }
+        } catch (RuntimeException e) {
+            batch.stream().filter(change -> !change.applied).forEach(change -> change.failure = e);
+        }
+        // Published to the waiting callers by the lane lock they take next
+        batch.forEach(change -> change.done = true);
+    }
+
+    /**
+     * Gives tickets back first, then sells in arrival order. Sales only grow the count, so a sale
+     * at least as large as one that did not fit is turned away without a statement.
+     */
+    private void applyOneByOne(int eventId, List<Change> batch) {
+        int smallestRejected = Integer.MAX_VALUE;
+        for (Change change : batch.stream().sorted(Comparator.comparing(change -> change.quantity() > 0)).toList()) {
+            if (change.quantity() >= smallestRejected) {
+                continue;
+            }
+            change.applied = update(eventId, change.quantity());
+            if (!change.applied && change.quantity() > 0) {
+                smallestRejected = change.quantity();
+            }
+        }
+    }
+
+    private boolean update(int eventId, int quantity) {
+        return Boolean.TRUE.equals(transaction.execute(status -> eventDao.tryAddTicketsSold(eventId, quantity)));
+    }
+
+    private static final class Lane {
+        private final Queue<Change> queued = new ConcurrentLinkedQueue<>();
+        private final Lock lock = new ReentrantLock();
+    }
+
+    private static final class Change {
+        private final int quantity;
+        private boolean applied;
+        private boolean done;
+        private RuntimeException failure;
+
+        Change(int quantity) {
+            this.quantity = quantity;
+        }
+
+        int quantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A hashed timing wheel: timeouts hang in the bucket of their deadline tick, modulo the number of
+ * buckets, in a doubly linked list threaded through the timeouts themselves. Scheduling and
+ * cancelling are O(1) and take no allocation. Advancing visits one bucket per elapsed tick, a
+ * timeout more than one turn away waits in its bucket for the remaining turns. Sized so the
+ * longest delay fits in one turn, every visited timeout is due.
+ * <p>
+ * Deadlines are rounded up to the tick. Not thread-safe, callers hold a lock.
+ */
+public final class TimingWheel<T extends TimingWheel.Timeout> {
+
+    private static final int MAX_BUCKETS = 1 << 20;
+
+    private final long tickMillis;
+    private final long originMillis;
+    private final Timeout[] buckets;
+    private final int mask;
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(Duration tick, Duration span, long nowMillis) {
+        this.tickMillis = tick.toMillis();
+        this.originMillis = nowMillis;
+        long ticks = Math.max(1, Math.ceilDiv(span.toMillis(), tickMillis));
+        // The next power of two, capped so a very long span does not allocate millions of buckets
+        this.buckets = new Timeout[Integer.highestOneBit((int) Math.min(ticks, MAX_BUCKETS) * 2 - 1)];
+        this.mask = buckets.length - 1;
+    }
+
+    public void schedule(T scheduled, long deadlineMillis) {
+        Timeout timeout = scheduled;
+        long deadlineTick = Math.max(currentTick, Math.ceilDiv(deadlineMillis - originMillis, tickMillis));
+        int bucket = (int) (deadlineTick & mask);
+        timeout.remainingTurns = (deadlineTick - currentTick) / buckets.length;
+        timeout.bucket = bucket;
+        timeout.previous = null;
+        timeout.next = buckets[bucket];
+        if (timeout.next != null) {
+            timeout.next.previous = timeout;
+        }
+        buckets[bucket] = timeout;
+        size++;
+    }
+
+    /**
+     * Unlinks the timeout, false when it already expired or was never scheduled.
+     */
+    public boolean cancel(T cancelled) {
+        Timeout timeout = cancelled;
+        if (timeout.bucket < 0) {
+            return false;
+        }
+        unlink(timeout);
+        return true;
+    }
+
+    /**
+     * Removes and returns the timeouts due by {@code nowMillis}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - originMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        for (; currentTick <= targetTick && size > 0; currentTick++) {
+            Timeout timeout = buckets[(int) (currentTick & mask)];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingTurns == 0) {
+                    unlink(timeout);
+                    expired.add((T) timeout);
+                } else {
+                    timeout.remainingTurns--;
+                }
+                timeout = next;
+            }
+        }
+        // An empty wheel jumps straight to the target instead of visiting every bucket
+        currentTick = Math.max(currentTick, targetTick + 1);
+        return expired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+        size--;
+    }
+
+    /**
+     * The links a timeout carries into the wheel.
+     */
+    public abstract static class Timeout {
+        private Timeout previous;
+        private Timeout next;
+        private long remainingTurns;
+        private int bucket = -1;
+    }
+}
@@ -0,0 +1,214 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The (dateTime, id) keys of all events that have not started yet, in listing order.
+ * <p>
+ * The default listing only shows upcoming events, so it is paged from this set and the database
+ * only hydrates the ids of the page. Only future rows are loaded at startup, through a range scan
+ * on the date index, and a scheduled job drops events as they start. Between two runs, events
+ * that started in the meantime sit at the tail of the set and are skipped by the readers.
+ * <p>
+ * Saved events are added as they commit. Rows written by other instances or outside the
+ * application are picked up by a scheduled catch-up on UPDATED_AT, the way the search index
+ * catches up at startup.
+ */
+@Service
+public class UpcomingEventIndex {
+
+    private static final long PRUNE_INTERVAL_MS = 60_000;
+    private static final long CATCH_UP_INTERVAL_MS = 60_000;
+    private static final int LOAD_BATCH_SIZE = 1_000;
+    // Covers transactions still open when the catch-up reads and clocks of other instances
+    private static final Duration CAUGHT_UP_TO_MARGIN = Duration.ofMinutes(5);
+    private static final Comparator<EventCursor> LISTING_ORDER = Comparator.comparing(EventCursor::dateTime)
+            .thenComparingInt(EventCursor::id)
+            .reversed();
+
+    private final EventDao eventDao;
+    private final EventPageCache eventPageCache;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableSet<EventCursor> upcoming = new TreeSet<>(LISTING_ORDER);
+    // The key each event sits under, so a rescheduled event moves instead of being listed twice
+    private final Map<Integer, LocalDateTime> dateTimes = new HashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile LocalDateTime caughtUpTo;
+    private volatile boolean ready;
+
+    @Autowired
+    public UpcomingEventIndex(@Qualifier("eventDaoImpl") EventDao eventDao, EventPageCache eventPageCache) {
+        this.eventDao = eventDao;
+        this.eventPageCache = eventPageCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        // Taken before reading, whatever commits during the load is read again by the catch-up
+        LocalDateTime readAt = now.minus(CAUGHT_UP_TO_MARGIN);
+        lock.writeLock().lock();
+        try {
+            upcoming.clear();
+            dateTimes.clear();
+            for (EventCursor key : eventDao.findUpcomingKeys(now)) {
+                upcoming.add(key);
+                dateTimes.put(key.id(), key.dateTime());
+            }
+            caughtUpTo = readAt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventSaved(EventSavedEvent saved) {
+        put(saved.event(), LocalDateTime.now());
+    }
+
+    /**
+     * Adds the events updated since the load or the last catch-up, including the ones this
+     * instance never saw an {@link EventSavedEvent} for. Cached upcoming pages and their ETags
+     * are invalidated when that changed the set.
+     */
+    @Scheduled(fixedDelay = CATCH_UP_INTERVAL_MS, initialDelay = CATCH_UP_INTERVAL_MS)
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readAt = now.minus(CAUGHT_UP_TO_MARGIN);
+        LocalDateTime lastUpdatedAt = caughtUpTo;
+        int lastId = 0;
+        boolean changed = false;
+        List<Event> batch;
+        do {
+            batch = eventDao.findAllUpdatedAfter(lastUpdatedAt, lastId, LOAD_BATCH_SIZE);
+            for (Event event : batch) {
+                changed |= put(event, now);
+                lastUpdatedAt = event.getUpdatedAt();
+                lastId = event.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        caughtUpTo = readAt;
+        if (changed) {
+            generation.incrementAndGet();
+            eventPageCache.invalidateUpcoming();
+        }
+    }
+
+    /**
+     * Drops the events that have started. Cached upcoming pages and their ETags are
+     * invalidated when anything was dropped.
+     */
+    @Scheduled(fixedDelay = PRUNE_INTERVAL_MS, initialDelay = PRUNE_INTERVAL_MS)
+    public void prune() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+        lock.writeLock().lock();
+        try {
+            // The set is ordered latest first, so started events are at the tail
+            while (!upcoming.isEmpty() && upcoming.last().dateTime().isBefore(now)) {
+                dateTimes.remove(upcoming.pollLast().id());
+                removed++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (removed > 0) {
+            generation.incrementAndGet();
+            eventPageCache.invalidateUpcoming();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Changes whenever pruning removed events, so it can be part of the listing's version.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Ids of the upcoming events on the requested page, in listing order.
+     */
+    public List<Integer> page(long offset, int limit, LocalDateTime now) {
+        List<Integer> ids = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            long skipped = 0;
+            for (EventCursor key : upcoming) {
+                if (key.dateTime().isBefore(now) || ids.size() == limit) {
+                    break;
+                }
+                if (skipped++ >= offset) {
+                    ids.add(key.id());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    public long count(LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            long started = 0;
+            for (EventCursor key : upcoming.descendingSet()) {
+                if (!key.dateTime().isBefore(now)) {
+                    break;
+                }
+                started++;
+            }
+            return upcoming.size() - started;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Files the event under its current start, true when that changed the set.
+     */
+    private boolean put(Event event, LocalDateTime now) {
+        LocalDateTime dateTime = event.getDateTime();
+        boolean upcomingEvent = dateTime != null && !dateTime.isBefore(now);
+        lock.writeLock().lock();
+        try {
+            LocalDateTime previous = upcomingEvent ? dateTimes.put(event.getId(), dateTime) : dateTimes.remove(event.getId());
+            if (Objects.equals(previous, upcomingEvent ? dateTime : null)) {
+                return false;
+            }
+            if (previous != null) {
+                upcoming.remove(new EventCursor(previous, event.getId()));
+            }
+            if (upcomingEvent) {
+                upcoming.add(new EventCursor(dateTime, event.getId()));
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.centennial.eventease_backend.services.implementations;
+
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.QueueTokenNotFoundException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.security.WaitingRoomProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-event admission queues in front of checkout.
+ * <p>
+ * A buyer joining an event's room draws the next number of the room. A leaky bucket moves the
+ * room's admission mark forward by {@code admissionsPerSecond} a second, every buyer at or below
+ * the mark may check out. A position is the distance to the mark, so polling it is two reads
+ * from memory, and nothing reaches the database while a crowd waits. The bucket holds one
+ * second of admissions, a buyer joining a room nobody waits in walks straight through.
+ * <p>
+ * A token belongs to the buyer who joined with it and is only accepted from them. A buyer holds
+ * one place per room, joining again returns the place they already have. An admission is valid
+ * for {@code admissionTtl} from the first time it is seen. Expired tokens and idle rooms are
+ * dropped by a scheduled job.
+ */
+@Service
+public class WaitingRoom {
+
+    public static final String TOKEN_HEADER = "Queue-Token";
+    private static final long LEAK_INTERVAL_MS = 100;
+    private static final long PRUNE_INTERVAL_MS = 10_000;
+
+    private final ConcurrentMap<Integer, Room> rooms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Place, Entry> places = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int admissionsPerSecond;
+    private final long admissionTtlMillis;
+    private final int maxQueued;
+
+    @Autowired
+    public WaitingRoom(WaitingRoomProperties properties) {
+        this.enabled = properties.enabled();
+        this.admissionsPerSecond = properties.admissionsPerSecond();
+        this.admissionTtlMillis = properties.admissionTtl().toMillis();
+        this.maxQueued = properties.maxQueued();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public QueuePositionDto join(int eventId, String buyer) throws TicketsUnavailableException {
+        return join(eventId, buyer, System.currentTimeMillis());
+    }
+
+    public QueuePositionDto join(int eventId, String buyer, long nowMillis) throws TicketsUnavailableException {
+        Place place = new Place(eventId, buyer);
+        Entry existing = places.get(place);
+        if (existing != null && !existing.isExpired(nowMillis, admissionTtlMillis)) {
+            return position(existing, nowMillis);
+        }
+        Entry entry = null;
+        while (entry == null) {
+            Room room = rooms.computeIfAbsent(eventId, id -> new Room(id, admissionsPerSecond, nowMillis));
+            synchronized (room) {
+                // A room pruned meanwhile is no longer leaked, join its replacement
+                if (room.closed) {
+                    continue;
+                }
+                if (room.waiting() >= maxQueued) {
+                    throw new TicketsUnavailableException("The waiting room of the event with id {" + eventId + "} is full");
+                }
+                room.refill(nowMillis, admissionsPerSecond);
+                entry = new Entry(UUID.randomUUID().toString(), buyer, room, ++room.joined);
+                room.lastJoinAt = nowMillis;
+                room.admit(1);
+            }
+        }
+        entries.put(entry.token, entry);
+        places.put(place, entry);
+        return position(entry, nowMillis);
+    }
+
+    public QueuePositionDto position(int eventId, String buyer, String token) throws QueueTokenNotFoundException {
+        long now = System.currentTimeMillis();
+        Entry entry = find(eventId, buyer, token);
+        if (entry == null || entry.isExpired(now, admissionTtlMillis)) {
+            throw new QueueTokenNotFoundException("The queue token {" + token + "} was not found or has expired");
+        }
+        return position(entry, now);
+    }
+
+    /**
+     * Lets the buyer through when their token was admitted to the event's room, or when the
+     * waiting room is off.
+     */
+    public void checkAdmitted(int eventId, String buyer, String token) throws NotAdmittedException {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = find(eventId, buyer, token);
+        if (entry == null) {
+            throw new NotAdmittedException("Join the waiting room of the event with id {" + eventId + "} first");
+        }
+        long ahead = entry.position();
+        if (ahead > 0) {
+            throw new NotAdmittedException("There are still " + ahead + " buyers ahead in the waiting room", ahead);
+        }
+        if (entry.isExpired(now, admissionTtlMillis)) {
+            entries.remove(entry.token, entry);
+            places.remove(new Place(eventId, buyer), entry);
+            throw new NotAdmittedException("The admission has expired, join the waiting room again");
+        }
+    }
+
+    @Scheduled(fixedRate = LEAK_INTERVAL_MS)
+    public void leak() {
+        leak(System.currentTimeMillis());
+    }
+
+    /**
+     * Admits as many waiting buyers of each room as the room's bucket has leaked since the last run.
+     */
+    public void leak(long nowMillis) {
+        for (Room room : rooms.values()) {
+            synchronized (room) {
+                room.refill(nowMillis, admissionsPerSecond);
+                room.admit(room.waiting());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = PRUNE_INTERVAL_MS, initialDelay = PRUNE_INTERVAL_MS)
+    public void prune() {
+        prune(System.currentTimeMillis());
+    }
+
+    public void prune(long nowMillis) {
+        entries.values().removeIf(entry -> entry.isExpired(nowMillis, admissionTtlMillis));
+        places.values().removeIf(entry -> entry.isExpired(nowMillis, admissionTtlMillis));
+        rooms.values().removeIf(room -> {
+            synchronized (room) {
+                room.closed = room.waiting() == 0 && nowMillis - room.lastJoinAt > admissionTtlMillis;
+                return room.closed;
+            }
+        });
+    }
+
+    public int queued() {
+        return entries.size();
+    }
+
+    private Entry find(int eventId, String buyer, String token) {
+        Entry entry = token != null ? entries.get(token) : null;
+        if (entry == null || entry.room.eventId != eventId || !entry.buyer.equals(buyer)) {
+            return null;
+        }
+        return entry;
+    }
+
+    private QueuePositionDto position(Entry entry, long nowMillis) {
+        long ahead = entry.position();
+        if (ahead == 0) {
+            entry.seeAdmitted(nowMillis);
+        }
+        return new QueuePositionDto(entry.token, entry.room.eventId, ahead, ahead == 0,
+                Math.ceilDiv(ahead, admissionsPerSecond));
+    }
+
+    /**
+     * One event's queue: the numbers drawn so far, the admission mark and the bucket's credit.
+     * Written under the room's lock, the mark is volatile so positions are read without it.
+     */
+    private static final class Room {
+        private final int eventId;
+        private final double capacity;
+        private long joined;
+        private volatile long admittedUpTo;
+        private double credit;
+        private long refilledAt;
+        private long lastJoinAt;
+        private boolean closed;
+
+        Room(int eventId, int admissionsPerSecond, long nowMillis) {
+            this.eventId = eventId;
+            this.capacity = admissionsPerSecond;
+            this.credit = capacity;
+            this.refilledAt = nowMillis;
+            this.lastJoinAt = nowMillis;
+        }
+
+        long waiting() {
+            return joined - admittedUpTo;
+        }
+
+        void refill(long nowMillis, int admissionsPerSecond) {
+            if (nowMillis > refilledAt) {
+                credit = Math.min(capacity, credit + (nowMillis - refilledAt) * admissionsPerSecond / 1_000.0);
+                refilledAt = nowMillis;
+            }
+        }
+
+        void admit(long wanted) {
+            long admitted = Math.min(wanted, Math.min(waiting(), (long) credit));
+            admittedUpTo += admitted;
+            credit -= admitted;
+        }
+    }
+
+    private record Place(int eventId, String buyer) {
+    }
+
+    private static final class Entry {
+        private final String token;
+        private final String buyer;
+        private final Room room;
+        private final long number;
+        // 0 until the admission is first seen, its validity starts then
+        private volatile long admittedAt;
+
+        Entry(String token, String buyer, Room room, long number) {
+            this.token = token;
+            this.buyer = buyer;
+            this.room = room;
+            this.number = number;
+        }
+
+        long position() {
+            return Math.max(0, number - room.admittedUpTo);
+        }
+
+        void seeAdmitted(long nowMillis) {
+            if (admittedAt == 0) {
+                admittedAt = nowMillis;
+            }
+        }
+
+        boolean isExpired(long nowMillis, long ttlMillis) {
+            if (position() > 0) {
+                return false;
+            }
+            seeAdmitted(nowMillis);
+            return nowMillis - admittedAt > ttlMillis;
+        }
+    }
+}
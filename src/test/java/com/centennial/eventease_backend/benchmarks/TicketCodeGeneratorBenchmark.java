@@ -0,0 +1,45 @@
+package com.centennial.eventease_backend.benchmarks;
+
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.services.implementations.TicketCodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ticket codes drawn per second by one thread, the figure sales are sized on. Not part of the
+ * unit tests, run with {@code ./mvnw -Pbenchmark test-compile exec:exec}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketCodeGeneratorBenchmark {
+
+    private TicketCodeGenerator generator;
+    private final char[] buffer = new char[TicketCodeGenerator.CODE_LENGTH];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new TicketCodeGenerator(new TicketProperties(false, 0), (nodeId, untilMillis) -> 0);
+    }
+
+    @Setup(Level.Iteration)
+    public void renewReservation() {
+        // Done by a scheduler in the application, a full sequence runs ahead of the clock
+        generator.renewReservation();
+    }
+
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public char[] nextCodeIntoBuffer() {
+        generator.nextCode(buffer, 0);
+        return buffer;
+    }
+}
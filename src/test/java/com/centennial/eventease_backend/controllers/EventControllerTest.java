@@ -1,8 +1,16 @@
 package com.centennial.eventease_backend.controllers;
 
+import com.centennial.eventease_backend.dto.BulkImportErrorDto;
+import com.centennial.eventease_backend.dto.BulkImportReportDto;
 import com.centennial.eventease_backend.dto.CreateEventDto;
+import com.centennial.eventease_backend.dto.CursorPageDto;
+import com.centennial.eventease_backend.dto.EventDataFormat;
 import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
+import com.centennial.eventease_backend.dto.EventFilter;
 import com.centennial.eventease_backend.dto.GetEventDto;
+import com.centennial.eventease_backend.dto.NearbyEventDto;
 import com.centennial.eventease_backend.exceptions.*;
 import com.centennial.eventease_backend.services.contracts.EventService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,23 +21,31 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -70,7 +86,7 @@ public class EventControllerTest {
         List<EventDto> events = Arrays.asList(event1, event2);
         Page<EventDto> page = new PageImpl<>(events);
 
-        when(eventService.getAll(anyInt(), anyInt(), isNull(), isNull(), isNull())).thenReturn(page);
+        when(eventService.getAll(anyInt(), anyInt(), any(EventFilter.class))).thenReturn(page);
 
         // Act & Assert
         mockMvc.perform(get("/api/events")
@@ -84,11 +100,105 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.content[1].title").value("Music Festival"));
     }
 
+    @Test
+    public void getAllEvents_ShouldTagResponseWithCatalogVersion() throws Exception {
+        // Arrange
+        when(eventService.getCatalogVersion()).thenReturn("1700000000000-4");
+        when(eventService.getAll(anyInt(), anyInt(), any(EventFilter.class))).thenReturn(Page.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1700000000000-4\""));
+    }
+
+    @Test
+    public void getAllEvents_WhenCatalogUnchanged_ShouldReturnNotModifiedWithoutCallingService() throws Exception {
+        // Arrange
+        when(eventService.getCatalogVersion()).thenReturn("1700000000000-4");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .header("If-None-Match", "\"1700000000000-4\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(eventService, never()).getAll(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    public void getAllEvents_WithDateRange_ShouldPassBoundsToService() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 31, 23, 59);
+        when(eventService.getAll(0, 10, new EventFilter(null, null, null, from, to, false))).thenReturn(Page.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-31T23:59:00")
+                        .param("upcoming", "false")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(eventService).getAll(0, 10, new EventFilter(null, null, null, from, to, false));
+    }
+
+    @Test
+    public void getAllEvents_WithReversedDateRange_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(eventService.getAll(anyInt(), anyInt(), any(EventFilter.class)))
+                .thenThrow(new InvalidDateTimeException("The start of the date range must not be after its end"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .param("from", "2030-02-01T00:00:00")
+                        .param("to", "2030-01-01T00:00:00")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Date Error"));
+    }
+
+    @Test
+    public void exportEvents_AsCsv_ShouldStreamTheExportAsAnAttachment() throws Exception {
+        // Arrange
+        when(eventService.export(new EventFilter("jazz", null, null, null, null, false), EventDataFormat.CSV))
+                .thenReturn(out -> out.write("id,title\n1,Jazz Night\n".getBytes(StandardCharsets.UTF_8)));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/events/export")
+                        .param("format", "CSV")
+                        .param("title", "jazz"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"events.csv\""))
+                .andExpect(content().string("id,title\n1,Jazz Night\n"));
+    }
+
+    @Test
+    public void exportEvents_WithReversedDateRange_ShouldReturnBadRequestBeforeStreaming() throws Exception {
+        // Arrange
+        when(eventService.export(any(EventFilter.class), eq(EventDataFormat.NDJSON)))
+                .thenThrow(new InvalidDateTimeException("The start of the date range must not be after its end"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/export")
+                        .param("from", "2030-02-01T00:00:00")
+                        .param("to", "2030-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Date Error"));
+    }
+
     @Test
     public void getAllEvents_WithDefaultPagination_ShouldUseDefaults() throws Exception {
         // Arrange
         Page<EventDto> emptyPage = Page.empty();
-        when(eventService.getAll(anyInt(), anyInt(), isNull(), isNull(), isNull())).thenReturn(emptyPage);
+        when(eventService.getAll(anyInt(), anyInt(), any(EventFilter.class))).thenReturn(emptyPage);
 
         // Act & Assert
         mockMvc.perform(get("/api/events")
@@ -100,7 +210,7 @@ public class EventControllerTest {
     @Test
     public void getAllEvents_WithNegativePage_ShouldReturnBadRequest() throws Exception {
         // Arrange
-        when(eventService.getAll(-1, 10, null, null, null))
+        when(eventService.getAll(eq(-1), eq(10), any(EventFilter.class)))
                 .thenThrow(new PageOutOfRangeException("Page number cannot be negative"));
 
         // Act & Assert
@@ -116,7 +226,7 @@ public class EventControllerTest {
     @Test
     public void getAllEvents_WithZeroSize_ShouldReturnBadRequest() throws Exception {
         // Arrange
-        when(eventService.getAll(0, 0, null, null, null))
+        when(eventService.getAll(eq(0), eq(0), any(EventFilter.class)))
                 .thenThrow(new PageOutOfRangeException("Page size must be greater than 0"));
 
         // Act & Assert
@@ -132,7 +242,7 @@ public class EventControllerTest {
     @Test
     public void getAllEvents_WithExcessiveSize_ShouldReturnBadRequest() throws Exception {
         // Arrange
-        when(eventService.getAll(0, 101, null, null, null))
+        when(eventService.getAll(eq(0), eq(101), any(EventFilter.class)))
                 .thenThrow(new PageOutOfRangeException("Page size cannot exceed 100"));
 
         // Act & Assert
@@ -152,7 +262,7 @@ public class EventControllerTest {
                 "Technology", "Convention Center", 250, 199.99f);
         Page<EventDto> page = new PageImpl<>(List.of(techEvent));
 
-        when(eventService.getAll(anyInt(), anyInt(), eq("Tech"), isNull(), isNull()))
+        when(eventService.getAll(anyInt(), anyInt(), eq(new EventFilter("Tech", null, null, null, null, true))))
                 .thenReturn(page);
 
         // Act & Assert
@@ -166,6 +276,163 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.content[0].title").value("Tech Conference"));
     }
 
+    @Test
+    public void getAllEvents_WithSliceMode_ShouldReturnSliceWithoutTotals() throws Exception {
+        // Arrange
+        EventDto event = new EventDto(1, "Tech Conference", "Annual tech event", null,
+                "Technology", "Convention Center", 250, 199.99f);
+        when(eventService.getSlice(eq(0), eq(10), eq(new EventFilter(null, null, null, null, null, true))))
+                .thenReturn(new SliceImpl<>(List.of(event), PageRequest.of(0, 10), true));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .param("slice", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        verify(eventService, never()).getAll(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    public void getAllEvents_WithCursor_ShouldReturnCursorPage() throws Exception {
+        // Arrange
+        EventDto event = new EventDto(1, "Tech Conference", "Annual tech event", null,
+                "Technology", "Convention Center", 250, 199.99f);
+        CursorPageDto<EventDto> cursorPage = new CursorPageDto<>(List.of(event), 1, "next-cursor", true);
+
+        when(eventService.getAllAfter(eq(""), eq(1), any(EventFilter.class))).thenReturn(cursorPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .param("cursor", "")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    public void getAllEvents_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(eventService.getAllAfter(eq("bogus"), anyInt(), any(EventFilter.class)))
+                .thenThrow(new InvalidCursorException("Invalid cursor: bogus"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events")
+                        .param("cursor", "bogus")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Cursor Error"));
+    }
+
+    @Test
+    public void getEventFacets_ShouldReturnCountsForFilter() throws Exception {
+        // Arrange
+        Map<String, Long> categories = new LinkedHashMap<>();
+        categories.put("Music", 3L);
+        categories.put("Technology", 1L);
+        when(eventService.getFacets(new EventFilter(null, "town", null, null, null, true)))
+                .thenReturn(new EventFacetsDto(4, categories, Map.of("Downtown Club", 4L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/facets")
+                        .param("location", "town")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.categories.Music").value(3))
+                .andExpect(jsonPath("$.locations['Downtown Club']").value(4));
+    }
+
+    @Test
+    public void getEventFacets_WithDateRange_ShouldPassItToTheService() throws Exception {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 31, 23, 59);
+        when(eventService.getFacets(new EventFilter(null, null, null, from, to, false)))
+                .thenReturn(new EventFacetsDto(2, Map.of("Music", 2L), Map.of("Downtown Club", 2L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/facets")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-31T23:59:00")
+                        .param("upcoming", "false")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2));
+    }
+
+    @Test
+    public void suggestEvents_ShouldReturnSuggestions() throws Exception {
+        // Arrange
+        when(eventService.suggest(eq("jaz"), eq(10))).thenReturn(List.of(
+                new EventSuggestionDto("Jazz Night", EventSuggestionDto.Field.TITLE, 2),
+                new EventSuggestionDto("Jazz", EventSuggestionDto.Field.CATEGORY, 1)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/suggest")
+                        .param("prefix", "jaz")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].text").value("Jazz Night"))
+                .andExpect(jsonPath("$[0].field").value("TITLE"))
+                .andExpect(jsonPath("$[1].upcomingEvents").value(1));
+    }
+
+    @Test
+    public void searchEvents_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        EventDto event = new EventDto(2, "Jazz Night", "An evening of smooth jazz", null,
+                "Music", "Downtown Club", 75, 35f);
+        when(eventService.search(eq("jazz"), eq(0), eq(10))).thenReturn(new PageImpl<>(List.of(event)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/search")
+                        .param("q", "jazz")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Jazz Night"));
+    }
+
+    @Test
+    public void getNearbyEvents_ShouldReturnEventsWithDistance() throws Exception {
+        // Arrange
+        EventDto event = new EventDto(2, "Jazz Night", "An evening of smooth jazz", null,
+                "Music", "Downtown Club", 75, 35f);
+        when(eventService.getNearby(43.65, -79.38, 5.0, 20, true)).thenReturn(List.of(new NearbyEventDto(event, 1.25)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/nearby")
+                        .param("lat", "43.65")
+                        .param("lng", "-79.38")
+                        .param("radiusKm", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].event.title").value("Jazz Night"))
+                .andExpect(jsonPath("$[0].distanceKm").value(1.25));
+    }
+
+    @Test
+    public void getNearbyEvents_WithInvalidCoordinates_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(eventService.getNearby(anyDouble(), anyDouble(), anyDouble(), anyInt(), anyBoolean()))
+                .thenThrow(new InvalidCoordinatesException("Latitude must be between -90 and 90"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/nearby")
+                        .param("lat", "123")
+                        .param("lng", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Coordinates Error"));
+    }
+
     @Test
     public void getEvent_WhenEventExists_ShouldReturnEvent() throws Exception {
         // Arrange
@@ -183,6 +450,35 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Event"));
     }
 
+    @Test
+    public void getEvent_WhenVersionUnchanged_ShouldReturnNotModifiedWithoutCallingService() throws Exception {
+        // Arrange
+        when(eventService.getVersion(1)).thenReturn("1700000000000-2");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/{id}", 1)
+                        .header("If-None-Match", "\"1700000000000-2\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+        verify(eventService, never()).get(anyInt());
+    }
+
+    @Test
+    public void getEvent_WhenVersionChanged_ShouldReturnBodyWithNewTag() throws Exception {
+        // Arrange
+        GetEventDto mockEvent = new GetEventDto(1, "Test Event", "Description", null, "category test", LocalDateTime.now(), "test location", 30, 200);
+        when(eventService.getVersion(1)).thenReturn("1700000000000-3");
+        when(eventService.get(1)).thenReturn(Optional.of(mockEvent));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/{id}", 1)
+                        .header("If-None-Match", "\"1700000000000-2\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1700000000000-3\""))
+                .andExpect(jsonPath("$.title").value("Test Event"));
+    }
+
     @Test
     public void getEvent_WhenEventNotExists_ShouldReturnNotFound() throws Exception {
         // Arrange
@@ -205,6 +501,52 @@ public class EventControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @WithMockUser(roles = "MEMBER")
+    public void importEvents_WithCsv_ShouldReturnTheReport() throws Exception {
+        // Arrange
+        String csv = "title,category,dateTime,location,totalTickets,pricePerTicket\nJazz Night,Music,2031-03-01T20:00:00,Blue Room,80,20.0\n";
+        BulkImportReportDto report = new BulkImportReportDto(1, 0, List.of(new BulkImportErrorDto(2, "An event already exists at this location and time")));
+        when(eventService.importEvents(eq(1), eq(EventDataFormat.CSV), any())).thenReturn(report);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/bulk")
+                        .param("memberId", "1")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(1))
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "MEMBER")
+    public void importEvents_WhenFileIsRejected_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(eventService.importEvents(eq(1), eq(EventDataFormat.NDJSON), any()))
+                .thenThrow(new InvalidImportException("An import cannot exceed 10000 events"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/bulk")
+                        .param("memberId", "1")
+                        .contentType("application/x-ndjson")
+                        .content("{}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Import Error"));
+    }
+
+    @Test
+    public void importEvents_WithoutAuthentication_ShouldBeRejected() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/events/bulk")
+                        .param("memberId", "1")
+                        .contentType("text/csv")
+                        .content("title\n"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(eventService);
+    }
+
     @Test
     @WithMockUser(roles = "MEMBER")
     public void saveEvent_ShouldReturnCreated_WhenValidRequest() throws Exception {
@@ -370,6 +712,24 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$.content[1].title").value("User Event 2"));
     }
 
+    @Test
+    public void getAllEventsByUsername_WithCursor_ShouldReturnCursorPage() throws Exception {
+        // Arrange
+        String username = "testuser";
+        EventDto event = new EventDto(1, "User Event 1", "Description 1", null,
+                "Category", "Location", 100, 50.0f);
+        when(eventService.getAllByUsernameAfter(eq(username), eq("abc"), eq(10)))
+                .thenReturn(new CursorPageDto<>(List.of(event), 10, "def", true));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/member/{username}", username)
+                        .param("cursor", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("User Event 1"))
+                .andExpect(jsonPath("$.nextCursor").value("def"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     public void getAllEventsByUsername_WithDefaultPagination_ShouldUseDefaults() throws Exception {
         // Arrange
@@ -0,0 +1,241 @@
+package com.centennial.eventease_backend.controllers;
+
+import com.centennial.eventease_backend.dto.ConfirmHoldDto;
+import com.centennial.eventease_backend.dto.HoldTicketsDto;
+import com.centennial.eventease_backend.dto.PurchaseTicketsDto;
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.dto.TicketHoldDto;
+import com.centennial.eventease_backend.dto.TicketPurchaseDto;
+import com.centennial.eventease_backend.exceptions.EventNotFoundException;
+import com.centennial.eventease_backend.exceptions.HoldNotFoundException;
+import com.centennial.eventease_backend.exceptions.InvalidPurchaseException;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.QueueTokenNotFoundException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.services.contracts.TicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@WithMockUser(username = "jane")
+public class TicketControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TicketService ticketService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final PurchaseTicketsDto purchase = new PurchaseTicketsDto(2, "Jane Doe", "jane@example.com");
+
+    @Test
+    public void purchaseTickets_ShouldReturnCreated() throws Exception {
+        // Arrange
+        when(ticketService.purchase(1, "jane", null, purchase))
+                .thenReturn(new TicketPurchaseDto(1, List.of("A1", "A2"), LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(purchase)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.eventId").value(1))
+                .andExpect(jsonPath("$.ticketCodes[1]").value("A2"));
+    }
+
+    @Test
+    @WithAnonymousUser
+    public void purchaseTickets_WithoutLogin_ShouldReturnUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(purchase)))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(ticketService);
+    }
+
+    @Test
+    @WithAnonymousUser
+    public void holdsAndQueue_WithoutLogin_ShouldReturnUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/holds").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HoldTicketsDto(2))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/api/events/1/holds/hold-1").with(csrf()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/events/1/queue").with(csrf()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/events/1/queue/token-1"))
+                .andExpect(status().isUnauthorized());
+        verifyNoInteractions(ticketService);
+    }
+
+    @Test
+    public void purchaseTickets_WhenSoldOut_ShouldReturnConflict() throws Exception {
+        // Arrange
+        when(ticketService.purchase(eq(1), eq("jane"), any(), any(PurchaseTicketsDto.class)))
+                .thenThrow(new TicketsUnavailableException("Only 1 tickets are left"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(purchase)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.title").value("Tickets Unavailable Error"));
+    }
+
+    @Test
+    public void purchaseTickets_WhenInvalid_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        when(ticketService.purchase(eq(1), eq("jane"), any(), any(PurchaseTicketsDto.class)))
+                .thenThrow(new InvalidPurchaseException("Between 1 and 10 tickets can be bought at once"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(purchase)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.title").value("Invalid Purchase Error"));
+    }
+
+    @Test
+    public void purchaseTickets_WhenEventDoesNotExist_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(ticketService.purchase(eq(99), eq("jane"), any(), any(PurchaseTicketsDto.class)))
+                .thenThrow(new EventNotFoundException("The event with id {99} was not found"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/99/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(purchase)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void holdTickets_ShouldReturnCreated() throws Exception {
+        // Arrange
+        when(ticketService.hold(1, "jane", null, new HoldTicketsDto(2)))
+                .thenReturn(new TicketHoldDto("hold-1", 1, 2, LocalDateTime.now().plusMinutes(10)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/holds").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new HoldTicketsDto(2))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.holdId").value("hold-1"))
+                .andExpect(jsonPath("$.quantity").value(2));
+    }
+
+    @Test
+    public void confirmHold_ShouldReturnCreated() throws Exception {
+        // Arrange
+        ConfirmHoldDto confirmation = new ConfirmHoldDto("Jane Doe", "jane@example.com");
+        when(ticketService.confirmHold(1, "jane", "hold-1", confirmation))
+                .thenReturn(new TicketPurchaseDto(1, List.of("A1", "A2"), LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/holds/hold-1/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(confirmation)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.ticketCodes.length()").value(2));
+    }
+
+    @Test
+    public void confirmHold_WhenExpired_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(ticketService.confirmHold(eq(1), eq("jane"), eq("hold-1"), any(ConfirmHoldDto.class)))
+                .thenThrow(new HoldNotFoundException("The hold {hold-1} was not found or has expired"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/holds/hold-1/tickets").with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ConfirmHoldDto("Jane Doe", "jane@example.com"))))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Hold Not Found Error"));
+    }
+
+    @Test
+    public void releaseHold_ShouldReturnNoContent() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/events/1/holds/hold-1").with(csrf()))
+                .andExpect(status().isNoContent());
+        verify(ticketService).releaseHold(1, "jane", "hold-1");
+    }
+
+    @Test
+    public void joinQueue_ShouldReturnCreated() throws Exception {
+        // Arrange
+        when(ticketService.joinQueue(1, "jane")).thenReturn(new QueuePositionDto("token-1", 1, 42, false, 1));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/queue").with(csrf()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.token").value("token-1"))
+                .andExpect(jsonPath("$.position").value(42))
+                .andExpect(jsonPath("$.admitted").value(false));
+    }
+
+    @Test
+    public void getQueuePosition_ShouldReturnThePosition() throws Exception {
+        // Arrange
+        when(ticketService.getQueuePosition(1, "jane", "token-1")).thenReturn(new QueuePositionDto("token-1", 1, 0, true, 0));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/1/queue/token-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.admitted").value(true));
+    }
+
+    @Test
+    public void getQueuePosition_WhenTokenIsUnknown_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(ticketService.getQueuePosition(1, "jane", "unknown"))
+                .thenThrow(new QueueTokenNotFoundException("The queue token {unknown} was not found or has expired"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/events/1/queue/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title").value("Queue Token Not Found Error"));
+    }
+
+    @Test
+    public void purchaseTickets_ShouldPassTheQueueToken() throws Exception {
+        // Arrange
+        when(ticketService.purchase(1, "jane", "token-1", purchase))
+                .thenThrow(new NotAdmittedException("There are still 7 buyers ahead in the waiting room", 7));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/events/1/tickets").with(csrf())
+                        .header("Queue-Token", "token-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(purchase)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.title").value("Not Admitted Error"))
+                .andExpect(jsonPath("$.position").value(7));
+    }
+}
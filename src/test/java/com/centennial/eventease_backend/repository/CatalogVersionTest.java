@@ -0,0 +1,60 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.repository.implementations.CatalogVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogVersionTest {
+
+    @Test
+    void bump_WithoutTransaction_ShouldMoveCatalogAndEventVersions() {
+        // Arrange
+        CatalogVersion versions = new CatalogVersion();
+        String catalogBefore = versions.current();
+        String eventBefore = versions.of(1);
+        String otherBefore = versions.of(2);
+
+        // Act
+        versions.bump(1);
+
+        // Assert
+        assertNotEquals(catalogBefore, versions.current());
+        assertNotEquals(eventBefore, versions.of(1));
+        assertEquals(otherBefore, versions.of(2));
+    }
+
+    @Test
+    void bump_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        CatalogVersion versions = new CatalogVersion();
+        String before = versions.current();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            versions.bump(1);
+
+            // Assert
+            assertEquals(before, versions.current());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNotEquals(before, versions.current());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void current_ShouldDifferBetweenInstances() throws InterruptedException {
+        // Arrange
+        CatalogVersion first = new CatalogVersion();
+        Thread.sleep(2);
+
+        // Act
+        CatalogVersion second = new CatalogVersion();
+
+        // Assert
+        assertNotEquals(first.current(), second.current());
+    }
+}
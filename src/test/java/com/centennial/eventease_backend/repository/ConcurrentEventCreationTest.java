@@ -0,0 +1,146 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.dto.CreateEventDto;
+import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.exceptions.EventConflictException;
+import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.services.contracts.EventService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates go through the service and commit, as concurrent requests would, so only the
+ * unique slot constraint can keep two of them from taking the same place and time.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ConcurrentEventCreationTest {
+
+    private static final int SLOTS = 20;
+    private static final int CREATES_PER_SLOT = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("eventServiceImpl")
+    private EventService eventService;
+
+    @Autowired
+    @Qualifier("memberDaoImpl")
+    private MemberDao memberDao;
+
+    private TransactionTemplate transaction;
+    private Member member;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        member = new Member("Slot", "Keeper", "5551234567", LocalDate.now(), "slotkeeper",
+                "slot.keeper@example.com", "123456789012", "123456789", "Bank", "Canada");
+        transaction.executeWithoutResult(status -> memberDao.save(member));
+        start = LocalDateTime.now().plusDays(30).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Event e WHERE e.member.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Member m WHERE m.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void save_WhenManyCreatesRaceForTheSameSlots_ShouldKeepOneEventPerSlot() throws Exception {
+        // Arrange
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> creates = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < SLOTS * CREATES_PER_SLOT; i++) {
+                int slot = i % SLOTS;
+                creates.add(executor.submit(() -> {
+                    go.await();
+                    try {
+                        eventService.save(create(slot));
+                        created.incrementAndGet();
+                    } catch (EventConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> create : creates) {
+                create.get();
+            }
+        }
+
+        // Assert
+        assertEquals(SLOTS, created.get());
+        assertEquals(SLOTS * (CREATES_PER_SLOT - 1), conflicts.get());
+        Long distinctSlots = transaction.execute(status -> entityManager.createQuery(
+                        "SELECT COUNT(DISTINCT e.location) FROM Event e WHERE e.member.memberId = :id", Long.class)
+                .setParameter("id", member.getMemberId())
+                .getSingleResult());
+        Long events = transaction.execute(status -> entityManager.createQuery(
+                        "SELECT COUNT(e) FROM Event e WHERE e.member.memberId = :id", Long.class)
+                .setParameter("id", member.getMemberId())
+                .getSingleResult());
+        assertEquals(SLOTS, events);
+        assertEquals(SLOTS, distinctSlots);
+    }
+
+    @Test
+    void save_ShouldInsertWithoutLookingUpTheSlotFirst() throws Exception {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        eventService.save(create(0));
+        statistics.clear();
+
+        // Act
+        eventService.save(create(1));
+
+        // Assert
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+
+    private CreateEventDto create(int slot) {
+        return new CreateEventDto("Slot " + slot, "Raced for", null, "Test", start.plusHours(slot),
+                "Slot Hall " + slot, 100, 10.0f, member.getMemberId(), null, null);
+    }
+}
@@ -1,22 +1,39 @@
 package com.centennial.eventease_backend.repository;
 
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetCountDto;
+import com.centennial.eventease_backend.dto.EventFacetRowDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSlotDto;
+import com.centennial.eventease_backend.dto.GeoEventDto;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
 import com.centennial.eventease_backend.entities.Event;
 import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.exceptions.EventConflictException;
 import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.implementations.CatalogVersion;
 import com.centennial.eventease_backend.repository.implementations.EventDaoImpl;
+import com.centennial.eventease_backend.repository.implementations.ParallelCount;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,11 +45,20 @@ public class EventDaoImplTest {
     @Autowired
     private EntityManager entityManager;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ParallelCount parallelCount;
+
     private EventDao eventDao;
 
     @BeforeEach
     void setUp() {
-        eventDao = new EventDaoImpl(entityManager);
+        eventDao = new EventDaoImpl(entityManager, eventPublisher, catalogVersion, parallelCount);
     }
 
     @Test
@@ -48,14 +74,298 @@ public class EventDaoImplTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act
-        Page<Event> result = eventDao.findAllOrderedByDate(null, null, null, pageable);
+        Page<EventDto> result = eventDao.findAllOrderedByDate(new EventFilter(null, null, null), pageable);
 
         // Assert
         assertNotNull(result);
         assertNotNull(result.getTotalElements());
         assertNotNull(result.getTotalPages());
-        assertEquals("Event 2", result.getContent().get(0).getTitle()); // Should be ordered by date descending
-        assertEquals("Event 1", result.getContent().get(1).getTitle());
+        assertEquals("Event 2", result.getContent().get(0).title()); // Should be ordered by date descending
+        assertEquals("Event 1", result.getContent().get(1).title());
+    }
+
+    @Test
+    @Transactional
+    void findAllOrderedByDate_ShouldProjectUnmanagedDtosWithTicketsLeftComputedInQuery() {
+        // Arrange
+        Event event = createTestEvent("Projected", LocalDateTime.now().plusDays(1));
+        event.setTicketsSold(30);
+        entityManager.persist(event);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Page<EventDto> result = eventDao.findAllOrderedByDate(new EventFilter("Projected", null, null), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(1, result.getContent().size());
+        assertEquals(70, result.getContent().getFirst().ticketsLeft());
+        assertEquals(50.0f, result.getContent().getFirst().pricePerTicket());
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount(),
+                "Listing should not load entities into the persistence context");
+    }
+
+    @Test
+    @Transactional
+    void findAllOrderedByDate_ShouldApplyEveryFilterCombination() {
+        // Arrange
+        Event match = createTestEvent("Shape Jazz", LocalDateTime.now().plusDays(1));
+        match.setLocation("Shape Hall");
+        match.setCategory("Shape Music");
+        Event other = createTestEvent("Shape Rock", LocalDateTime.now().plusDays(2));
+        other.setLocation("Shape Park");
+        other.setCategory("Shape Sports");
+        entityManager.persist(match);
+        entityManager.persist(other);
+        entityManager.flush();
+
+        // Act & Assert
+        assertEquals(2, eventDao.findAllOrderedByDate(new EventFilter("shape", null, null), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, eventDao.findAllOrderedByDate(new EventFilter("shape j", null, null), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, eventDao.findAllOrderedByDate(new EventFilter(null, "hall", null), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, eventDao.findAllOrderedByDate(new EventFilter(null, null, "sports"), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(1, eventDao.findAllOrderedByDate(new EventFilter("Shape", "shape", "music"), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(0, eventDao.findAllOrderedByDate(new EventFilter("Shape", "park", "music"), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(0, eventDao.findAllOrderedByDate(new EventFilter("Jazz", " ", ""), PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @Transactional
+    void findAllOrderedByDate_ShouldApplyDateRangeAndUpcomingBounds() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Event past = createTestEvent("Range Past", now.minusDays(2));
+        Event soon = createTestEvent("Range Soon", now.plusDays(2));
+        Event later = createTestEvent("Range Later", now.plusDays(20));
+        entityManager.persist(past);
+        entityManager.persist(soon);
+        entityManager.persist(later);
+        entityManager.flush();
+
+        // Act
+        List<String> all = titles(new EventFilter("Range", null, null, null, null, false));
+        List<String> upcoming = titles(new EventFilter("Range", null, null, null, null, true));
+        List<String> window = titles(new EventFilter("Range", null, null, now.minusDays(3), now.plusDays(3), false));
+        List<String> upcomingWindow = titles(new EventFilter("Range", null, null, now.minusDays(3), now.plusDays(3), true));
+
+        // Assert
+        assertEquals(List.of("Range Later", "Range Soon", "Range Past"), all);
+        assertEquals(List.of("Range Later", "Range Soon"), upcoming);
+        assertEquals(List.of("Range Soon", "Range Past"), window);
+        assertEquals(List.of("Range Soon"), upcomingWindow);
+    }
+
+    @Test
+    @Transactional
+    void forEachOrderedByDate_ShouldVisitMatchesInListingOrderAndDetachThem() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Event past = createTestEvent("Export Past", now.minusDays(1));
+        Event first = createTestEvent("Export Early", now.plusDays(1));
+        Event second = createTestEvent("Export Late", now.plusDays(2));
+        Event other = createTestEvent("Unrelated", now.plusDays(3));
+        entityManager.persist(past);
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.persist(other);
+        entityManager.flush();
+        entityManager.clear();
+        List<String> titles = new ArrayList<>();
+        List<Boolean> managed = new ArrayList<>();
+
+        // Act
+        eventDao.forEachOrderedByDate(new EventFilter("export", null, null, null, null, false), event -> {
+            titles.add(event.getTitle());
+            managed.add(entityManager.contains(event));
+        });
+
+        // Assert
+        assertEquals(List.of("Export Late", "Export Early", "Export Past"), titles);
+        assertEquals(List.of(true, true, true), managed);
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    @Transactional
+    void saveAll_ShouldInsertEveryEventAndLeaveTheContextEmpty() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.now().plusDays(30).withNano(0);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            events.add(createTestEvent("Imported " + i, start.plusHours(i)));
+        }
+
+        // Act
+        eventDao.saveAll(events);
+
+        // Assert
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        assertEquals(120, events.stream().map(Event::getId).filter(id -> id > 0).distinct().count());
+        assertEquals("IMPORTED 119", entityManager.find(Event.class, events.getLast().getId()).getTitleNorm());
+    }
+
+    @Test
+    @Transactional
+    void findTakenSlots_ShouldReturnTheSlotsOfTheGivenDates() {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(40).withNano(0);
+        Event event = createTestEvent("Slot Holder", dateTime);
+        Event other = createTestEvent("Other Day", dateTime.plusDays(1));
+        entityManager.persist(event);
+        entityManager.persist(other);
+        entityManager.flush();
+
+        // Act
+        List<EventSlotDto> result = eventDao.findTakenSlots(List.of(dateTime, dateTime.plusHours(1)));
+
+        // Assert
+        assertEquals(List.of(new EventSlotDto(dateTime, "Test Location")), result);
+    }
+
+    @Test
+    @Transactional
+    void findUpcomingKeys_ShouldOnlyReturnFutureEvents() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Event past = createTestEvent("Key Past", now.minusDays(1));
+        Event future = createTestEvent("Key Future", now.plusDays(1).withNano(0));
+        entityManager.persist(past);
+        entityManager.persist(future);
+        entityManager.flush();
+
+        // Act
+        List<EventCursor> result = eventDao.findUpcomingKeys(now);
+
+        // Assert
+        assertTrue(result.contains(new EventCursor(future.getDateTime(), future.getId())));
+        assertTrue(result.stream().noneMatch(key -> key.id() == past.getId()));
+    }
+
+    @Test
+    @Transactional
+    void save_ShouldMaintainNormalizedFilterColumns() throws EventConflictException {
+        // Arrange
+        Event event = createTestEvent("Jazz Night", LocalDateTime.now().plusDays(1));
+        event.setLocation("Downtown Club");
+        event.setCategory("Music");
+
+        // Act
+        eventDao.save(event);
+        event.setTitle("Jazz Brunch");
+        entityManager.flush();
+
+        // Assert
+        Object[] row = (Object[]) entityManager.createNativeQuery(
+                        "SELECT TITLE_NORM, LOCATION_NORM, CATEGORY_NORM FROM EVENTS WHERE EVENT_ID = :id")
+                .setParameter("id", event.getId())
+                .getSingleResult();
+        assertArrayEquals(new Object[]{"JAZZ BRUNCH", "DOWNTOWN CLUB", "MUSIC"}, row);
+    }
+
+    @Test
+    @Transactional
+    void titlePrefixFilter_ShouldBeAnIndexRangeScan() {
+        // Act
+        String plan = (String) entityManager.createNativeQuery(
+                        "EXPLAIN SELECT EVENT_ID FROM EVENTS WHERE TITLE_NORM LIKE 'JAZZ%'")
+                .getSingleResult();
+
+        // Assert
+        assertTrue(plan.contains("IDX_EVENTS_TITLE_NORM"), plan);
+        assertTrue(plan.contains("TITLE_NORM >= 'JAZZ'"), plan);
+    }
+
+    @Test
+    @Transactional
+    void findAllOrderedByDate_ShouldReuseCachedTotalUntilSaveInvalidatesIt() throws EventConflictException {
+        // Arrange
+        entityManager.persist(createTestEvent("Cached 1", LocalDateTime.now().plusDays(1)));
+        entityManager.persist(createTestEvent("Cached 2", LocalDateTime.now().plusDays(2)));
+        entityManager.flush();
+        Pageable pageable = PageRequest.of(0, 1);
+        long initialTotal = eventDao.findAllOrderedByDate(new EventFilter("Cached", null, null), pageable).getTotalElements();
+
+        // Act - a row written behind the DAO's back is not seen until the total is invalidated
+        entityManager.persist(createTestEvent("Cached 3", LocalDateTime.now().plusDays(3)));
+        entityManager.flush();
+        long cachedTotal = eventDao.findAllOrderedByDate(new EventFilter("Cached", null, null), pageable).getTotalElements();
+        eventDao.save(createTestEvent("Cached 4", LocalDateTime.now().plusDays(4)));
+        long refreshedTotal = eventDao.findAllOrderedByDate(new EventFilter("Cached", null, null), pageable).getTotalElements();
+
+        // Assert
+        assertEquals(2, initialTotal);
+        assertEquals(2, cachedTotal);
+        assertEquals(4, refreshedTotal);
+    }
+
+    @Test
+    @Transactional
+    void findSliceOrderedByDate_ShouldReportNextSliceWithoutCounting() {
+        // Arrange
+        entityManager.persist(createTestEvent("Slice 1", LocalDateTime.now().plusDays(1)));
+        entityManager.persist(createTestEvent("Slice 2", LocalDateTime.now().plusDays(2)));
+        entityManager.persist(createTestEvent("Slice 3", LocalDateTime.now().plusDays(3)));
+        entityManager.flush();
+
+        // Act
+        Slice<EventDto> first = eventDao.findSliceOrderedByDate(new EventFilter("Slice", null, null), PageRequest.of(0, 2));
+        Slice<EventDto> last = eventDao.findSliceOrderedByDate(new EventFilter("Slice", null, null), PageRequest.of(1, 2));
+
+        // Assert
+        assertEquals(2, first.getNumberOfElements());
+        assertTrue(first.hasNext());
+        assertEquals("Slice 3", first.getContent().getFirst().title());
+        assertEquals(1, last.getNumberOfElements());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    @Transactional
+    void findAllOrderedByDateAfter_ShouldSeekPastCursorWithoutOverlap() {
+        // Arrange - two events share a dateTime so the id has to break the tie
+        LocalDateTime sameTime = LocalDateTime.now().plusDays(5).withNano(0);
+        Event newest = createTestEvent("Newest", LocalDateTime.now().plusDays(10).withNano(0));
+        Event tieA = createTestEvent("Tie A", sameTime);
+        Event tieB = createTestEvent("Tie B", sameTime);
+        tieB.setLocation("Other Location");
+        Event oldest = createTestEvent("Oldest", LocalDateTime.now().plusDays(1).withNano(0));
+        entityManager.persist(newest);
+        entityManager.persist(tieA);
+        entityManager.persist(tieB);
+        entityManager.persist(oldest);
+        entityManager.flush();
+
+        // Act
+        List<Event> firstPage = eventDao.findAllOrderedByDateAfter(new EventFilter(null, null, null), null, 2);
+        Event last = firstPage.getLast();
+        List<Event> secondPage = eventDao.findAllOrderedByDateAfter(new EventFilter(null, null, null),
+                new EventCursor(last.getDateTime(), last.getId()), 2);
+
+        // Assert
+        assertEquals(2, firstPage.size());
+        assertEquals("Newest", firstPage.get(0).getTitle());
+        assertEquals(tieB.getId(), firstPage.get(1).getId(), "Higher id comes first on equal dateTime");
+        assertEquals(2, secondPage.size());
+        assertEquals(tieA.getId(), secondPage.get(0).getId());
+        assertEquals("Oldest", secondPage.get(1).getTitle());
+    }
+
+    @Test
+    @Transactional
+    void findAllOrderedByDateAfter_ShouldApplyFilters() {
+        // Arrange
+        Event match = createTestEvent("Jazz Night", LocalDateTime.now().plusDays(1));
+        Event other = createTestEvent("Rock Night", LocalDateTime.now().plusDays(2));
+        entityManager.persist(match);
+        entityManager.persist(other);
+        entityManager.flush();
+
+        // Act
+        List<Event> result = eventDao.findAllOrderedByDateAfter(new EventFilter("jazz", null, null), null, 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Jazz Night", result.getFirst().getTitle());
     }
 
     @Test
@@ -75,6 +385,148 @@ public class EventDaoImplTest {
         assertEquals(testEvent.getTitle(), result.get().getTitle());
     }
 
+    @Test
+    @Transactional
+    void findAllByIdsOrderedByDate_ShouldOnlyReturnRequestedEventsInListingOrder() {
+        // Arrange
+        Event older = createTestEvent("Older", LocalDateTime.now().plusDays(1));
+        Event newer = createTestEvent("Newer", LocalDateTime.now().plusDays(2));
+        Event skipped = createTestEvent("Skipped", LocalDateTime.now().plusDays(3));
+        entityManager.persist(older);
+        entityManager.persist(newer);
+        entityManager.persist(skipped);
+        entityManager.flush();
+
+        // Act
+        List<EventDto> result = eventDao.findAllByIdsOrderedByDate(List.of(older.getId(), newer.getId()));
+
+        // Assert
+        assertEquals(List.of("Newer", "Older"), result.stream().map(EventDto::title).toList());
+        assertTrue(eventDao.findAllByIdsOrderedByDate(List.of()).isEmpty());
+    }
+
+    @Test
+    @Transactional
+    void findIndexedEventsAfterId_ShouldPageThroughSearchFieldsById() {
+        // Arrange
+        Event first = createTestEvent("First", LocalDateTime.now().plusDays(1));
+        Event second = createTestEvent("Second", LocalDateTime.now().plusDays(2));
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+
+        // Act
+        List<IndexedEventDto> result = eventDao.findIndexedEventsAfterId(first.getId(), 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(second.getId(), result.getFirst().id());
+        assertEquals("Second", result.getFirst().title());
+        assertEquals("Test Location", result.getFirst().location());
+    }
+
+    @Test
+    @Transactional
+    void findAllUpdatedAfter_ShouldPageThroughEventsInUpdateOrder() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+        Event first = createTestEvent("Updated First", LocalDateTime.now().plusDays(1));
+        Event second = createTestEvent("Updated Second", LocalDateTime.now().plusDays(2));
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.flush();
+        entityManager.clear();
+        List<Integer> ids = List.of(first.getId(), second.getId());
+
+        // Act
+        List<Event> all = eventDao.findAllUpdatedAfter(before, 0, 1_000).stream()
+                .filter(event -> ids.contains(event.getId()))
+                .toList();
+        Event firstRead = all.getFirst();
+        List<Event> afterFirst = eventDao.findAllUpdatedAfter(firstRead.getUpdatedAt(), firstRead.getId(), 1_000).stream()
+                .filter(event -> ids.contains(event.getId()))
+                .toList();
+
+        // Assert
+        assertEquals(List.of(first.getId(), second.getId()), all.stream().map(Event::getId).toList());
+        assertNotNull(firstRead.getUpdatedAt());
+        assertEquals(List.of(second.getId()), afterFirst.stream().map(Event::getId).toList());
+    }
+
+    @Test
+    @Transactional
+    void findGeoEventsAfterId_ShouldOnlyReturnLocatedEvents() {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.of(2031, 5, 1, 19, 0);
+        Event located = createTestEvent("Located", dateTime);
+        located.setLatitude(43.65);
+        located.setLongitude(-79.38);
+        Event unlocated = createTestEvent("Unlocated", LocalDateTime.now().plusDays(2));
+        entityManager.persist(located);
+        entityManager.persist(unlocated);
+        entityManager.flush();
+
+        // Act
+        List<GeoEventDto> result = eventDao.findGeoEventsAfterId(located.getId() - 1, 10);
+
+        // Assert
+        assertEquals(List.of(new GeoEventDto(located.getId(), 43.65, -79.38, dateTime)), result);
+    }
+
+    @Test
+    @Transactional
+    void findFacetRows_ShouldReturnTheFacetColumnsOfEveryEvent() {
+        // Arrange
+        LocalDateTime firstDate = LocalDateTime.of(2031, 4, 1, 19, 0);
+        LocalDateTime secondDate = LocalDateTime.of(2031, 4, 2, 19, 0);
+        Event first = createTestEvent("Facet Night", firstDate);
+        Event second = createTestEvent("Facet Fair", secondDate);
+        for (Event event : List.of(first, second)) {
+            event.setCategory("Facet Category");
+            entityManager.persist(event);
+        }
+        entityManager.flush();
+
+        // Act
+        List<EventFacetRowDto> result = eventDao.findFacetRows().stream()
+                .filter(row -> row.category().equals("Facet Category"))
+                .sorted(Comparator.comparing(EventFacetRowDto::id))
+                .toList();
+
+        // Assert
+        assertEquals(List.of(
+                new EventFacetRowDto(first.getId(), "Facet Category", "Test Location", "Facet Night", firstDate),
+                new EventFacetRowDto(second.getId(), "Facet Category", "Test Location", "Facet Fair", secondDate)
+        ), result);
+    }
+
+    @Test
+    @Transactional
+    void countFacets_ShouldGroupByTheNormalizedColumnsInsideTheDateRange() {
+        // Arrange
+        Event first = createTestEvent("Grouped Night", LocalDateTime.of(2032, 6, 1, 19, 0));
+        Event second = createTestEvent("Grouped Fair", LocalDateTime.of(2032, 6, 2, 19, 0));
+        Event outside = createTestEvent("Grouped Later", LocalDateTime.of(2032, 8, 1, 19, 0));
+        first.setCategory("Grouped Category");
+        second.setCategory("GROUPED category");
+        outside.setCategory("Grouped Category");
+        for (Event event : List.of(first, second, outside)) {
+            entityManager.persist(event);
+        }
+        entityManager.flush();
+        EventFilter filter = new EventFilter(null, null, "grouped",
+                LocalDateTime.of(2032, 6, 1, 0, 0), LocalDateTime.of(2032, 6, 30, 23, 59), false);
+
+        // Act
+        List<EventFacetCountDto> result = eventDao.countFacets(filter);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("GROUPED CATEGORY", result.get(0).categoryNorm());
+        assertEquals("TEST LOCATION", result.get(0).locationNorm());
+        assertEquals(2, result.get(0).count());
+    }
+
     @Test
     @Transactional
     void findById_WhenEventNotExists_ShouldReturnEmpty() {
@@ -90,7 +542,7 @@ public class EventDaoImplTest {
 
     @Transactional
     @Test
-    void save_ShouldPersistEventWithAllFields() {
+    void save_ShouldPersistEventWithAllFields() throws EventConflictException {
         // Arrange
         Event testEvent = createTestEvent("New Event", LocalDateTime.now().plusDays(1));
 
@@ -114,7 +566,20 @@ public class EventDaoImplTest {
 
     @Transactional
     @Test
-    void findByDateAndLocation_ShouldReturnEvent_WhenMatchExists() {
+    void save_WhenSlotIsTaken_ShouldThrowEventConflictException() throws EventConflictException {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(1).withNano(0);
+        eventDao.save(createTestEvent("First", dateTime));
+        Event clash = createTestEvent("Second", dateTime);
+
+        // Act & Assert
+        EventConflictException exception = assertThrows(EventConflictException.class, () -> eventDao.save(clash));
+        assertEquals("An event already exists at this location and time", exception.getMessage());
+    }
+
+    @Transactional
+    @Test
+    void findByDateAndLocation_ShouldReturnEvent_WhenMatchExists() throws EventConflictException {
         // Arrange - Use fixed datetime with seconds precision
         LocalDateTime testDateTime = LocalDateTime.now()
                 .withNano(0) // Clear nanoseconds
@@ -142,7 +607,7 @@ public class EventDaoImplTest {
 
     @Transactional
     @Test
-    void findByDateAndLocation_ShouldReturnEmpty_WhenNoMatch() {
+    void findByDateAndLocation_ShouldReturnEmpty_WhenNoMatch() throws EventConflictException {
         // Arrange
         LocalDateTime testDateTime = LocalDateTime.now().plusDays(1);
         String testLocation = "Existing Location";
@@ -190,17 +655,83 @@ public class EventDaoImplTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         // Act
-        Page<Event> result = eventDao.findAllByMember(member, pageable);
+        Page<EventDto> result = eventDao.findAllByMember(member.getMemberId(), pageable);
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.getTotalElements(), "Should return 2 events for the member");
-        assertTrue(result.getContent().stream().allMatch(e -> e.getMember().getMemberId() == member.getMemberId()), "All events should belong to the given member");
+        assertEquals(List.of(event2.getId(), event1.getId()), result.getContent().stream().map(EventDto::id).toList(),
+                "Events should be listed latest first");
     }
 
+    @Transactional
+    @Test
+    void findAllByMemberAfter_ShouldSeekThroughTheMembersEventsByDate() {
+        // Arrange
+        Member member = new Member();
+        member.setFirstName("Jane");
+        member.setLastName("Roe");
+        member.setUsername("roe");
+        member.setEmail("jane@example.com");
+        member.setCreatedAt(LocalDate.now());
+        entityManager.persist(member);
+
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(1).withNano(0);
+        List<Event> events = new ArrayList<>();
+        for (String title : List.of("Early", "Tied A", "Tied B")) {
+            Event event = createTestEvent(title, title.startsWith("Tied") ? dateTime.plusDays(1) : dateTime);
+            event.setLocation(title + " Hall");
+            event.setMember(member);
+            entityManager.persist(event);
+            events.add(event);
+        }
+        Event unrelatedEvent = createTestEvent("Other Event", dateTime.plusDays(2));
+        entityManager.persist(unrelatedEvent);
+        entityManager.flush();
+
+        // Act
+        List<Event> first = eventDao.findAllByMemberAfter(member.getMemberId(), null, 2);
+        Event last = first.getLast();
+        List<Event> second = eventDao.findAllByMemberAfter(member.getMemberId(), new EventCursor(last.getDateTime(), last.getId()), 2);
+
+        // Assert
+        assertEquals(List.of("Tied B", "Tied A"), first.stream().map(Event::getTitle).toList());
+        assertEquals(List.of("Early"), second.stream().map(Event::getTitle).toList());
+    }
 
 
 
+
+    private List<String> titles(EventFilter filter) {
+        return eventDao.findAllOrderedByDate(filter, PageRequest.of(0, 10)).getContent().stream()
+                .map(EventDto::title)
+                .toList();
+    }
+
+    @Test
+    @Transactional
+    void tryAddTicketsSold_ShouldOnlyApplyChangesThatFit() {
+        // Arrange
+        Event event = createTestEvent("Selling", LocalDateTime.now().plusDays(1));
+        event.setTicketsSold(95);
+        entityManager.persist(event);
+        entityManager.flush();
+
+        // Act
+        boolean tooMany = eventDao.tryAddTicketsSold(event.getId(), 6);
+        boolean lastOnes = eventDao.tryAddTicketsSold(event.getId(), 5);
+        boolean belowZero = eventDao.tryAddTicketsSold(event.getId(), -101);
+        boolean givenBack = eventDao.tryAddTicketsSold(event.getId(), -10);
+
+        // Assert
+        assertFalse(tooMany);
+        assertTrue(lastOnes);
+        assertFalse(belowZero);
+        assertTrue(givenBack);
+        entityManager.clear();
+        assertEquals(90, entityManager.find(Event.class, event.getId()).getTicketsSold());
+    }
+
     private Event createTestEvent(String title, LocalDateTime dateTime) {
         Event event = new Event();
         event.setTitle(title);
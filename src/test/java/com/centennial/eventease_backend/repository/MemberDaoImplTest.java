@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -70,6 +71,29 @@ public class MemberDaoImplTest {
     }
 
 
+    @Transactional
+    @Test
+    void findIdByUsername_shouldResolveAndCacheTheId(){
+        // Arrange
+        Member member = new Member("John", "Doe", "6473179845", LocalDate.now(), "doe", "john.doe@example.com",
+                "123456789012", "123456789", "Royal Bank of Canada", "Canada");
+        userDao.create(new User(member.getUsername(), "test123", 'Y'));
+        memberDao.save(member);
+        entityManager.flush();
+
+        // Act
+        OptionalInt found = memberDao.findIdByUsername("doe");
+        entityManager.createQuery("UPDATE Member m SET m.username = NULL WHERE m.memberId = :id")
+                .setParameter("id", member.getMemberId())
+                .executeUpdate();
+        OptionalInt cached = memberDao.findIdByUsername("doe");
+
+        // Assert
+        assertThat(found).hasValue(member.getMemberId());
+        assertThat(cached).hasValue(member.getMemberId());
+        assertThat(memberDao.findIdByUsername("nobody")).isEmpty();
+    }
+
     @Transactional
     @Test
     void findByUsername_shouldReturnMember_whenMemberExists(){
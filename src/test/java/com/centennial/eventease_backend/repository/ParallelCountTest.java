@@ -0,0 +1,192 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.repository.implementations.ParallelCount;
+import com.centennial.eventease_backend.security.ListingProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.QueryTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Listings read in read-only transactions over committed rows, as the service does, since
+ * the count runs in a transaction of its own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ParallelCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ParallelCount parallelCount;
+
+    @Autowired
+    @Qualifier("eventDaoImpl")
+    private EventDao eventDao;
+
+    @Autowired
+    @Qualifier("memberDaoImpl")
+    private MemberDao memberDao;
+
+    private TransactionTemplate transaction;
+    private TransactionTemplate readOnlyTransaction;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        member = new Member("Parallel", "Count", "5551234567", LocalDate.now(), "parallelcount",
+                "parallel.count@example.com", "123456789012", "123456789", "Bank", "Canada");
+        transaction.executeWithoutResult(status -> {
+            memberDao.save(member);
+            List<Event> events = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                events.add(new Event("Parallel Event " + i, "Counted beside the page", "Test",
+                        LocalDateTime.now().plusDays(i), "Count Hall " + i, 100, 0, 10.0f, member, LocalDateTime.now()));
+            }
+            eventDao.saveAll(events);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Event e WHERE e.member.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Member m WHERE m.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void findAllOrderedByDate_InReadOnlyTransaction_ShouldCountBesideThePage() {
+        // Arrange
+        EventFilter filter = new EventFilter("Parallel Event", null, null);
+
+        // Act
+        Page<EventDto> result = readOnlyTransaction.execute(status -> {
+            assertTrue(parallelCount.isApplicable());
+            return eventDao.findAllOrderedByDate(filter, PageRequest.of(1, 1));
+        });
+
+        // Assert
+        assertEquals(3, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertEquals("Parallel Event 2", result.getContent().getFirst().title());
+    }
+
+    @Test
+    void findAllOrderedByDate_OnAFullFirstPage_ShouldCountAfterThePage() {
+        // Arrange
+        EventFilter filter = new EventFilter("Parallel Event", "Count Hall", null);
+
+        // Act
+        Page<EventDto> result = readOnlyTransaction.execute(status -> eventDao.findAllOrderedByDate(filter, PageRequest.of(0, 2)));
+
+        // Assert
+        assertEquals(3, result.getTotalElements());
+        assertEquals("Parallel Event 3", result.getContent().getFirst().title());
+    }
+
+    @Test
+    void trySubmit_WhenEveryPermitIsTaken_ShouldLeaveTheCountToTheCaller() throws Exception {
+        // Arrange
+        ParallelCount count = new ParallelCount(transactionManager, new ListingProperties(true, Duration.ofSeconds(5), 1));
+        CountDownLatch released = new CountDownLatch(1);
+        Future<Long> running = count.trySubmit(() -> {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1L;
+        }).orElseThrow();
+
+        // Act
+        Optional<Future<Long>> refused = count.trySubmit(() -> 2L);
+        released.countDown();
+        long first = count.await(running);
+        Optional<Future<Long>> afterwards = count.trySubmit(() -> 3L);
+
+        // Assert
+        assertTrue(refused.isEmpty());
+        assertEquals(1L, first);
+        assertEquals(3L, count.await(afterwards.orElseThrow()));
+        count.shutdown();
+    }
+
+    @Test
+    void isApplicable_InReadWriteTransaction_ShouldBeFalse() {
+        // Act
+        Boolean applicable = transaction.execute(status -> parallelCount.isApplicable());
+
+        // Assert
+        assertFalse(applicable);
+    }
+
+    @Test
+    void await_WhenTheCountTakesTooLong_ShouldCancelItAndThrow() throws InterruptedException {
+        // Arrange
+        ParallelCount count = new ParallelCount(transactionManager, new ListingProperties(true, Duration.ofMillis(100), 1));
+        CountDownLatch released = new CountDownLatch(1);
+        Future<Long> total = count.trySubmit(() -> {
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0L;
+        }).orElseThrow();
+
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, () -> count.await(total));
+        assertTrue(total.isCancelled());
+        released.countDown();
+        count.shutdown();
+    }
+
+    @Test
+    void await_WhenTheCountFails_ShouldRethrowItsException() {
+        // Arrange
+        Future<Long> total = parallelCount.trySubmit(() -> {
+            throw new IllegalStateException("count failed");
+        }).orElseThrow();
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> parallelCount.await(total));
+
+        // Assert
+        assertEquals("count failed", exception.getMessage());
+    }
+}
@@ -0,0 +1,57 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.repository.implementations.CatalogVersion;
+import com.centennial.eventease_backend.repository.implementations.ReadYourWritesWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadYourWritesWindowTest {
+
+    @Test
+    void isOpenForCurrentRead_AfterACatalogChange_ShouldKeepEveryoneOnThePrimary() {
+        // Arrange
+        CatalogVersion catalogVersion = new CatalogVersion();
+        ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofSeconds(5), catalogVersion);
+        boolean beforeChange = window.isOpenForCurrentRead();
+
+        // Act
+        catalogVersion.bump(1);
+
+        // Assert
+        assertFalse(beforeChange);
+        assertTrue(window.isOpenForCurrentRead());
+        assertFalse(window.isOpenForCurrentUser());
+    }
+
+    @Test
+    void isOpenForCurrentRead_WhenTheWindowIsZero_ShouldNeverOpen() {
+        // Arrange
+        CatalogVersion catalogVersion = new CatalogVersion();
+        ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ZERO, catalogVersion);
+
+        // Act
+        catalogVersion.bump(1);
+
+        // Assert
+        assertFalse(window.isOpenForCurrentRead());
+    }
+
+    @Test
+    void isOpenForCurrentRead_AfterTicketSales_ShouldStayOnTheReplica() {
+        // Arrange
+        CatalogVersion catalogVersion = new CatalogVersion();
+        ReadYourWritesWindow window = new ReadYourWritesWindow(Duration.ofSeconds(5), catalogVersion);
+        String versionBefore = catalogVersion.of(1);
+
+        // Act
+        catalogVersion.bumpTicketsSold(List.of(1));
+
+        // Assert
+        assertFalse(window.isOpenForCurrentRead());
+        assertNotEquals(versionBefore, catalogVersion.of(1));
+    }
+}
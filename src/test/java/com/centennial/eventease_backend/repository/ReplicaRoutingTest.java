@@ -0,0 +1,116 @@
+package com.centennial.eventease_backend.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica, each statement
+ * reports which one it ran on through DATABASE().
+ */
+@SpringBootTest(properties = {
+        "replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "replica.username=sa",
+        "replica.password=",
+        "replica.read-your-writes-window=5s"
+})
+@ActiveProfiles("test")
+public class ReplicaRoutingTest {
+
+    private static final String PRIMARY = "TESTDB";
+    private static final String REPLICA = "REPLICA";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldRunOnTheReplica() {
+        // Act
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertEquals(REPLICA, database);
+    }
+
+    @Test
+    void readWriteTransaction_ShouldRunOnThePrimary() {
+        // Act
+        String database = readWrite.execute(status -> currentDatabase());
+
+        // Assert
+        assertEquals(PRIMARY, database);
+    }
+
+    @Test
+    void statementOutsideATransaction_ShouldRunOnThePrimary() {
+        // Act
+        String database = currentDatabase();
+
+        // Assert
+        assertEquals(PRIMARY, database);
+    }
+
+    @Test
+    void readOnlyTransaction_AfterTheMemberWrote_ShouldStayOnThePrimary() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("writer", null, "ROLE_MEMBER"));
+        readWrite.executeWithoutResult(status -> currentDatabase());
+
+        // Act
+        String writerReads = readOnly.execute(status -> currentDatabase());
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("reader", null, "ROLE_MEMBER"));
+        String otherReads = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertEquals(PRIMARY, writerReads);
+        assertEquals(REPLICA, otherReads);
+    }
+
+    @Test
+    void readOnlyTransaction_AfterTheMemberRolledBack_ShouldUseTheReplica() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("undecided", null, "ROLE_MEMBER"));
+        readWrite.executeWithoutResult(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+        });
+
+        // Act
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertEquals(REPLICA, database);
+    }
+
+    private String currentDatabase() {
+        return (String) entityManager.createNativeQuery("SELECT DATABASE()").getSingleResult();
+    }
+}
@@ -0,0 +1,165 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.entities.User;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.repository.contracts.UserDao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads go through separate transactions, as separate requests would, so only the
+ * second-level cache can spare the SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("eventDaoImpl")
+    private EventDao eventDao;
+
+    @Autowired
+    @Qualifier("memberDaoImpl")
+    private MemberDao memberDao;
+
+    @Autowired
+    @Qualifier("userDaoImpl")
+    private UserDao userDao;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Member member;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        member = new Member("Cache", "Test", "5551234567", LocalDate.now(), "cachetest",
+                "cache.test@example.com", "123456789012", "123456789", "Bank", "Canada");
+        event = new Event("Cached Event", "Read often, written rarely", "Test", LocalDateTime.now().plusDays(7),
+                "Cache Hall", 100, 0, 10.0f, member, LocalDateTime.now());
+        transaction.executeWithoutResult(status -> {
+            userDao.create(new User(member.getUsername(), "test123", 'Y'));
+            memberDao.save(member);
+            eventDao.saveAll(List.of(event));
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Event e WHERE e.id = :id").setParameter("id", event.getId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Member m WHERE m.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM User u WHERE u.username = :username").setParameter("username", member.getUsername()).executeUpdate();
+        });
+    }
+
+    @Test
+    void eventFindById_WhenRepeated_ShouldNotIssueSql() {
+        // Arrange
+        transaction.executeWithoutResult(status -> eventDao.findById(event.getId()));
+        statistics.clear();
+
+        // Act
+        Event first = transaction.execute(status -> eventDao.findById(event.getId()).orElseThrow());
+        Event second = transaction.execute(status -> eventDao.findById(event.getId()).orElseThrow());
+
+        // Assert
+        assertEquals("Cached Event", first.getTitle());
+        assertEquals("Cached Event", second.getTitle());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("events").getHitCount());
+    }
+
+    @Test
+    void memberFindById_WhenRepeated_ShouldNotIssueSql() {
+        // Arrange
+        transaction.executeWithoutResult(status -> memberDao.findById(member.getMemberId()));
+        statistics.clear();
+
+        // Act
+        transaction.executeWithoutResult(status -> memberDao.findById(member.getMemberId()));
+        transaction.executeWithoutResult(status -> memberDao.findById(member.getMemberId()));
+
+        // Assert
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics("members").getHitCount());
+    }
+
+    @Test
+    void memberFindByUsername_WhenRepeated_ShouldBeAnsweredFromTheQueryCache() {
+        // Arrange
+        transaction.executeWithoutResult(status -> memberDao.findByUsername(member.getUsername()));
+        statistics.clear();
+
+        // Act
+        Member found = transaction.execute(status -> memberDao.findByUsername(member.getUsername()).orElseThrow());
+
+        // Assert
+        assertEquals(member.getMemberId(), found.getMemberId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void userFindByUsername_WhenRepeated_ShouldNotIssueSql() {
+        // Arrange
+        transaction.executeWithoutResult(status -> userDao.findByUsername(member.getUsername()));
+        statistics.clear();
+
+        // Act
+        User found = transaction.execute(status -> userDao.findByUsername(member.getUsername()).orElseThrow());
+
+        // Assert
+        assertEquals('Y', found.getEnabled());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("users").getHitCount());
+    }
+
+    @Test
+    void eventUpdate_ShouldRefreshTheCachedEntry() {
+        // Arrange
+        transaction.executeWithoutResult(status -> eventDao.findById(event.getId()));
+
+        // Act
+        transaction.executeWithoutResult(status -> eventDao.findById(event.getId()).orElseThrow().setTicketsSold(40));
+        statistics.clear();
+        Event reloaded = transaction.execute(status -> eventDao.findById(event.getId()).orElseThrow());
+
+        // Assert
+        assertEquals(40, reloaded.getTicketsSold());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,34 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.repository.contracts.TicketCodeNodeDao;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TicketCodeNodeDaoImplTest {
+
+    @Autowired
+    @Qualifier("ticketCodeNodeDaoImpl")
+    private TicketCodeNodeDao ticketCodeNodeDao;
+
+    @Test
+    void reserve_ShouldOnlyMoveTheReservationForward() {
+        // Act
+        long first = ticketCodeNodeDao.reserve(1000, 5_000);
+        long earlier = ticketCodeNodeDao.reserve(1000, 2_000);
+        long later = ticketCodeNodeDao.reserve(1000, 9_000);
+        long current = ticketCodeNodeDao.reserve(1000, 0);
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(5_000, earlier);
+        assertEquals(5_000, later);
+        assertEquals(9_000, current);
+    }
+}
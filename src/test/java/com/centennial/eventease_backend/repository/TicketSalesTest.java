@@ -0,0 +1,168 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.dto.ConfirmHoldDto;
+import com.centennial.eventease_backend.dto.HoldTicketsDto;
+import com.centennial.eventease_backend.dto.PurchaseTicketsDto;
+import com.centennial.eventease_backend.dto.TicketHoldDto;
+import com.centennial.eventease_backend.dto.TicketPurchaseDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.services.contracts.TicketService;
+import com.centennial.eventease_backend.services.implementations.TicketSalesWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Purchases are decided in memory and written behind, so the rows only show them once the
+ * writer flushed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TicketSalesTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("ticketServiceImpl")
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketSalesWriter ticketSalesWriter;
+
+    @Autowired
+    @Qualifier("eventDaoImpl")
+    private EventDao eventDao;
+
+    @Autowired
+    @Qualifier("memberDaoImpl")
+    private MemberDao memberDao;
+
+    private TransactionTemplate transaction;
+    private Member member;
+    private Event event;
+    private Event otherEvent;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        member = new Member("Ticket", "Seller", "5551234567", LocalDate.now(), "ticketseller",
+                "ticket.seller@example.com", "123456789012", "123456789", "Bank", "Canada");
+        event = new Event("Sold Event", "Tickets go fast", "Test", LocalDateTime.now().plusDays(7),
+                "Ticket Hall", 5, 1, 10.0f, member, LocalDateTime.now());
+        otherEvent = new Event("Other Event", "Nobody buys", "Test", LocalDateTime.now().plusDays(8),
+                "Ticket Hall", 5, 0, 10.0f, member, LocalDateTime.now());
+        transaction.executeWithoutResult(status -> {
+            memberDao.save(member);
+            eventDao.saveAll(List.of(event, otherEvent));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        ticketSalesWriter.flush();
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Ticket t WHERE t.event.member.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Event e WHERE e.member.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Member m WHERE m.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void purchase_WhenFlushed_ShouldInsertTicketsAndCountThemSold() throws Exception {
+        // Arrange
+        TicketPurchaseDto first = ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(2, "Jane Doe", "jane@example.com"));
+        TicketPurchaseDto second = ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(1, "John Doe", "john@example.com"));
+
+        // Act
+        ticketSalesWriter.flush();
+
+        // Assert
+        List<String> codes = transaction.execute(status -> entityManager
+                .createQuery("SELECT t.ticketCode FROM Ticket t WHERE t.event.id = :id ORDER BY t.id", String.class)
+                .setParameter("id", event.getId())
+                .getResultList());
+        assertEquals(3, codes.size());
+        assertTrue(codes.containsAll(first.ticketCodes()) && codes.containsAll(second.ticketCodes()));
+        assertEquals(4, eventDao.findById(event.getId()).orElseThrow().getTicketsSold());
+        assertEquals(0, ticketSalesWriter.pending());
+    }
+
+    @Test
+    void purchase_WhenMoreThanLeft_ShouldThrowTicketsUnavailableException() throws Exception {
+        // Arrange
+        ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(3, "Jane Doe", "jane@example.com"));
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class,
+                () -> ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(2, "John Doe", "john@example.com")));
+        ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(1, "John Doe", "john@example.com"));
+    }
+
+    @Test
+    void flush_ShouldOnlyEvictTheSoldEventsFromTheCache() throws Exception {
+        // Arrange
+        eventDao.findById(event.getId());
+        eventDao.findById(otherEvent.getId());
+        ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(1, "Jane Doe", "jane@example.com"));
+
+        // Act
+        ticketSalesWriter.flush();
+
+        // Assert
+        assertFalse(entityManagerFactory.getCache().contains(Event.class, event.getId()));
+        assertTrue(entityManagerFactory.getCache().contains(Event.class, otherEvent.getId()));
+    }
+
+    @Test
+    void confirmHold_WhenFlushed_ShouldInsertTheHeldTickets() throws Exception {
+        // Arrange
+        TicketHoldDto hold = ticketService.hold(event.getId(), "jane", null, new HoldTicketsDto(4));
+        assertThrows(TicketsUnavailableException.class,
+                () -> ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(1, "John Doe", "john@example.com")));
+
+        // Act
+        TicketPurchaseDto purchase = ticketService.confirmHold(event.getId(), "jane", hold.holdId(), new ConfirmHoldDto("Jane Doe", "jane@example.com"));
+        ticketSalesWriter.flush();
+
+        // Assert
+        assertEquals(4, purchase.ticketCodes().size());
+        assertEquals(5, eventDao.findById(event.getId()).orElseThrow().getTicketsSold());
+    }
+
+    @Test
+    void releaseHold_ShouldPutTheTicketsBackOnSale() throws Exception {
+        // Arrange
+        TicketHoldDto hold = ticketService.hold(event.getId(), "jane", null, new HoldTicketsDto(4));
+
+        // Act
+        ticketService.releaseHold(event.getId(), "jane", hold.holdId());
+
+        // Assert
+        assertEquals(4, ticketService.purchase(event.getId(), "jane", null, new PurchaseTicketsDto(4, "Jane Doe", "jane@example.com")).ticketCodes().size());
+    }
+}
@@ -0,0 +1,147 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Member;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.services.implementations.TicketsSoldCombiner;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A thousand buyers race for fewer tickets than there are buyers, each in its own transaction
+ * as concurrent requests would be. The conditional update alone must not oversell, and the
+ * combiner must get there with fewer statements than buyers.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class TicketsSoldContentionTest {
+
+    private static final int BUYERS = 1_000;
+    private static final int TOTAL_TICKETS = 300;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("eventDaoImpl")
+    private EventDao eventDao;
+
+    @Autowired
+    @Qualifier("memberDaoImpl")
+    private MemberDao memberDao;
+
+    @Autowired
+    private TicketsSoldCombiner ticketsSoldCombiner;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private Member member;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        member = new Member("Contended", "Seller", "5551234567", LocalDate.now(), "contendedseller",
+                "contended.seller@example.com", "123456789012", "123456789", "Bank", "Canada");
+        event = new Event("Contended Event", "Everyone wants in", "Test", LocalDateTime.now().plusDays(7),
+                "Contention Hall", TOTAL_TICKETS, 0, 10.0f, member, LocalDateTime.now());
+        transaction.executeWithoutResult(status -> {
+            memberDao.save(member);
+            eventDao.saveAll(List.of(event));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Event e WHERE e.member.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+            entityManager.createQuery("DELETE FROM Member m WHERE m.memberId = :id").setParameter("id", member.getMemberId()).executeUpdate();
+        });
+    }
+
+    @Test
+    void tryAddTicketsSold_WithOneStatementPerBuyer_ShouldNeverOversell() throws Exception {
+        // Act
+        Result result = race(buyer -> Boolean.TRUE.equals(
+                transaction.execute(status -> eventDao.tryAddTicketsSold(event.getId(), 1))));
+
+        // Assert
+        assertEquals(TOTAL_TICKETS, result.sold());
+        assertEquals(TOTAL_TICKETS, ticketsSold());
+        assertEquals(BUYERS, result.statements());
+    }
+
+    @Test
+    void combinerAdd_ShouldNeverOversellWithFewerStatementsThanBuyers() throws Exception {
+        // Act
+        Result result = race(buyer -> ticketsSoldCombiner.add(event.getId(), 1));
+
+        // Assert
+        assertEquals(TOTAL_TICKETS, result.sold());
+        assertEquals(TOTAL_TICKETS, ticketsSold());
+        assertTrue(result.statements() < BUYERS,
+                "Expected merged statements, got " + result.statements() + " for " + BUYERS + " buyers");
+    }
+
+    private Result race(IntPredicate buy) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> purchases = new ArrayList<>();
+        statistics.clear();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < BUYERS; i++) {
+                int buyer = i;
+                purchases.add(executor.submit(() -> {
+                    start.await();
+                    return buy.test(buyer);
+                }));
+            }
+            start.countDown();
+        }
+        int sold = 0;
+        for (Future<Boolean> purchase : purchases) {
+            sold += purchase.get() ? 1 : 0;
+        }
+        return new Result(sold, statistics.getPrepareStatementCount());
+    }
+
+    private int ticketsSold() {
+        return transaction.execute(status -> (Integer) entityManager
+                .createQuery("SELECT e.ticketsSold FROM Event e WHERE e.id = :id")
+                .setParameter("id", event.getId())
+                .getSingleResult());
+    }
+
+    private record Result(int sold, long statements) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.centennial.eventease_backend.repository;
+
+import com.centennial.eventease_backend.repository.implementations.TotalCountCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TotalCountCacheTest {
+
+    @Test
+    void get_WhenFresh_ShouldReturnCachedTotal() {
+        // Arrange
+        TotalCountCache<String> cache = new TotalCountCache<>(Duration.ofMinutes(1), 10);
+
+        // Act
+        cache.put("jazz", 42);
+
+        // Assert
+        assertEquals(42, cache.get("jazz").orElseThrow());
+        assertTrue(cache.get("rock").isEmpty());
+    }
+
+    @Test
+    void get_WhenExpired_ShouldReturnEmpty() {
+        // Arrange
+        TotalCountCache<String> cache = new TotalCountCache<>(Duration.ZERO, 10);
+
+        // Act
+        cache.put("jazz", 42);
+
+        // Assert
+        assertTrue(cache.get("jazz").isEmpty());
+    }
+
+    @Test
+    void invalidateIf_ShouldOnlyRemoveMatchingKeys() {
+        // Arrange
+        TotalCountCache<String> cache = new TotalCountCache<>(Duration.ofMinutes(1), 10);
+        cache.put("jazz", 1);
+        cache.put("rock", 2);
+
+        // Act
+        cache.invalidateIf(key -> key.startsWith("j"));
+
+        // Assert
+        assertTrue(cache.get("jazz").isEmpty());
+        assertEquals(2, cache.get("rock").orElseThrow());
+    }
+
+    @Test
+    void put_WhenFull_ShouldStayBounded() {
+        // Arrange
+        TotalCountCache<Integer> cache = new TotalCountCache<>(Duration.ofMinutes(1), 2);
+        cache.put(1, 1);
+        cache.put(2, 2);
+
+        // Act
+        cache.put(3, 3);
+
+        // Assert
+        assertEquals(3, cache.get(3).orElseThrow());
+        assertTrue(cache.get(1).isEmpty());
+    }
+}
@@ -0,0 +1,227 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventFacetCountDto;
+import com.centennial.eventease_backend.dto.EventFacetRowDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.services.implementations.EventFacetIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventFacetIndexTest {
+
+    @Mock
+    private EventDao eventDao;
+
+    @InjectMocks
+    private EventFacetIndex eventFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(eventDao.findFacetRows()).thenReturn(List.of(
+                new EventFacetRowDto(1, "Music", "Downtown Club", "Jazz Night", LocalDateTime.of(2030, 1, 10, 20, 0)),
+                new EventFacetRowDto(2, "Music", "Downtown Club", "Jazz Night", LocalDateTime.of(2030, 2, 10, 20, 0)),
+                new EventFacetRowDto(3, "Music", "City Park", "Rock Festival", LocalDateTime.of(2030, 3, 10, 14, 0)),
+                new EventFacetRowDto(4, "Technology", "Convention Center", "Tech Conference", LocalDateTime.of(2030, 1, 20, 9, 0)),
+                new EventFacetRowDto(5, "Technology", "Downtown Club", "Jazz and Java", LocalDateTime.of(2020, 5, 1, 18, 0))
+        ));
+        eventFacetIndex.rebuild();
+    }
+
+    @Test
+    void count_WithoutFilter_ShouldCountEveryEventOrderedByFrequency() {
+        // Act
+        EventFacetsDto result = eventFacetIndex.count(new EventFilter(null, null, null));
+
+        // Assert
+        assertEquals(5, result.total());
+        assertEquals(List.of("Music", "Technology"), List.copyOf(result.categories().keySet()));
+        assertEquals(Map.of("Music", 3L, "Technology", 2L), result.categories());
+        assertEquals(Map.of("Downtown Club", 3L, "City Park", 1L, "Convention Center", 1L), result.locations());
+        assertEquals("Downtown Club", result.locations().keySet().iterator().next());
+    }
+
+    @Test
+    void count_WithTitleFilter_ShouldOnlyCountPrefixMatches() {
+        // Act
+        EventFacetsDto prefix = eventFacetIndex.count(new EventFilter("jazz", null, null));
+        EventFacetsDto infix = eventFacetIndex.count(new EventFilter("night", null, null));
+
+        // Assert
+        assertEquals(3, prefix.total());
+        assertEquals(Map.of("Music", 2L, "Technology", 1L), prefix.categories());
+        assertEquals(Map.of("Downtown Club", 3L), prefix.locations());
+        assertEquals(0, infix.total());
+        assertTrue(infix.categories().isEmpty());
+    }
+
+    @Test
+    void count_WithLocationAndCategoryFilters_ShouldMatchSubstringsIgnoringCase() {
+        // Act
+        EventFacetsDto result = eventFacetIndex.count(new EventFilter(null, "town", "tech"));
+
+        // Assert
+        assertEquals(1, result.total());
+        assertEquals(Map.of("Technology", 1L), result.categories());
+        assertEquals(Map.of("Downtown Club", 1L), result.locations());
+    }
+
+    @Test
+    void count_WithDateRange_ShouldGroupInTheDatabase() {
+        // Arrange
+        EventFilter january = new EventFilter(null, null, null,
+                LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.of(2030, 1, 31, 23, 59), false);
+        when(eventDao.countFacets(january)).thenReturn(List.of(
+                new EventFacetCountDto("MUSIC", "DOWNTOWN CLUB", "music", "downtown club", 1),
+                new EventFacetCountDto("TECHNOLOGY", "CONVENTION CENTER", "Technology", "Convention Center", 1),
+                new EventFacetCountDto("ART", "GALLERY", "Art", "Gallery", 2)
+        ));
+
+        // Act
+        EventFacetsDto result = eventFacetIndex.count(january);
+
+        // Assert
+        assertEquals(4, result.total());
+        assertEquals(Map.of("Art", 2L, "Music", 1L, "Technology", 1L), result.categories());
+        assertEquals(Map.of("Gallery", 2L, "Downtown Club", 1L, "Convention Center", 1L), result.locations());
+    }
+
+    @Test
+    void count_WithSpellingsDifferingInCase_ShouldCountThemAsOneValue() {
+        // Arrange
+        Event event = new Event();
+        event.setId(6);
+        event.setTitle("Jazz Brunch");
+        event.setLocation("downtown CLUB");
+        event.setCategory("MUSIC");
+
+        // Act
+        eventFacetIndex.onEventSaved(new EventSavedEvent(event));
+        EventFacetsDto result = eventFacetIndex.count(new EventFilter("jazz", null, null));
+
+        // Assert
+        assertEquals(4, result.total());
+        assertEquals(Map.of("Music", 3L, "Technology", 1L), result.categories());
+        assertEquals(Map.of("Downtown Club", 4L), result.locations());
+    }
+
+    @Test
+    void count_WhenUpcoming_ShouldSkipEventsThatAlreadyStarted() {
+        // Act
+        EventFacetsDto upcoming = eventFacetIndex.count(new EventFilter("jazz", null, null, null, null, true));
+        EventFacetsDto endedRange = eventFacetIndex.count(new EventFilter(null, null, null,
+                null, LocalDateTime.of(2021, 1, 1, 0, 0), true));
+
+        // Assert
+        assertEquals(2, upcoming.total());
+        assertEquals(Map.of("Music", 2L), upcoming.categories());
+        assertEquals(0, endedRange.total());
+    }
+
+    @Test
+    void count_WhenUpcomingEventsStart_ShouldStopCountingThem() {
+        // Act
+        EventFacetsDto before = eventFacetIndex.count(new EventFilter(null, null, null, null, null, true),
+                LocalDateTime.of(2029, 12, 31, 0, 0));
+        EventFacetsDto after = eventFacetIndex.count(new EventFilter(null, null, null, null, null, true),
+                LocalDateTime.of(2030, 2, 1, 0, 0));
+
+        // Assert
+        assertEquals(4, before.total());
+        assertEquals(2, after.total());
+        assertEquals(Map.of("Downtown Club", 1L, "City Park", 1L), after.locations());
+        assertEquals(5, eventFacetIndex.count(new EventFilter(null, null, null)).total());
+    }
+
+    @Test
+    void onEventSaved_ShouldUpdateCountsWithoutQueryingAgain() {
+        // Arrange
+        Event event = new Event();
+        event.setId(6);
+        event.setTitle("Jazz Brunch");
+        event.setLocation("City Park");
+        event.setCategory("Music");
+
+        // Act
+        eventFacetIndex.onEventSaved(new EventSavedEvent(event));
+        EventFacetsDto result = eventFacetIndex.count(new EventFilter("jazz", "park", null));
+
+        // Assert
+        assertEquals(1, result.total());
+        assertEquals(Map.of("City Park", 1L), result.locations());
+        verify(eventDao, times(1)).findFacetRows();
+    }
+
+    @Test
+    void onEventSaved_WhenEventWasPartOfTheLoad_ShouldNotCountItTwice() {
+        // Arrange
+        Event event = new Event();
+        event.setId(5);
+        event.setTitle("Jazz and Java");
+        event.setLocation("Downtown Club");
+        event.setCategory("Technology");
+        event.setDateTime(LocalDateTime.of(2020, 5, 1, 18, 0));
+
+        // Act
+        eventFacetIndex.onEventSaved(new EventSavedEvent(event));
+
+        // Assert
+        assertEquals(5, eventFacetIndex.count(new EventFilter(null, null, null)).total());
+    }
+
+    @Test
+    void onEventSaved_WithIdBelowTheLoadedOnes_ShouldStillCountIt() {
+        // Arrange
+        Event event = new Event();
+        event.setId(0);
+        event.setTitle("Rock Revival");
+        event.setLocation("City Park");
+        event.setCategory("Music");
+
+        // Act
+        eventFacetIndex.onEventSaved(new EventSavedEvent(event));
+        EventFacetsDto result = eventFacetIndex.count(new EventFilter("rock", null, null));
+
+        // Assert
+        assertEquals(2, result.total());
+        assertEquals(Map.of("City Park", 2L), result.locations());
+    }
+
+    @Test
+    void onEventSaved_WhenEventChanged_ShouldMoveItsCount() {
+        // Arrange
+        Event event = new Event();
+        event.setId(3);
+        event.setTitle("Jazz Picnic");
+        event.setLocation("City Park");
+        event.setCategory("Music");
+        event.setDateTime(LocalDateTime.of(2030, 3, 10, 14, 0));
+
+        // Act
+        eventFacetIndex.onEventSaved(new EventSavedEvent(event));
+        EventFacetsDto rock = eventFacetIndex.count(new EventFilter("rock", null, null));
+        EventFacetsDto jazz = eventFacetIndex.count(new EventFilter("jazz", null, null));
+        EventFacetsDto all = eventFacetIndex.count(new EventFilter(null, null, null));
+
+        // Assert
+        assertEquals(0, rock.total());
+        assertEquals(4, jazz.total());
+        assertEquals(Map.of("Downtown Club", 3L, "City Park", 1L), jazz.locations());
+        assertEquals(5, all.total());
+    }
+}
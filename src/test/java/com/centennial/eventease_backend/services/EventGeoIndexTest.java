@@ -0,0 +1,164 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.GeoEventDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.services.implementations.EventGeoIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EventGeoIndexTest {
+
+    private static final LocalDateTime FUTURE = LocalDateTime.of(2030, 1, 1, 19, 0);
+
+    @Mock
+    private EventDao eventDao;
+
+    @InjectMocks
+    private EventGeoIndex eventGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(eventDao.findGeoEventsAfterId(eq(0), anyInt())).thenReturn(List.of(
+                new GeoEventDto(1, 43.6532, -79.3832, FUTURE),   // Toronto city hall
+                new GeoEventDto(2, 43.6426, -79.3871, FUTURE),   // CN Tower, ~1.2 km away
+                new GeoEventDto(3, 43.7735, -79.2577, FUTURE),   // Scarborough, ~17 km away
+                new GeoEventDto(4, 45.4215, -75.6972, FUTURE),   // Ottawa
+                new GeoEventDto(5, -16.5, 179.95, FUTURE),       // Fiji, east of the antimeridian
+                new GeoEventDto(6, -16.5, -179.95, FUTURE)       // Fiji, west of the antimeridian
+        ));
+        eventGeoIndex.rebuild();
+    }
+
+    @Test
+    void nearby_ShouldReturnEventsWithinRadiusNearestFirst() {
+        // Act
+        List<EventGeoIndex.Hit> result = eventGeoIndex.nearby(43.6426, -79.3871, 10, 20, null);
+
+        // Assert
+        assertEquals(List.of(2, 1), result.stream().map(EventGeoIndex.Hit::id).toList());
+        assertEquals(0, result.get(0).distanceKm(), 1e-9);
+        assertEquals(1.2, result.get(1).distanceKm(), 0.1);
+    }
+
+    @Test
+    void nearby_ShouldApplyLimit() {
+        // Act
+        List<EventGeoIndex.Hit> result = eventGeoIndex.nearby(43.6532, -79.3832, 50, 1, null);
+
+        // Assert
+        assertEquals(List.of(1), result.stream().map(EventGeoIndex.Hit::id).toList());
+    }
+
+    @Test
+    void nearby_ShouldFindEventsAcrossTheAntimeridian() {
+        // Act
+        List<EventGeoIndex.Hit> result = eventGeoIndex.nearby(-16.5, 179.99, 20, 20, null);
+
+        // Assert
+        assertEquals(List.of(5, 6), result.stream().map(EventGeoIndex.Hit::id).toList());
+    }
+
+    @Test
+    void nearby_WithStartingFrom_ShouldLeaveOutStartedAndUndatedEvents() {
+        // Arrange
+        eventGeoIndex.add(new GeoEventDto(7, 43.6500, -79.3850, FUTURE.minusDays(1)));
+        eventGeoIndex.add(new GeoEventDto(8, 43.6510, -79.3840, null));
+
+        // Act
+        List<EventGeoIndex.Hit> upcoming = eventGeoIndex.nearby(43.6532, -79.3832, 10, 20, FUTURE);
+        List<EventGeoIndex.Hit> all = eventGeoIndex.nearby(43.6532, -79.3832, 10, 20, null);
+
+        // Assert
+        assertEquals(List.of(1, 2), upcoming.stream().map(EventGeoIndex.Hit::id).toList());
+        assertEquals(List.of(1, 8, 7, 2), all.stream().map(EventGeoIndex.Hit::id).toList());
+    }
+
+    @Test
+    void onEventSaved_WhenEventMovedOrRescheduled_ShouldUseItsNewValues() {
+        // Arrange
+        Event moved = new Event();
+        moved.setId(2);
+        moved.setLatitude(45.4215);
+        moved.setLongitude(-75.6972);
+        moved.setDateTime(FUTURE.minusYears(10));
+
+        // Act
+        eventGeoIndex.onEventSaved(new EventSavedEvent(moved));
+
+        // Assert
+        assertEquals(List.of(1), eventGeoIndex.nearby(43.6426, -79.3871, 10, 20, null).stream().map(EventGeoIndex.Hit::id).toList());
+        assertEquals(List.of(2, 4), eventGeoIndex.nearby(45.4215, -75.6972, 10, 20, null).stream().map(EventGeoIndex.Hit::id).toList());
+        assertEquals(List.of(4), eventGeoIndex.nearby(45.4215, -75.6972, 10, 20, FUTURE).stream().map(EventGeoIndex.Hit::id).toList());
+    }
+
+    @Test
+    void withinBox_ShouldReturnEventsInsideTheBox() {
+        // Act
+        int[] toronto = eventGeoIndex.withinBox(43.6, -79.5, 43.8, -79.2);
+        int[] acrossAntimeridian = eventGeoIndex.withinBox(-17, 179.9, -16, -179.9);
+
+        // Assert
+        assertArrayEquals(new int[]{1, 2, 3}, toronto);
+        assertArrayEquals(new int[]{5, 6}, acrossAntimeridian);
+    }
+
+    @Test
+    void onEventSaved_ShouldOnlyIndexLocatedEvents() {
+        // Arrange
+        Event located = new Event();
+        located.setId(7);
+        located.setLatitude(43.6540);
+        located.setLongitude(-79.3800);
+        Event unlocated = new Event();
+        unlocated.setId(8);
+
+        // Act
+        eventGeoIndex.onEventSaved(new EventSavedEvent(located));
+        eventGeoIndex.onEventSaved(new EventSavedEvent(unlocated));
+
+        // Assert
+        assertTrue(eventGeoIndex.nearby(43.6532, -79.3832, 1, 20, null).stream().anyMatch(hit -> hit.id() == 7));
+    }
+
+    @Test
+    void nearby_ShouldMatchABruteForceScan() {
+        // Arrange
+        Random random = new Random(42);
+        List<GeoEventDto> points = new ArrayList<>();
+        for (int id = 100; id < 20_100; id++) {
+            GeoEventDto point = new GeoEventDto(id, 43 + random.nextDouble(), -80 + random.nextDouble() * 1.5, FUTURE);
+            points.add(point);
+            eventGeoIndex.add(point);
+        }
+
+        // Act
+        List<EventGeoIndex.Hit> result = eventGeoIndex.nearby(43.5, -79.3, 8, 10_000, null);
+
+        // Assert
+        List<Integer> expected = points.stream()
+                .filter(p -> EventGeoIndex.distanceKm(43.5, -79.3, p.latitude(), p.longitude()) <= 8)
+                .sorted(Comparator.comparingDouble(p -> EventGeoIndex.distanceKm(43.5, -79.3, p.latitude(), p.longitude())))
+                .map(GeoEventDto::id)
+                .toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, result.stream().map(EventGeoIndex.Hit::id).filter(id -> id >= 100).toList());
+    }
+}
@@ -0,0 +1,136 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.services.implementations.EventNgramIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EventNgramIndexTest {
+
+    @Mock
+    private EventDao eventDao;
+
+    @InjectMocks
+    private EventNgramIndex eventNgramIndex;
+
+    private final LocalDateTime now = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        when(eventDao.findIndexedEventsAfterId(eq(0), anyInt())).thenReturn(List.of(
+                new IndexedEventDto(1, now.plusDays(1), "Jazz Night", "Downtown Club", "Music"),
+                new IndexedEventDto(2, now.plusDays(3), "Rock Festival", "City Park", "Music"),
+                new IndexedEventDto(3, now.plusDays(2), "Tech Conference", "Convention Center", "Technology")
+        ));
+        eventNgramIndex.rebuild();
+    }
+
+    @Test
+    void search_WithSubstringFilter_ShouldReturnMatchesOrderedByDateDesc() {
+        // Act
+        int[] result = eventNgramIndex.search(new EventFilter(null, null, "usi")).orElseThrow();
+
+        // Assert
+        assertArrayEquals(new int[]{2, 1}, result);
+    }
+
+    @Test
+    void search_WithTitleFilter_ShouldOnlyMatchPrefix() {
+        // Act
+        int[] prefix = eventNgramIndex.search(new EventFilter("jazz", null, null)).orElseThrow();
+        int[] infix = eventNgramIndex.search(new EventFilter("night", null, null)).orElseThrow();
+
+        // Assert
+        assertArrayEquals(new int[]{1}, prefix);
+        assertEquals(0, infix.length);
+    }
+
+    @Test
+    void search_WithCombinedFilters_ShouldVerifyShortFiltersToo() {
+        // Act - "ci" is too short for a trigram but is still checked against the candidates
+        int[] result = eventNgramIndex.search(new EventFilter(null, "ci", "music")).orElseThrow();
+
+        // Assert
+        assertArrayEquals(new int[]{2}, result);
+    }
+
+    @Test
+    void search_WhenOnlyShortOrNoFilters_ShouldDeferToDatabase() {
+        // Act & Assert
+        assertTrue(eventNgramIndex.search(new EventFilter(null, "ci", null)).isEmpty());
+        assertTrue(eventNgramIndex.search(new EventFilter(null, null, null)).isEmpty());
+    }
+
+    @Test
+    void onEventSaved_ShouldMakeNewEventSearchable() {
+        // Arrange
+        Event event = new Event();
+        event.setId(4);
+        event.setTitle("Jazz Brunch");
+        event.setLocation("Downtown Cafe");
+        event.setCategory("Food");
+        event.setDateTime(now.plusDays(5));
+
+        // Act
+        eventNgramIndex.onEventSaved(new EventSavedEvent(event));
+
+        // Assert
+        assertArrayEquals(new int[]{4, 1}, eventNgramIndex.search(new EventFilter("jazz", "downtown", null)).orElseThrow());
+    }
+
+    @Test
+    void onEventSaved_WhenEventChanged_ShouldOnlyMatchItsNewValues() {
+        // Arrange
+        Event event = new Event();
+        event.setId(1);
+        event.setTitle("Blues Night");
+        event.setLocation("Harbour Club");
+        event.setCategory("Music");
+        event.setDateTime(now.plusDays(1));
+
+        // Act
+        eventNgramIndex.onEventSaved(new EventSavedEvent(event));
+
+        // Assert
+        assertArrayEquals(new int[0], eventNgramIndex.search(new EventFilter("jazz", null, null)).orElseThrow());
+        assertArrayEquals(new int[0], eventNgramIndex.search(new EventFilter(null, "downtown", null)).orElseThrow());
+        assertArrayEquals(new int[]{1}, eventNgramIndex.search(new EventFilter("blues", "harbour", null)).orElseThrow());
+        assertArrayEquals(new int[]{2, 1}, eventNgramIndex.search(new EventFilter(null, null, "music")).orElseThrow());
+    }
+
+    @Test
+    void catchUp_ShouldIndexEventsSavedOutsideThisInstance() {
+        // Arrange
+        Event event = new Event();
+        event.setId(4);
+        event.setTitle("Jazz Brunch");
+        event.setLocation("Downtown Cafe");
+        event.setCategory("Food");
+        event.setDateTime(now.plusDays(5));
+        when(eventDao.findAllUpdatedAfter(any(LocalDateTime.class), eq(0), anyInt())).thenReturn(List.of(event));
+
+        // Act
+        eventNgramIndex.catchUp();
+
+        // Assert
+        assertArrayEquals(new int[]{4, 1}, eventNgramIndex.search(new EventFilter("jazz", "downtown", null)).orElseThrow());
+    }
+}
@@ -0,0 +1,73 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.services.implementations.EventPageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventPageCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventPageCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EventPageCache(meterRegistry);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndRecordHitsAndMisses() {
+        // Act
+        cache.get(0, 10, new EventFilter(null, null, null), this::load);
+        cache.get(0, 10, new EventFilter(null, null, null), this::load);
+        cache.get(1, 10, new EventFilter(null, null, null), this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("cache", EventPageCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("cache", EventPageCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void invalidate_ShouldOnlyEvictPagesWhoseFiltersMatchTheEvent() {
+        // Arrange
+        cache.get(0, 10, new EventFilter(null, null, null), this::load);
+        cache.get(0, 10, new EventFilter(null, null, "music"), this::load);
+        cache.get(0, 10, new EventFilter(null, null, "sports"), this::load);
+        cache.get(0, 10, new EventFilter("jazz", null, null), this::load);
+        Event event = new Event();
+        event.setTitle("Rock Festival");
+        event.setLocation("City Park");
+        event.setCategory("Music");
+
+        // Act
+        cache.invalidate(event);
+
+        // Assert
+        assertEquals(2, cache.size());
+        cache.get(0, 10, new EventFilter(null, null, "sports"), this::load);
+        cache.get(0, 10, new EventFilter("jazz", null, null), this::load);
+        assertEquals(4, loads.get());
+        cache.get(0, 10, new EventFilter(null, null, "music"), this::load);
+        assertEquals(5, loads.get());
+    }
+
+    private Page<EventDto> load() {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of());
+    }
+}
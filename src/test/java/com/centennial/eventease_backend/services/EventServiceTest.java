@@ -1,32 +1,63 @@
 package com.centennial.eventease_backend.services;
 
+import com.centennial.eventease_backend.dto.BulkImportErrorDto;
+import com.centennial.eventease_backend.dto.BulkImportReportDto;
 import com.centennial.eventease_backend.dto.CreateEventDto;
+import com.centennial.eventease_backend.dto.CursorPageDto;
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventFilter;
+import com.centennial.eventease_backend.dto.EventSearchHitsDto;
+import com.centennial.eventease_backend.dto.EventSlotDto;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
+import com.centennial.eventease_backend.dto.EventDataFormat;
 import com.centennial.eventease_backend.dto.EventDto;
+import com.centennial.eventease_backend.dto.EventFacetsDto;
 import com.centennial.eventease_backend.dto.GetEventDto;
+import com.centennial.eventease_backend.dto.NearbyEventDto;
 import com.centennial.eventease_backend.entities.Event;
 import com.centennial.eventease_backend.entities.Member;
 import com.centennial.eventease_backend.exceptions.*;
 import com.centennial.eventease_backend.repository.contracts.EventDao;
 import com.centennial.eventease_backend.repository.contracts.MemberDao;
+import com.centennial.eventease_backend.services.contracts.EventSearchService;
 import com.centennial.eventease_backend.services.contracts.StorageService;
+import com.centennial.eventease_backend.services.implementations.EventFacetIndex;
+import com.centennial.eventease_backend.services.implementations.EventGeoIndex;
+import com.centennial.eventease_backend.services.implementations.EventNgramIndex;
+import com.centennial.eventease_backend.services.implementations.EventPageCache;
 import com.centennial.eventease_backend.services.implementations.EventServiceImpl;
+import com.centennial.eventease_backend.services.implementations.EventSuggestIndex;
+import com.centennial.eventease_backend.services.implementations.UpcomingEventIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -48,12 +79,39 @@ public class EventServiceTest {
     @Mock
     private Resource mockResource;
 
+    @Mock
+    private EventNgramIndex eventNgramIndex;
+
+    @Mock
+    private EventSearchService eventSearchService;
+
+    @Mock
+    private EventFacetIndex eventFacetIndex;
+
+    @Mock
+    private EventGeoIndex eventGeoIndex;
+
+    @Mock
+    private UpcomingEventIndex upcomingEventIndex;
+
+    @Mock
+    private EventSuggestIndex eventSuggestIndex;
+
+    @Spy
+    private EventPageCache eventPageCache = new EventPageCache(new SimpleMeterRegistry());
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
 
     @InjectMocks
     private EventServiceImpl eventService;
 
     private Event testEvent;
-    private Page<Event> eventPage;
+    private EventDto testEventDto;
+    private Page<EventDto> eventPage;
     private CreateEventDto validCreateEventDto;
     private Member testMember;
 
@@ -69,7 +127,9 @@ public class EventServiceTest {
         testEvent.setTicketsSold(50);
         testEvent.setPricePerTicket(25.0f);
 
-        eventPage = new PageImpl<>(List.of(testEvent));
+        testEventDto = new EventDto(1, "Test Event", "Test Description", null,
+                "Test", "Test Location", 50, 25.0f);
+        eventPage = new PageImpl<>(List.of(testEventDto));
         testMember = new Member();
         testMember.setMemberId(1);
 
@@ -82,31 +142,138 @@ public class EventServiceTest {
                 "Test Location",
                 100,
                 25.0f,
-                1
+                1,
+                null,
+                null
         );
     }
 
     @Test
-    void getAll_WithValidPagination_ShouldReturnPageOfEvents() throws PageOutOfRangeException {
+    void getAll_WithValidPagination_ShouldReturnPageOfEvents() throws PageOutOfRangeException, InvalidDateTimeException {
         // Arrange
-        when(eventDao.findAllOrderedByDate(isNull(), isNull(), isNull(), any(Pageable.class)))
+        when(eventDao.findAllOrderedByDate(eq(new EventFilter(null, null, null)), any(Pageable.class)))
                 .thenReturn(eventPage);
 
         // Act
-        Page<EventDto> result = eventService.getAll(0, 10, null, null, null);
+        Page<EventDto> result = eventService.getAll(0, 10, new EventFilter(null, null, null));
 
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals("Test Event", result.getContent().getFirst().title());
-        verify(eventDao).findAllOrderedByDate(null, null, null, PageRequest.of(0, 10));
+        verify(eventDao).findAllOrderedByDate(new EventFilter(null, null, null), PageRequest.of(0, 10));
+    }
+
+    @Test
+    void getAll_WhenPageIsCached_ShouldNotQueryAgain() throws PageOutOfRangeException, InvalidDateTimeException {
+        // Arrange
+        when(eventDao.findAllOrderedByDate(eq(new EventFilter(null, null, "test")), any(Pageable.class)))
+                .thenReturn(eventPage);
+
+        // Act
+        Page<EventDto> first = eventService.getAll(0, 10, new EventFilter(null, null, "test"));
+        Page<EventDto> second = eventService.getAll(0, 10, new EventFilter("", null, "Test"));
+
+        // Assert
+        assertSame(first, second);
+        verify(eventDao, times(1)).findAllOrderedByDate(any(), any());
+    }
+
+    @Test
+    void getAll_AfterSaveOfMatchingEvent_ShouldQueryAgain() throws Exception {
+        // Arrange
+        when(eventDao.findAllOrderedByDate(eq(new EventFilter(null, null, null)), any(Pageable.class)))
+                .thenReturn(eventPage);
+        when(memberDao.findById(anyInt())).thenReturn(Optional.of(testMember));
+        CreateEventDto withoutFile = new CreateEventDto(
+                "Test Event", "Description", null, "Test Category",
+                LocalDateTime.now().plusDays(1), "Location", 100, 20.0f, 1, null, null);
+
+        // Act
+        eventService.getAll(0, 10, new EventFilter(null, null, null));
+        eventService.save(withoutFile);
+        eventService.getAll(0, 10, new EventFilter(null, null, null));
+
+        // Assert
+        verify(eventPageCache).invalidate(any(Event.class));
+        verify(eventDao, times(2)).findAllOrderedByDate(any(), any());
+    }
+
+    @Test
+    void getAll_WhenIndexResolvesFilter_ShouldOnlyFetchPageRows() throws PageOutOfRangeException, InvalidDateTimeException {
+        // Arrange
+        when(eventNgramIndex.search(new EventFilter(null, "location", null)))
+                .thenReturn(Optional.of(new int[]{5, 4, 3, 2, 1}));
+        when(eventDao.findAllByIdsOrderedByDate(List.of(3, 2))).thenReturn(List.of(testEventDto));
+
+        // Act
+        Page<EventDto> result = eventService.getAll(1, 2, new EventFilter(null, "location", null));
+
+        // Assert
+        assertEquals(5, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        verify(eventDao).findAllByIdsOrderedByDate(List.of(3, 2));
+        verify(eventDao, never()).findAllOrderedByDate(any(), any());
+    }
+
+    @Test
+    void getAll_WhenUpcomingOnly_ShouldPageThroughTheUpcomingIndex() throws Exception {
+        // Arrange
+        EventFilter upcoming = new EventFilter(null, null, null, null, null, true);
+        when(upcomingEventIndex.isReady()).thenReturn(true);
+        when(upcomingEventIndex.page(eq(10L), eq(10), any(LocalDateTime.class))).thenReturn(List.of(1));
+        when(upcomingEventIndex.count(any(LocalDateTime.class))).thenReturn(11L);
+        when(eventDao.findAllByIdsOrderedByDate(List.of(1))).thenReturn(List.of(testEventDto));
+
+        // Act
+        Page<EventDto> result = eventService.getAll(1, 10, upcoming);
+
+        // Assert
+        assertEquals(11, result.getTotalElements());
+        assertEquals(List.of(testEventDto), result.getContent());
+        verify(eventDao, never()).findAllOrderedByDate(any(), any());
+    }
+
+    @Test
+    void getAll_WhenUpcomingWithFilters_ShouldQueryWithTheFilter() throws Exception {
+        // Arrange
+        EventFilter filter = new EventFilter("jazz", null, null, null, null, true);
+        when(eventDao.findAllOrderedByDate(eq(filter), any(Pageable.class))).thenReturn(eventPage);
+
+        // Act
+        Page<EventDto> result = eventService.getAll(0, 10, filter);
+
+        // Assert
+        assertSame(eventPage, result);
+        verify(upcomingEventIndex, never()).page(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void getAll_WhenRangeIsReversed_ShouldThrowInvalidDateTimeException() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        EventFilter reversed = new EventFilter(null, null, null, now, now.minusDays(1), false);
+
+        // Act & Assert
+        assertThrows(InvalidDateTimeException.class, () -> eventService.getAll(0, 10, reversed));
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void getCatalogVersion_ShouldChangeWhenUpcomingEventsArePruned() {
+        // Arrange
+        when(eventDao.getCatalogVersion()).thenReturn("1-5");
+        when(upcomingEventIndex.generation()).thenReturn(0L, 1L);
+
+        // Act & Assert
+        assertNotEquals(eventService.getCatalogVersion(), eventService.getCatalogVersion());
     }
 
     @Test
     void getAll_WithNegativePage_ShouldThrowException() {
         // Act & Assert
         PageOutOfRangeException exception = assertThrows(PageOutOfRangeException.class,
-                () -> eventService.getAll(-1, 10, null, null, null));
+                () -> eventService.getAll(-1, 10, new EventFilter(null, null, null)));
 
         assertEquals("Page number cannot be negative", exception.getMessage());
         verifyNoInteractions(eventDao);
@@ -116,7 +283,7 @@ public class EventServiceTest {
     void getAll_WithZeroSize_ShouldThrowException() {
         // Act & Assert
         PageOutOfRangeException exception = assertThrows(PageOutOfRangeException.class,
-                () -> eventService.getAll(0, 0, null, null, null));
+                () -> eventService.getAll(0, 0, new EventFilter(null, null, null)));
 
         assertEquals("Page size must be greater than 0", exception.getMessage());
         verifyNoInteractions(eventDao);
@@ -126,12 +293,281 @@ public class EventServiceTest {
     void getAll_WithExcessiveSize_ShouldThrowException() {
         // Act & Assert
         PageOutOfRangeException exception = assertThrows(PageOutOfRangeException.class,
-                () -> eventService.getAll(0, 101, null, null, null));
+                () -> eventService.getAll(0, 101, new EventFilter(null, null, null)));
 
         assertEquals("Page size cannot exceed 100", exception.getMessage());
         verifyNoInteractions(eventDao);
     }
 
+    @Test
+    void getSlice_WithValidPagination_ShouldReturnSliceOfEvents() throws PageOutOfRangeException, InvalidDateTimeException {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventDao.findSliceOrderedByDate(eq(new EventFilter(null, null, null)), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(testEventDto), pageable, true));
+
+        // Act
+        Slice<EventDto> result = eventService.getSlice(0, 10, new EventFilter(null, null, null));
+
+        // Assert
+        assertEquals(1, result.getNumberOfElements());
+        assertTrue(result.hasNext());
+        assertEquals("Test Event", result.getContent().getFirst().title());
+        verify(eventDao, never()).findAllOrderedByDate(any(), any());
+    }
+
+    @Test
+    void getSlice_WithExcessiveSize_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(PageOutOfRangeException.class, () -> eventService.getSlice(0, 101, new EventFilter(null, null, null)));
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void getAllAfter_WhenMoreRowsExist_ShouldReturnNextCursor() throws Exception {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.of(2030, 1, 1, 10, 0);
+        testEvent.setDateTime(dateTime.plusDays(1));
+        Event second = new Event();
+        second.setId(2);
+        second.setTitle("Second");
+        second.setDateTime(dateTime);
+        when(eventDao.findAllOrderedByDateAfter(eq(new EventFilter(null, null, null)), isNull(), eq(2)))
+                .thenReturn(List.of(testEvent, second));
+
+        // Act
+        CursorPageDto<EventDto> result = eventService.getAllAfter(null, 1, new EventFilter(null, null, null));
+
+        // Assert
+        assertEquals(1, result.content().size());
+        assertTrue(result.hasNext());
+        assertEquals(new EventCursor(testEvent.getDateTime(), testEvent.getId()), EventCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getAllAfter_WhenLastPage_ShouldNotReturnNextCursor() throws Exception {
+        // Arrange
+        EventCursor cursor = new EventCursor(LocalDateTime.of(2030, 1, 1, 10, 0), 7);
+        when(eventDao.findAllOrderedByDateAfter(eq(new EventFilter(null, null, null)), eq(cursor), eq(11)))
+                .thenReturn(List.of(testEvent));
+
+        // Act
+        CursorPageDto<EventDto> result = eventService.getAllAfter(cursor.encode(), 10, new EventFilter(null, null, null));
+
+        // Assert
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getAllAfter_WithMalformedCursor_ShouldThrowInvalidCursorException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class,
+                () -> eventService.getAllAfter("not-a-cursor", 10, new EventFilter(null, null, null)));
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void export_AsNdjson_ShouldWriteOneEventPerLine() throws Exception {
+        // Arrange
+        EventFilter filter = new EventFilter("test", null, null, null, null, false);
+        testEvent.setDateTime(LocalDateTime.of(2030, 5, 1, 20, 0));
+        streamEvents(filter, testEvent);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        eventService.export(filter, EventDataFormat.NDJSON).writeTo(out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        GetEventDto exported = objectMapper.readValue(lines[0], GetEventDto.class);
+        assertEquals(1, exported.id());
+        assertEquals(LocalDateTime.of(2030, 5, 1, 20, 0), exported.dateTime());
+        assertEquals(50, exported.ticketsLeft());
+    }
+
+    @Test
+    void export_AsCsv_ShouldWriteHeaderAndQuoteFieldsWithSeparators() throws Exception {
+        // Arrange
+        EventFilter filter = new EventFilter(null, null, null);
+        testEvent.setDescription("Food, drinks and \"live\" music");
+        testEvent.setDateTime(LocalDateTime.of(2030, 5, 1, 20, 0));
+        streamEvents(filter, testEvent);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        eventService.export(filter, EventDataFormat.CSV).writeTo(out);
+
+        // Assert
+        assertEquals("""
+                id,title,description,imagePath,category,dateTime,location,ticketsLeft,pricePerTicket
+                1,Test Event,"Food, drinks and ""live"" music",,Test,2030-05-01T20:00:00,Test Location,50,25.0
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void export_WhenRangeIsReversed_ShouldThrowBeforeReadingAnyRow() {
+        // Arrange
+        EventFilter filter = new EventFilter(null, null, null,
+                LocalDateTime.of(2030, 2, 1, 0, 0), LocalDateTime.of(2030, 1, 1, 0, 0), false);
+
+        // Act & Assert
+        assertThrows(InvalidDateTimeException.class, () -> eventService.export(filter, EventDataFormat.NDJSON));
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void importEvents_ShouldSaveValidRowsAndReportTheOthersByLine() throws Exception {
+        // Arrange
+        LocalDateTime taken = LocalDateTime.of(2031, 3, 1, 19, 0);
+        String ndjson = """
+                {"title":"Jazz Night","category":"Music","dateTime":"2031-03-01T20:00:00","location":"Blue Room","totalTickets":80,"pricePerTicket":20.0}
+                {"title":"Old Show","category":"Music","dateTime":"2020-01-01T20:00:00","location":"Blue Room","totalTickets":80,"pricePerTicket":20.0}
+                {"title":"Jazz Night Again","category":"Music","dateTime":"2031-03-01T20:00:00","location":"Blue Room","totalTickets":80,"pricePerTicket":20.0}
+                {"title":"Booked","category":"Music","dateTime":"2031-03-01T19:00:00","location":"Main Hall","totalTickets":80,"pricePerTicket":20.0}
+                not json
+
+                {"title":"Poetry","category":"Literature","dateTime":"2031-04-01T18:00:00","location":"Library","totalTickets":30,"pricePerTicket":5.0}
+                """;
+        when(memberDao.findById(1)).thenReturn(Optional.of(testMember));
+        when(eventDao.findTakenSlots(any())).thenReturn(List.of(new EventSlotDto(taken, "Main Hall")));
+
+        // Act
+        BulkImportReportDto report = eventService.importEvents(1, EventDataFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(6, report.received());
+        assertEquals(2, report.imported());
+        assertEquals(List.of(2, 3, 4, 5), report.errors().stream().map(BulkImportErrorDto::line).toList());
+        assertEquals("Event date must be in the future", report.errors().get(0).message());
+        assertEquals("Same date and location as line 1", report.errors().get(1).message());
+        assertEquals("An event already exists at this location and time", report.errors().get(2).message());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Event>> saved = ArgumentCaptor.forClass(List.class);
+        verify(eventDao).saveAll(saved.capture());
+        assertEquals(List.of("Jazz Night", "Poetry"), saved.getValue().stream().map(Event::getTitle).toList());
+        assertTrue(saved.getValue().stream().allMatch(event -> event.getMember() == testMember));
+        verify(eventPageCache).invalidateAll();
+    }
+
+    @Test
+    void importEvents_AsCsv_ShouldReadQuotedFieldsAndReportBadValues() throws Exception {
+        // Arrange
+        String csv = """
+                title,description,category,dateTime,location,totalTickets,pricePerTicket
+                Jazz Night,"Food, drinks and
+                ""live"" music",Music,2031-03-01T20:00:00,Blue Room,80,20.0
+                Poetry,,Literature,next tuesday,Library,30,5.0
+                """;
+        when(memberDao.findById(1)).thenReturn(Optional.of(testMember));
+        when(eventDao.findTakenSlots(any())).thenReturn(List.of());
+
+        // Act
+        BulkImportReportDto report = eventService.importEvents(1, EventDataFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(2, report.received());
+        assertEquals(1, report.imported());
+        assertEquals(List.of(new BulkImportErrorDto(4, "Invalid value for dateTime: next tuesday")), report.errors());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Event>> saved = ArgumentCaptor.forClass(List.class);
+        verify(eventDao).saveAll(saved.capture());
+        assertEquals("Food, drinks and\n\"live\" music", saved.getValue().getFirst().getDescription());
+    }
+
+    @Test
+    void importEvents_WhenCsvHeaderLacksAColumn_ShouldThrowInvalidImportException() {
+        // Arrange
+        when(memberDao.findById(1)).thenReturn(Optional.of(testMember));
+        String csv = "title,category,dateTime\nJazz Night,Music,2031-03-01T20:00:00\n";
+
+        // Act & Assert
+        InvalidImportException exception = assertThrows(InvalidImportException.class,
+                () -> eventService.importEvents(1, EventDataFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+        assertEquals("The CSV header is missing the column location", exception.getMessage());
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void importEvents_WhenAChunkFails_ShouldReportItsRows() throws Exception {
+        // Arrange
+        String ndjson = """
+                {"title":"Jazz Night","category":"Music","dateTime":"2031-03-01T20:00:00","location":"Blue Room","totalTickets":80,"pricePerTicket":20.0}
+                """;
+        when(memberDao.findById(1)).thenReturn(Optional.of(testMember));
+        when(eventDao.findTakenSlots(any())).thenReturn(List.of());
+        doThrow(new IllegalStateException("constraint violated")).when(eventDao).saveAll(any());
+
+        // Act
+        BulkImportReportDto report = eventService.importEvents(1, EventDataFormat.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(0, report.imported());
+        assertEquals(List.of(new BulkImportErrorDto(1, "Could not be saved: constraint violated")), report.errors());
+    }
+
+    @Test
+    void getFacets_ShouldAskTheIndexWithTheFullFilter() throws InvalidDateTimeException {
+        // Arrange
+        EventFacetsDto facets = new EventFacetsDto(1, Map.of("Test", 1L), Map.of("Test Location", 1L));
+        LocalDateTime to = LocalDateTime.of(2031, 1, 1, 0, 0);
+        EventFilter filter = new EventFilter("", "test", null, null, to, true);
+        when(eventFacetIndex.count(filter)).thenReturn(facets);
+
+        // Act
+        EventFacetsDto result = eventService.getFacets(filter);
+
+        // Assert
+        assertSame(facets, result);
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void getFacets_WithInvertedDateRange_ShouldThrowInvalidDateTimeException() {
+        // Arrange
+        EventFilter filter = new EventFilter(null, null, null,
+                LocalDateTime.of(2031, 2, 1, 0, 0), LocalDateTime.of(2031, 1, 1, 0, 0), false);
+
+        // Act & Assert
+        assertThrows(InvalidDateTimeException.class, () -> eventService.getFacets(filter));
+        verifyNoInteractions(eventFacetIndex);
+    }
+
+    @Test
+    void getVersion_ShouldComeFromTheDaoWithoutQuerying() {
+        // Arrange
+        when(eventDao.getCatalogVersion()).thenReturn("1-5");
+        when(eventDao.getVersion(1)).thenReturn("1-3");
+
+        // Act & Assert
+        assertEquals("1-5-0", eventService.getCatalogVersion());
+        assertEquals("1-3", eventService.getVersion(1));
+        verify(eventDao, never()).findById(anyInt());
+    }
+
+    @Test
+    void search_ShouldHydrateHitsInRelevanceOrder() throws PageOutOfRangeException {
+        // Arrange
+        EventDto other = new EventDto(2, "Other Event", "Other Description", null,
+                "Test", "Test Location", 10, 5.0f);
+        when(eventSearchService.search("test", 0, 10)).thenReturn(new EventSearchHitsDto(new int[]{2, 1}, 2));
+        when(eventDao.findAllByIdsOrderedByDate(List.of(2, 1))).thenReturn(List.of(testEventDto, other));
+
+        // Act
+        Page<EventDto> result = eventService.search("test", 0, 10);
+
+        // Assert
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(2, 1), result.getContent().stream().map(EventDto::id).toList());
+    }
+
     @Test
     public void get_WhenEventExistsWithoutImage_ShouldReturnDtoWithNullImage() throws Exception {
         // Arrange
@@ -163,39 +599,132 @@ public class EventServiceTest {
     }
 
     @Test
-    void save_WhenEventConflict_ShouldThrowEventConflictException() {
+    void save_WhenEventConflict_ShouldThrowEventConflictException() throws Exception {
         // Arrange
-        when(eventDao.findByDateAndLocation(any(), any())).thenReturn(Optional.of(testEvent));
+        CreateEventDto withFile = withImage("poster.png");
+        when(memberDao.findById(anyInt())).thenReturn(Optional.of(testMember));
+        doThrow(new EventConflictException("An event already exists at this location and time"))
+                .when(eventDao).save(any());
 
         // Act & Assert
-        assertThrows(EventConflictException.class, () -> eventService.save(validCreateEventDto));
-        verify(eventDao, never()).save(any());
+        assertThrows(EventConflictException.class, () -> eventService.save(withFile));
+        verify(eventDao, never()).findByDateAndLocation(any(), any());
+        verifyNoInteractions(imageStorageService);
     }
 
     @Test
-    void save_WhenDateIsPast_ShouldThrowInvalidDateTimeException() {
+    void save_WhenDateIsPast_ShouldThrowInvalidDateTimeException() throws Exception {
         // Arrange
         CreateEventDto pastEventDto = new CreateEventDto(
                 "Test Event", "Description", mock(MultipartFile.class), "Test Category",
-                LocalDateTime.now().minusDays(1), "Location", 100, 20.0f, 1);
+                LocalDateTime.now().minusDays(1), "Location", 100, 20.0f, 1, null, null);
 
         // Act & Assert
         assertThrows(InvalidDateTimeException.class, () -> eventService.save(pastEventDto));
-        verify(eventDao, never()).save(any());
+        verifyNoInteractions(eventDao, memberDao);
     }
 
     @Test
-    void save_WhenPriceIsNegative_ShouldThrowInvalidPriceException() {
+    void save_WhenPriceIsNegative_ShouldThrowInvalidPriceException() throws Exception {
         // Arrange
         CreateEventDto invalidPriceEventDto = new CreateEventDto(
                 "Test Event", "Description", mock(MultipartFile.class), "Test Category",
-                LocalDateTime.now().plusDays(1), "Location", 100, -10.0f, 1);
+                LocalDateTime.now().plusDays(1), "Location", 100, -10.0f, 1, null, null);
 
         // Act & Assert
         assertThrows(InvalidPriceException.class, () -> eventService.save(invalidPriceEventDto));
+        verifyNoInteractions(eventDao, memberDao);
+    }
+
+    @Test
+    void save_WhenOnlyLatitudeIsGiven_ShouldThrowInvalidCoordinatesException() throws Exception {
+        // Arrange
+        CreateEventDto halfPoint = new CreateEventDto(
+                "Test Event", "Description", null, "Test Category",
+                LocalDateTime.now().plusDays(1), "Location", 100, 20.0f, 1, 43.65, null);
+
+        // Act & Assert
+        assertThrows(InvalidCoordinatesException.class, () -> eventService.save(halfPoint));
         verify(eventDao, never()).save(any());
     }
 
+    @Test
+    void save_WithCoordinates_ShouldStoreThemOnTheEvent() throws Exception {
+        // Arrange
+        CreateEventDto located = new CreateEventDto(
+                "Test Event", "Description", null, "Test Category",
+                LocalDateTime.now().plusDays(1), "Location", 100, 20.0f, 1, 43.65, -79.38);
+        when(memberDao.findById(anyInt())).thenReturn(Optional.of(testMember));
+
+        // Act
+        eventService.save(located);
+
+        // Assert
+        verify(eventDao).save(argThat(event -> event.getLatitude() == 43.65 && event.getLongitude() == -79.38));
+    }
+
+    @Test
+    void getNearby_ShouldReturnEventsInDistanceOrder() throws Exception {
+        // Arrange
+        EventDto far = new EventDto(2, "Far Event", "Description", null, "Test", "Far", 10, 5.0f);
+        when(eventGeoIndex.nearby(eq(43.65), eq(-79.38), eq(10.0), eq(20), any(LocalDateTime.class)))
+                .thenReturn(List.of(new EventGeoIndex.Hit(2, 0.5), new EventGeoIndex.Hit(1, 3.0)));
+        when(eventDao.findAllByIdsOrderedByDate(List.of(2, 1))).thenReturn(List.of(testEventDto, far));
+
+        // Act
+        List<NearbyEventDto> result = eventService.getNearby(43.65, -79.38, 10, 20, true);
+
+        // Assert
+        assertEquals(List.of(2, 1), result.stream().map(hit -> hit.event().id()).toList());
+        assertEquals(0.5, result.getFirst().distanceKm());
+    }
+
+    @Test
+    void getNearby_WhenNotUpcoming_ShouldNotBoundTheStart() throws Exception {
+        // Arrange
+        when(eventGeoIndex.nearby(43.65, -79.38, 10, 20, null)).thenReturn(List.of(new EventGeoIndex.Hit(1, 0.5)));
+        when(eventDao.findAllByIdsOrderedByDate(List.of(1))).thenReturn(List.of(testEventDto));
+
+        // Act
+        List<NearbyEventDto> result = eventService.getNearby(43.65, -79.38, 10, 20, false);
+
+        // Assert
+        assertEquals(1, result.size());
+    }
+
+    @Test
+    void getNearby_WithInvalidInput_ShouldThrow() {
+        // Act & Assert
+        assertThrows(InvalidCoordinatesException.class, () -> eventService.getNearby(91, 0, 10, 20, true));
+        assertThrows(InvalidCoordinatesException.class, () -> eventService.getNearby(0, -181, 10, 20, true));
+        assertThrows(InvalidCoordinatesException.class, () -> eventService.getNearby(0, 0, 0, 20, true));
+        assertThrows(InvalidCoordinatesException.class, () -> eventService.getNearby(0, 0, 501, 20, true));
+        assertThrows(PageOutOfRangeException.class, () -> eventService.getNearby(0, 0, 10, 0, true));
+        verifyNoInteractions(eventGeoIndex);
+    }
+
+    @Test
+    void suggest_ShouldBeAnsweredByTheIndex() throws PageOutOfRangeException {
+        // Arrange
+        List<EventSuggestionDto> suggestions = List.of(new EventSuggestionDto("Jazz Night", EventSuggestionDto.Field.TITLE, 2));
+        when(eventSuggestIndex.suggest("jaz", 5)).thenReturn(suggestions);
+
+        // Act
+        List<EventSuggestionDto> result = eventService.suggest("jaz", 5);
+
+        // Assert
+        assertEquals(suggestions, result);
+        verifyNoInteractions(eventDao);
+    }
+
+    @Test
+    void suggest_WithInvalidLimit_ShouldThrow() {
+        // Act & Assert
+        assertThrows(PageOutOfRangeException.class, () -> eventService.suggest("jaz", 0));
+        assertThrows(PageOutOfRangeException.class, () -> eventService.suggest("jaz", EventSuggestIndex.MAX_SUGGESTIONS + 1));
+        verifyNoInteractions(eventSuggestIndex);
+    }
+
     @Test
     void save_WhenFileIsUploaded_ShouldStoreFile() throws Exception {
         // Arrange
@@ -204,9 +733,8 @@ public class EventServiceTest {
         when(fileMock.isEmpty()).thenReturn(false);
         CreateEventDto dtoWithFile = new CreateEventDto(
                 "Test Event", "Description", fileMock, "Test Category",
-                LocalDateTime.now().plusDays(1), "Location", 100, 20.0f, 1);
+                LocalDateTime.now().plusDays(1), "Location", 100, 20.0f, 1, null, null);
 
-        when(eventDao.findByDateAndLocation(any(), any())).thenReturn(Optional.empty());
         when(memberDao.findById(anyInt())).thenReturn(Optional.of(testMember));
 
         // Act
@@ -222,9 +750,9 @@ public class EventServiceTest {
         String username = "testuser";
         Pageable pageable = PageRequest.of(0, 10);
 
-        when(memberDao.findByUsername(username))
-                .thenReturn(Optional.of(testMember));
-        when(eventDao.findAllByMember(testMember, pageable))
+        when(memberDao.findIdByUsername(username))
+                .thenReturn(OptionalInt.of(testMember.getMemberId()));
+        when(eventDao.findAllByMember(testMember.getMemberId(), pageable))
                 .thenReturn(eventPage);
 
         // Act
@@ -234,8 +762,39 @@ public class EventServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getContent().size());
         assertEquals("Test Event", result.getContent().getFirst().title());
-        verify(memberDao).findByUsername(username);
-        verify(eventDao).findAllByMember(testMember, pageable);
+        verify(memberDao).findIdByUsername(username);
+        verify(eventDao).findAllByMember(testMember.getMemberId(), pageable);
+    }
+
+    @Test
+    void getAllByUsernameAfter_WhenMoreRowsExist_ShouldReturnNextCursor() throws Exception {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.of(2030, 1, 1, 10, 0);
+        testEvent.setDateTime(dateTime.plusDays(1));
+        Event second = new Event();
+        second.setId(2);
+        second.setTitle("Second");
+        second.setDateTime(dateTime);
+        when(memberDao.findIdByUsername("testuser")).thenReturn(OptionalInt.of(testMember.getMemberId()));
+        when(eventDao.findAllByMemberAfter(testMember.getMemberId(), null, 2)).thenReturn(List.of(testEvent, second));
+
+        // Act
+        CursorPageDto<EventDto> result = eventService.getAllByUsernameAfter("testuser", null, 1);
+
+        // Assert
+        assertEquals(1, result.content().size());
+        assertTrue(result.hasNext());
+        assertEquals(new EventCursor(testEvent.getDateTime(), testEvent.getId()), EventCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getAllByUsernameAfter_WithNonexistentUsername_ShouldThrowMemberNotFoundException() {
+        // Arrange
+        when(memberDao.findIdByUsername("nonexistent")).thenReturn(OptionalInt.empty());
+
+        // Act & Assert
+        assertThrows(MemberNotFoundException.class, () -> eventService.getAllByUsernameAfter("nonexistent", null, 10));
+        verifyNoInteractions(eventDao);
     }
 
     @Test
@@ -243,15 +802,15 @@ public class EventServiceTest {
         // Arrange
         String username = "nonexistent";
 
-        when(memberDao.findByUsername(username))
-                .thenReturn(Optional.empty());
+        when(memberDao.findIdByUsername(username))
+                .thenReturn(OptionalInt.empty());
 
         // Act & Assert
         MemberNotFoundException exception = assertThrows(MemberNotFoundException.class,
                 () -> eventService.getAllByUsername(username, 0, 10));
 
         assertEquals("Member not found with username: " + username, exception.getMessage());
-        verify(memberDao).findByUsername(username);
+        verify(memberDao).findIdByUsername(username);
         verifyNoInteractions(eventDao);
     }
 
@@ -297,5 +856,21 @@ public class EventServiceTest {
         verifyNoInteractions(eventDao);
     }
 
+    @SuppressWarnings("unchecked")
+    private void streamEvents(EventFilter filter, Event... events) {
+        doAnswer(invocation -> {
+            Consumer<Event> action = invocation.getArgument(1);
+            for (Event event : events) {
+                action.accept(event);
+            }
+            return null;
+        }).when(eventDao).forEachOrderedByDate(eq(filter), any(Consumer.class));
+    }
 
+    private CreateEventDto withImage(String originalFilename) {
+        MultipartFile file = mock(MultipartFile.class);
+        when(file.getOriginalFilename()).thenReturn(originalFilename);
+        return new CreateEventDto("Test Event", "Description", file, "Test Category",
+                LocalDateTime.now().plusDays(1), "Location", 100, 20.0f, 1, null, null);
+    }
 }
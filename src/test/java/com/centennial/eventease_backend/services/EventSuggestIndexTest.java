@@ -0,0 +1,139 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.dto.EventSuggestionDto;
+import com.centennial.eventease_backend.dto.EventSuggestionDto.Field;
+import com.centennial.eventease_backend.dto.IndexedEventDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.services.implementations.EventSuggestIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventSuggestIndexTest {
+
+    @Mock
+    private EventDao eventDao;
+
+    @InjectMocks
+    private EventSuggestIndex eventSuggestIndex;
+
+    @Test
+    void suggest_ShouldRankValuesByUpcomingEvents() {
+        // Arrange
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        when(eventDao.findIndexedEventsAfterId(0, 5_000)).thenReturn(List.of(
+                new IndexedEventDto(1, future, "Jazz Night", "Toronto", "Music"),
+                new IndexedEventDto(2, future, "Jazz Brunch", "Toronto", "Music"),
+                new IndexedEventDto(3, future, "Jazz Night", "Montreal", "Jazz")
+        ));
+        eventSuggestIndex.rebuild();
+
+        // Act
+        List<EventSuggestionDto> result = eventSuggestIndex.suggest("ja", 10);
+
+        // Assert
+        assertEquals(List.of(
+                new EventSuggestionDto("Jazz Night", Field.TITLE, 2),
+                new EventSuggestionDto("Jazz", Field.CATEGORY, 1),
+                new EventSuggestionDto("Jazz Brunch", Field.TITLE, 1)
+        ), result);
+    }
+
+    @Test
+    void suggest_ShouldMatchCaseInsensitivelyAndWithinEdges() {
+        // Arrange
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        when(eventDao.findIndexedEventsAfterId(0, 5_000)).thenReturn(List.of(
+                new IndexedEventDto(1, future, "Tech Talk", "Toronto", "Tech"),
+                new IndexedEventDto(2, future, "Techno Party", "Toronto", "Music")
+        ));
+        eventSuggestIndex.rebuild();
+
+        // Act & Assert
+        assertEquals(List.of("Tech", "Tech Talk", "Techno Party"),
+                eventSuggestIndex.suggest("TEC", 10).stream().map(EventSuggestionDto::text).toList());
+        assertEquals(List.of("Techno Party"),
+                eventSuggestIndex.suggest("techn", 10).stream().map(EventSuggestionDto::text).toList());
+        assertEquals(List.of("Toronto"),
+                eventSuggestIndex.suggest("tor", 10).stream().map(EventSuggestionDto::text).toList());
+        assertTrue(eventSuggestIndex.suggest("tex", 10).isEmpty());
+        assertTrue(eventSuggestIndex.suggest("technology", 10).isEmpty());
+        assertTrue(eventSuggestIndex.suggest(" ", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_ShouldRespectTheLimit() {
+        // Arrange
+        LocalDateTime future = LocalDateTime.now().plusDays(1);
+        when(eventDao.findIndexedEventsAfterId(0, 5_000)).thenReturn(List.of(
+                new IndexedEventDto(1, future, "Art Fair", "Arena", "Art"),
+                new IndexedEventDto(2, future, "Art Walk", "Arena", "Art")
+        ));
+        eventSuggestIndex.rebuild();
+
+        // Act
+        List<EventSuggestionDto> result = eventSuggestIndex.suggest("ar", 2);
+
+        // Assert
+        assertEquals(List.of(
+                new EventSuggestionDto("Arena", Field.LOCATION, 2),
+                new EventSuggestionDto("Art", Field.CATEGORY, 2)
+        ), result);
+    }
+
+    @Test
+    void onEventSaved_ShouldAddTheEventAndReplaceItsOldValues() {
+        // Arrange
+        when(eventDao.findIndexedEventsAfterId(0, 5_000)).thenReturn(List.of());
+        eventSuggestIndex.rebuild();
+        Event event = new Event("Opera Gala", "Description", "Opera", LocalDateTime.now().plusDays(3),
+                "Opera House", 100, 0, 50f, null, LocalDateTime.now());
+        event.setId(7);
+
+        // Act
+        eventSuggestIndex.onEventSaved(new EventSavedEvent(event));
+        event.setTitle("Opening Night");
+        eventSuggestIndex.onEventSaved(new EventSavedEvent(event));
+
+        // Assert
+        assertEquals(List.of("Opening Night", "Opera", "Opera House"),
+                eventSuggestIndex.suggest("op", 10).stream().map(EventSuggestionDto::text).toList());
+    }
+
+    @Test
+    void prune_ShouldTakeOutStartedEvents() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventDao.findIndexedEventsAfterId(0, 5_000)).thenReturn(List.of(
+                new IndexedEventDto(1, now.minusDays(1), "Past Parade", "Park", "Parade"),
+                new IndexedEventDto(2, now.plusNanos(50_000_000), "Party", "Park", "Music")
+        ));
+        eventSuggestIndex.rebuild();
+        assertEquals(List.of("Park", "Party"),
+                eventSuggestIndex.suggest("pa", 10).stream().map(EventSuggestionDto::text).toList());
+
+        // Act
+        await(now.plusNanos(50_000_000));
+        eventSuggestIndex.prune();
+
+        // Assert
+        assertTrue(eventSuggestIndex.suggest("pa", 10).isEmpty());
+    }
+
+    private static void await(LocalDateTime instant) {
+        while (!LocalDateTime.now().isAfter(instant)) {
+            Thread.onSpinWait();
+        }
+    }
+}
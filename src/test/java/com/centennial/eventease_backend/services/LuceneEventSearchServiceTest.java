@@ -0,0 +1,203 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventSearchHitsDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.security.StorageProperties;
+import com.centennial.eventease_backend.services.implementations.LuceneEventSearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LuceneEventSearchServiceTest {
+
+    @TempDir
+    Path indexDir;
+
+    @Mock
+    private EventDao eventDao;
+
+    private LuceneEventSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new LuceneEventSearchService(properties(), eventDao);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchService.close();
+    }
+
+    @Test
+    void search_ShouldMatchDescriptionAndRankTitleHitsFirst() {
+        // Arrange
+        searchService.index(createEvent(1, "Food Festival", "Taste jazz inspired cuisine from around the world"));
+        searchService.index(createEvent(2, "Jazz Night", "An evening of smooth music with local artists"));
+        searchService.index(createEvent(3, "Marathon", "Annual city marathon"));
+        searchService.refresh();
+
+        // Act
+        EventSearchHitsDto hits = searchService.search("jazz", 0, 10);
+
+        // Assert
+        assertEquals(2, hits.totalHits());
+        assertArrayEquals(new int[]{2, 1}, hits.ids());
+    }
+
+    @Test
+    void search_ShouldPageThroughHits() {
+        // Arrange
+        for (int id = 1; id <= 5; id++) {
+            searchService.index(createEvent(id, "Workshop " + id, "Hands-on coding workshop"));
+        }
+        searchService.refresh();
+
+        // Act
+        EventSearchHitsDto secondPage = searchService.search("workshop", 2, 2);
+
+        // Assert
+        assertEquals(5, secondPage.totalHits());
+        assertEquals(2, secondPage.ids().length);
+    }
+
+    @Test
+    void index_WhenEventIndexedTwice_ShouldKeepSingleDocument() {
+        // Arrange
+        Event event = createEvent(1, "Book Reading", "Author reading and book signing");
+
+        // Act
+        searchService.index(event);
+        searchService.index(event);
+        searchService.refresh();
+
+        // Assert
+        assertEquals(1, searchService.search("book", 0, 10).totalHits());
+    }
+
+    @Test
+    void catchUp_WithoutRecordedLoad_ShouldIndexEveryEvent() {
+        // Arrange
+        searchService.index(createEvent(5, "Art Exhibition", "Contemporary art"));
+        when(eventDao.findAllOrderedByIdAfter(eq(0), anyInt()))
+                .thenReturn(List.of(createEvent(2, "Science Fair", "Interactive science exhibits")));
+
+        // Act
+        searchService.catchUp();
+
+        // Assert
+        assertArrayEquals(new int[]{2}, searchService.search("science", 0, 10).ids());
+        assertArrayEquals(new int[]{5}, searchService.search("art", 0, 10).ids());
+    }
+
+    @Test
+    void catchUp_AfterRestart_ShouldReindexEventsUpdatedSinceTheLastLoad() throws IOException {
+        // Arrange
+        when(eventDao.findAllOrderedByIdAfter(eq(0), anyInt()))
+                .thenReturn(List.of(createEvent(7, "Art Exhibition", "Contemporary art")));
+        searchService.catchUp();
+        searchService.close();
+        searchService = new LuceneEventSearchService(properties(), eventDao);
+        // A lower id than anything indexed, and a changed title of an indexed event
+        when(eventDao.findAllUpdatedAfter(any(LocalDateTime.class), eq(0), anyInt()))
+                .thenReturn(List.of(createEvent(3, "Science Fair", "Interactive science exhibits"),
+                        createEvent(7, "Sculpture Exhibition", "Contemporary sculpture")));
+
+        // Act
+        searchService.catchUp();
+
+        // Assert
+        assertArrayEquals(new int[]{3}, searchService.search("science", 0, 10).ids());
+        assertArrayEquals(new int[]{7}, searchService.search("sculpture", 0, 10).ids());
+        assertEquals(0, searchService.search("art", 0, 10).totalHits());
+        verify(eventDao, times(1)).findAllOrderedByIdAfter(anyInt(), anyInt());
+        verify(eventDao).findAllUpdatedAfter(argThat(since -> since.isBefore(LocalDateTime.now())), eq(0), anyInt());
+    }
+
+    @Test
+    void index_ShouldOnlyBecomeSearchableOnTheNextRefresh() {
+        // Arrange
+        searchService.index(createEvent(1, "Poetry Slam", "Open mic poetry"));
+
+        // Act
+        long beforeRefresh = searchService.search("poetry", 0, 10).totalHits();
+        searchService.refresh();
+        long afterRefresh = searchService.search("poetry", 0, 10).totalHits();
+
+        // Assert
+        assertEquals(0, beforeRefresh);
+        assertEquals(1, afterRefresh);
+    }
+
+    @Test
+    void catchUpUpdated_ShouldIndexEventsSavedElsewhereAndRecordTheNewLoadOnCommit() throws IOException {
+        // Arrange
+        when(eventDao.findAllOrderedByIdAfter(eq(0), anyInt())).thenReturn(List.of());
+        searchService.catchUp();
+        when(eventDao.findAllUpdatedAfter(any(LocalDateTime.class), eq(0), anyInt()))
+                .thenReturn(List.of(createEvent(4, "Film Screening", "Outdoor cinema")));
+
+        // Act
+        searchService.catchUpUpdated();
+        searchService.refresh();
+        long hits = searchService.search("film", 0, 10).totalHits();
+        searchService.close();
+        searchService = new LuceneEventSearchService(properties(), eventDao);
+        searchService.catchUp();
+
+        // Assert
+        assertEquals(1, hits);
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventDao, times(2)).findAllUpdatedAfter(since.capture(), eq(0), anyInt());
+        // The restart reads from the point the scheduled catch-up committed, not from the first load
+        assertTrue(since.getAllValues().get(1).isAfter(since.getAllValues().get(0)));
+        verify(eventDao, times(1)).findAllOrderedByIdAfter(anyInt(), anyInt());
+    }
+
+    @Test
+    void search_WithBlankQuery_ShouldReturnNoHits() {
+        // Arrange
+        searchService.index(createEvent(1, "Comedy Night", "Stand-up comedy show"));
+        searchService.refresh();
+
+        // Act
+        EventSearchHitsDto hits = searchService.search(" ", 0, 10);
+
+        // Assert
+        assertEquals(0, hits.totalHits());
+    }
+
+    private StorageProperties properties() {
+        StorageProperties properties = new StorageProperties();
+        properties.setSearchIndexLocation(indexDir.toString());
+        return properties;
+    }
+
+    private Event createEvent(int id, String title, String description) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle(title);
+        event.setDescription(description);
+        return event;
+    }
+}
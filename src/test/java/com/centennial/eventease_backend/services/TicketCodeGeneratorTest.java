@@ -0,0 +1,153 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.repository.contracts.TicketCodeNodeDao;
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.services.implementations.TicketCodeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TicketCodeGeneratorTest {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1_735_689_600_000L;
+    private static final TicketCodeNodeDao NEVER_RESERVED = (nodeId, untilMillis) -> 0;
+
+    @Test
+    void nextCode_ShouldBeThirteenCrockfordCharactersInCreationOrder() {
+        // Arrange
+        TicketCodeGenerator generator = new TicketCodeGenerator(new TicketProperties(false, 7), NEVER_RESERVED);
+
+        // Act
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            codes.add(generator.nextCode());
+        }
+
+        // Assert
+        assertTrue(codes.stream().allMatch(code -> code.matches("[0-9A-HJKMNP-TV-Z]{13}")));
+        assertEquals(codes, codes.stream().sorted().toList());
+        assertEquals(codes.size(), codes.stream().distinct().count());
+    }
+
+    @Test
+    void nextId_FromManyThreads_ShouldNeverRepeat() throws Exception {
+        // Arrange
+        TicketCodeGenerator generator = new TicketCodeGenerator(new TicketProperties(false, 0), NEVER_RESERVED);
+        int threads = 8;
+        int idsPerThread = 200_000;
+        List<Future<long[]>> drawn = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                drawn.add(executor.submit(() -> {
+                    long[] ids = new long[idsPerThread];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+        }
+        long[] all = new long[threads * idsPerThread];
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(drawn.get(t).get(), 0, all, t * idsPerThread, idsPerThread);
+        }
+
+        // Assert
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i]);
+        }
+    }
+
+    @Test
+    void nextId_OnDifferentNodes_ShouldNeverCollide() {
+        // Arrange
+        TicketCodeGenerator first = new TicketCodeGenerator(new TicketProperties(false, 1), NEVER_RESERVED);
+        TicketCodeGenerator second = new TicketCodeGenerator(new TicketProperties(false, 2), NEVER_RESERVED);
+
+        // Act
+        long firstId = first.nextId();
+        long secondId = second.nextId();
+
+        // Assert
+        assertEquals(1, (firstId >>> 12) & 1023);
+        assertEquals(2, (secondId >>> 12) & 1023);
+        assertNotEquals(firstId, secondId);
+    }
+
+    @Test
+    void nextId_AfterARestartWithTheClockBehind_ShouldStartPastThePreviousReservation() {
+        // Arrange
+        long previousReservation = System.currentTimeMillis() + Duration.ofMinutes(10).toMillis();
+        List<Long> reservations = new ArrayList<>();
+        TicketCodeNodeDao ticketCodeNodeDao = (nodeId, untilMillis) -> {
+            reservations.add(untilMillis);
+            return previousReservation;
+        };
+
+        // Act
+        long id = new TicketCodeGenerator(new TicketProperties(false, 3), ticketCodeNodeDao).nextId();
+
+        // Assert
+        long issuedAt = (id >>> 22) + EPOCH_MILLIS;
+        assertTrue(issuedAt > previousReservation, "Issued at " + issuedAt + ", reserved until " + previousReservation);
+        assertTrue(reservations.getLast() > previousReservation);
+    }
+
+    @Test
+    void ticketProperties_WithoutNodeId_ShouldFailStartup() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new TicketProperties(false, null));
+        assertThrows(IllegalArgumentException.class, () -> new TicketProperties(false, 1024));
+    }
+
+    @Test
+    void encode_ShouldWriteFixedWidthBigEndianBase32() {
+        // Arrange
+        char[] buffer = new char[TicketCodeGenerator.CODE_LENGTH + 2];
+
+        // Act
+        TicketCodeGenerator.encode(32 * 32 + 31, buffer, 2);
+
+        // Assert
+        assertEquals("000000000010Z", new String(buffer, 2, TicketCodeGenerator.CODE_LENGTH));
+    }
+
+    /**
+     * A warmed up thread drawing codes into one buffer must not allocate.
+     */
+    @Test
+    void nextCode_IntoABuffer_ShouldNotAllocate() {
+        // Arrange
+        TicketCodeGenerator generator = new TicketCodeGenerator(new TicketProperties(false, 0), NEVER_RESERVED);
+        char[] buffer = new char[TicketCodeGenerator.CODE_LENGTH];
+        int codes = 1_000_000;
+        for (int i = 0; i < codes; i++) {
+            generator.nextCode(buffer, 0);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        // Act
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < codes; i++) {
+            generator.nextCode(buffer, 0);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // Assert
+        assertTrue(allocated < 64 * 1024, "Drawing codes allocated " + allocated + " bytes");
+    }
+}
@@ -0,0 +1,119 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.security.HoldProperties;
+import com.centennial.eventease_backend.services.implementations.TicketHolds;
+import com.centennial.eventease_backend.services.implementations.TicketInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketHoldsTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Mock
+    private TicketInventory.Stock stock;
+
+    @Mock
+    private TicketInventory ticketInventory;
+
+    private TicketHolds ticketHolds;
+
+    @BeforeEach
+    void setUp() {
+        ticketHolds = new TicketHolds(new HoldProperties(TTL, 2), ticketInventory);
+    }
+
+    @Test
+    void expire_ShouldReturnTheTicketsOfDueHolds() throws Exception {
+        // Arrange
+        TicketHolds.Hold hold = ticketHolds.place(stock, 3, "jane");
+
+        // Act
+        int beforeExpiry = ticketHolds.expire(hold.expiresAt() - 2_000);
+        int afterExpiry = ticketHolds.expire(hold.expiresAt() + 1_000);
+
+        // Assert
+        assertEquals(0, beforeExpiry);
+        assertEquals(1, afterExpiry);
+        verify(ticketInventory).release(stock, 3);
+        assertEquals(0, ticketHolds.outstanding());
+    }
+
+    @Test
+    void take_ShouldKeepTheHoldFromExpiring() throws Exception {
+        // Arrange
+        when(stock.event()).thenReturn(event(7));
+        TicketHolds.Hold hold = ticketHolds.place(stock, 2, "jane");
+
+        // Act
+        Optional<TicketHolds.Hold> taken = ticketHolds.take(7, hold.id(), "jane");
+        Optional<TicketHolds.Hold> takenAgain = ticketHolds.take(7, hold.id(), "jane");
+        int expired = ticketHolds.expire(hold.expiresAt() + 1_000);
+
+        // Assert
+        assertSame(hold, taken.orElseThrow());
+        assertTrue(takenAgain.isEmpty());
+        assertEquals(0, expired);
+        verify(ticketInventory, never()).release(any(), anyInt());
+    }
+
+    @Test
+    void take_WhenHoldBelongsToAnotherEvent_ShouldBeEmpty() throws Exception {
+        // Arrange
+        when(stock.event()).thenReturn(event(7));
+        TicketHolds.Hold hold = ticketHolds.place(stock, 2, "jane");
+
+        // Act
+        Optional<TicketHolds.Hold> taken = ticketHolds.take(8, hold.id(), "jane");
+
+        // Assert
+        assertTrue(taken.isEmpty());
+        assertEquals(1, ticketHolds.outstanding());
+    }
+
+    @Test
+    void take_WhenHoldBelongsToAnotherBuyer_ShouldBeEmpty() throws Exception {
+        // Arrange
+        when(stock.event()).thenReturn(event(7));
+        TicketHolds.Hold hold = ticketHolds.place(stock, 2, "jane");
+
+        // Act
+        Optional<TicketHolds.Hold> taken = ticketHolds.take(7, hold.id(), "john");
+
+        // Assert
+        assertTrue(taken.isEmpty());
+        assertEquals(1, ticketHolds.outstanding());
+    }
+
+    @Test
+    void place_WhenTooManyHoldsAreOutstanding_ShouldThrowTicketsUnavailableException() throws Exception {
+        // Arrange
+        ticketHolds.place(stock, 1, "jane");
+        ticketHolds.place(stock, 1, "jane");
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class, () -> ticketHolds.place(stock, 1, "jane"));
+    }
+
+    private static Event event(int id) {
+        Event event = new Event("Concert", "Live music", "Music", LocalDateTime.now().plusDays(1), "Toronto",
+                100, 0, 25.0f, null, LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+}
@@ -0,0 +1,204 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.services.implementations.TicketInventory;
+import com.centennial.eventease_backend.services.implementations.TicketsSoldCombiner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketInventoryTest {
+
+    @Mock
+    private EventDao eventDao;
+
+    @Mock
+    private TicketsSoldCombiner ticketsSoldCombiner;
+
+    private TicketInventory ticketInventory;
+
+    @BeforeEach
+    void setUp() {
+        ticketInventory = new TicketInventory(eventDao, ticketsSoldCombiner, new TicketProperties(false, 0));
+    }
+
+    @Test
+    void stock_ShouldLoadTheEventOnce() {
+        // Arrange
+        when(eventDao.findById(1)).thenReturn(Optional.of(event(100, 40, LocalDateTime.now().plusDays(1))));
+
+        // Act
+        TicketInventory.Stock first = ticketInventory.stock(1).orElseThrow();
+        TicketInventory.Stock second = ticketInventory.stock(1).orElseThrow();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(60, first.available());
+        verify(eventDao, times(1)).findById(1);
+    }
+
+    @Test
+    void stock_WhenEventDoesNotExist_ShouldBeEmpty() {
+        // Arrange
+        when(eventDao.findById(1)).thenReturn(Optional.empty());
+
+        // Act
+        Optional<TicketInventory.Stock> stock = ticketInventory.stock(1);
+
+        // Assert
+        assertTrue(stock.isEmpty());
+    }
+
+    @Test
+    void tryAcquire_ShouldTakeAllTicketsOrNone() {
+        // Arrange
+        when(eventDao.findById(1)).thenReturn(Optional.of(event(5, 0, LocalDateTime.now().plusDays(1))));
+        TicketInventory.Stock stock = ticketInventory.stock(1).orElseThrow();
+
+        // Act
+        boolean three = stock.tryAcquire(3);
+        boolean threeMore = stock.tryAcquire(3);
+        boolean two = stock.tryAcquire(2);
+
+        // Assert
+        assertTrue(three);
+        assertFalse(threeMore);
+        assertTrue(two);
+        assertEquals(0, stock.available());
+    }
+
+    @Test
+    void release_ShouldReturnTicketsToTheStock() {
+        // Arrange
+        when(eventDao.findById(1)).thenReturn(Optional.of(event(4, 0, LocalDateTime.now().plusDays(1))));
+        TicketInventory.Stock stock = ticketInventory.stock(1).orElseThrow();
+        stock.tryAcquire(4);
+
+        // Act
+        stock.release(3);
+
+        // Assert
+        assertEquals(3, stock.available());
+        assertTrue(stock.tryAcquire(3));
+    }
+
+    @Test
+    void tryAcquire_WhenBuyersRace_ShouldNeverOversell() throws Exception {
+        // Arrange
+        int totalTickets = 500;
+        int buyers = 1_000;
+        when(eventDao.findById(1)).thenReturn(Optional.of(event(totalTickets, 0, LocalDateTime.now().plusDays(1))));
+        TicketInventory.Stock stock = ticketInventory.stock(1).orElseThrow();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> purchases = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < buyers; i++) {
+                purchases.add(executor.submit(() -> {
+                    int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+                    start.await();
+                    return stock.tryAcquire(quantity) ? quantity : 0;
+                }));
+            }
+            start.countDown();
+        }
+        int sold = 0;
+        for (Future<Integer> purchase : purchases) {
+            sold += purchase.get();
+        }
+
+        // Assert
+        assertTrue(sold <= totalTickets);
+        assertEquals(totalTickets - sold, stock.available());
+    }
+
+    @Test
+    void prune_ShouldDropStartedEvents() {
+        // Arrange
+        when(eventDao.findById(1)).thenReturn(Optional.of(event(10, 0, LocalDateTime.now().minusMinutes(1))));
+        ticketInventory.stock(1);
+
+        // Act
+        ticketInventory.prune();
+        ticketInventory.stock(1);
+
+        // Assert
+        verify(eventDao, times(2)).findById(1);
+    }
+
+    @Test
+    void tryAcquire_WithoutDatabaseGuard_ShouldNotTouchTheRow() {
+        // Arrange
+        when(eventDao.findById(1)).thenReturn(Optional.of(event(10, 0, LocalDateTime.now().plusDays(1))));
+        TicketInventory.Stock stock = ticketInventory.stock(1).orElseThrow();
+
+        // Act
+        boolean acquired = ticketInventory.tryAcquire(stock, 2);
+        ticketInventory.release(stock, 2);
+
+        // Assert
+        assertTrue(acquired);
+        verifyNoInteractions(ticketsSoldCombiner);
+    }
+
+    @Test
+    void tryAcquire_WhenTheRowIsSoldOut_ShouldPutTheTicketsBack() {
+        // Arrange
+        ticketInventory = new TicketInventory(eventDao, ticketsSoldCombiner, new TicketProperties(true, 0));
+        Event event = event(10, 0, LocalDateTime.now().plusDays(1));
+        event.setId(1);
+        when(eventDao.findById(1)).thenReturn(Optional.of(event));
+        when(ticketsSoldCombiner.add(1, 3)).thenReturn(false);
+        TicketInventory.Stock stock = ticketInventory.stock(1).orElseThrow();
+
+        // Act
+        boolean acquired = ticketInventory.tryAcquire(stock, 3);
+
+        // Assert
+        assertFalse(acquired);
+        assertEquals(10, stock.available());
+    }
+
+    @Test
+    void release_WithDatabaseGuard_ShouldGiveTheTicketsBackToTheRow() {
+        // Arrange
+        ticketInventory = new TicketInventory(eventDao, ticketsSoldCombiner, new TicketProperties(true, 0));
+        Event event = event(10, 0, LocalDateTime.now().plusDays(1));
+        event.setId(1);
+        when(eventDao.findById(1)).thenReturn(Optional.of(event));
+        when(ticketsSoldCombiner.add(1, 3)).thenReturn(true);
+        TicketInventory.Stock stock = ticketInventory.stock(1).orElseThrow();
+        ticketInventory.tryAcquire(stock, 3);
+
+        // Act
+        ticketInventory.release(stock, 3);
+
+        // Assert
+        verify(ticketsSoldCombiner).add(1, -3);
+        assertEquals(10, stock.available());
+    }
+
+    private static Event event(int totalTickets, int ticketsSold, LocalDateTime dateTime) {
+        return new Event("Concert", "Live music", "Music", dateTime, "Toronto",
+                totalTickets, ticketsSold, 25.0f, null, LocalDateTime.now());
+    }
+}
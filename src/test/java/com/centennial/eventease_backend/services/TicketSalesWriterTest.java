@@ -0,0 +1,120 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Ticket;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.repository.contracts.TicketDao;
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.security.TicketWriterProperties;
+import com.centennial.eventease_backend.services.implementations.EventPageCache;
+import com.centennial.eventease_backend.services.implementations.TicketSalesWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketSalesWriterTest {
+
+    @Mock
+    private TicketDao ticketDao;
+
+    @Mock
+    private EventDao eventDao;
+
+    @Mock
+    private EventPageCache eventPageCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TicketSalesWriter ticketSalesWriter;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ticketSalesWriter = new TicketSalesWriter(ticketDao, eventDao, eventPageCache, transactionManager, meterRegistry,
+                new TicketProperties(false, 0), new TicketWriterProperties(4, 2));
+        event = new Event("Concert", "Live music", "Music", LocalDateTime.now().plusDays(1), "Toronto",
+                100, 0, 25.0f, null, LocalDateTime.now());
+    }
+
+    @Test
+    void enqueue_WhenTheQueueIsFull_ShouldRefuseTheWholePurchase() throws Exception {
+        // Arrange
+        ticketSalesWriter.enqueue(tickets("A", "B", "C"));
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class, () -> ticketSalesWriter.enqueue(tickets("D", "E")));
+        assertEquals(3, ticketSalesWriter.pending());
+        ticketSalesWriter.enqueue(tickets("D"));
+        assertEquals(4, ticketSalesWriter.pending());
+    }
+
+    @Test
+    void flush_WhenATicketBreaksAConstraint_ShouldWriteTheOthersAndDeadLetterIt() throws Exception {
+        // Arrange
+        List<String> written = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Ticket> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(ticket -> ticket.getTicketCode().equals("DUP"))) {
+                throw new DataIntegrityViolationException("TICKET_CODE_UK");
+            }
+            batch.forEach(ticket -> written.add(ticket.getTicketCode()));
+            return null;
+        }).when(ticketDao).saveAll(anyList());
+        ticketSalesWriter.enqueue(tickets("A", "DUP", "B", "C"));
+
+        // Act
+        ticketSalesWriter.flush();
+
+        // Assert
+        assertEquals(List.of("A", "B", "C"), written);
+        assertEquals(0, ticketSalesWriter.pending());
+        assertEquals(1, meterRegistry.counter("tickets.dead.letters").count());
+        assertTrue(meterRegistry.counter("tickets.write.failures").count() >= 2);
+    }
+
+    @Test
+    void flush_WhenWritesKeepFailing_ShouldRetryThenDeadLetter() throws Exception {
+        // Arrange
+        doThrow(new TransactionSystemException("Connection refused")).when(ticketDao).saveAll(anyList());
+        ticketSalesWriter.enqueue(tickets("A", "B"));
+
+        // Act
+        ticketSalesWriter.flush();
+        int pendingAfterFirstFailure = ticketSalesWriter.pending();
+        ticketSalesWriter.flush();
+
+        // Assert
+        assertEquals(2, pendingAfterFirstFailure);
+        assertEquals(0, ticketSalesWriter.pending());
+        assertEquals(2, meterRegistry.counter("tickets.write.failures").count());
+        assertEquals(2, meterRegistry.counter("tickets.dead.letters").count());
+        verify(ticketDao, times(2)).saveAll(anyList());
+    }
+
+    private List<Ticket> tickets(String... codes) {
+        List<Ticket> tickets = new ArrayList<>();
+        for (String code : codes) {
+            tickets.add(new Ticket(event, code, "Jane Doe", "jane@example.com", LocalDateTime.now()));
+        }
+        return tickets;
+    }
+}
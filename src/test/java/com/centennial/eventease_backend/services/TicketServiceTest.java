@@ -0,0 +1,336 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.ConfirmHoldDto;
+import com.centennial.eventease_backend.dto.HoldTicketsDto;
+import com.centennial.eventease_backend.dto.PurchaseTicketsDto;
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.dto.TicketHoldDto;
+import com.centennial.eventease_backend.dto.TicketPurchaseDto;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.entities.Ticket;
+import com.centennial.eventease_backend.exceptions.EventNotFoundException;
+import com.centennial.eventease_backend.exceptions.HoldNotFoundException;
+import com.centennial.eventease_backend.exceptions.InvalidPurchaseException;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.security.TicketProperties;
+import com.centennial.eventease_backend.services.implementations.TicketCodeGenerator;
+import com.centennial.eventease_backend.services.implementations.TicketHolds;
+import com.centennial.eventease_backend.services.implementations.TicketInventory;
+import com.centennial.eventease_backend.services.implementations.TicketSalesWriter;
+import com.centennial.eventease_backend.services.implementations.TicketServiceImpl;
+import com.centennial.eventease_backend.services.implementations.WaitingRoom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TicketServiceTest {
+
+    @Mock
+    private TicketInventory ticketInventory;
+
+    @Mock
+    private TicketHolds ticketHolds;
+
+    @Mock
+    private TicketSalesWriter ticketSalesWriter;
+
+    @Mock
+    private WaitingRoom waitingRoom;
+
+    @Spy
+    private TicketCodeGenerator ticketCodeGenerator = new TicketCodeGenerator(new TicketProperties(false, 1), (nodeId, untilMillis) -> 0);
+
+    @Mock
+    private TicketInventory.Stock stock;
+
+    @InjectMocks
+    private TicketServiceImpl ticketService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void purchase_ShouldQueueOneTicketPerSeat() throws Exception {
+        // Arrange
+        Event event = event(LocalDateTime.now().plusDays(1));
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event);
+        when(ticketInventory.tryAcquire(stock, 3)).thenReturn(true);
+
+        // Act
+        TicketPurchaseDto purchase = ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(3, " Jane Doe ", "jane@example.com"));
+
+        // Assert
+        ArgumentCaptor<List<Ticket>> queued = ArgumentCaptor.forClass(List.class);
+        verify(ticketSalesWriter).enqueue(queued.capture());
+        assertEquals(3, queued.getValue().size());
+        assertEquals(3, purchase.ticketCodes().stream().distinct().count());
+        assertTrue(purchase.ticketCodes().stream().allMatch(code -> code.length() == TicketCodeGenerator.CODE_LENGTH));
+        assertEquals(purchase.ticketCodes(), queued.getValue().stream().map(Ticket::getTicketCode).toList());
+        assertTrue(queued.getValue().stream().allMatch(ticket -> ticket.getEvent() == event && ticket.getAttendeeName().equals("Jane Doe")));
+    }
+
+    @Test
+    void purchase_WhenSoldOut_ShouldThrowTicketsUnavailableException() {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().plusDays(1)));
+        when(ticketInventory.tryAcquire(stock, 2)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(2, "Jane Doe", "jane@example.com")));
+        verifyNoInteractions(ticketSalesWriter);
+    }
+
+    @Test
+    void purchase_WhenWriterIsFull_ShouldGiveTheTicketsBack() throws Exception {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().plusDays(1)));
+        when(ticketInventory.tryAcquire(stock, 2)).thenReturn(true);
+        doThrow(new TicketsUnavailableException("Ticket sales are backed up, please try again shortly"))
+                .when(ticketSalesWriter).enqueue(anyList());
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(2, "Jane Doe", "jane@example.com")));
+        verify(ticketInventory).release(stock, 2);
+    }
+
+    @Test
+    void purchase_WhenEventDoesNotExist_ShouldThrowEventNotFoundException() {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EventNotFoundException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, "Jane Doe", "jane@example.com")));
+    }
+
+    @Test
+    void purchase_WhenEventHasStarted_ShouldThrowInvalidPurchaseException() {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().minusHours(1)));
+
+        // Act & Assert
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, "Jane Doe", "jane@example.com")));
+        verify(ticketInventory, never()).tryAcquire(any(), anyInt());
+    }
+
+    @Test
+    void purchase_WhenQuantityIsOutOfRange_ShouldThrowInvalidPurchaseException() {
+        // Act & Assert
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(0, "Jane Doe", "jane@example.com")));
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(11, "Jane Doe", "jane@example.com")));
+        verifyNoInteractions(ticketInventory, ticketSalesWriter);
+    }
+
+    @Test
+    void purchase_WhenAttendeeIsMissing_ShouldThrowInvalidPurchaseException() {
+        // Act & Assert
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, " ", "jane@example.com")));
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, "Jane Doe", "not-an-email")));
+        verifyNoInteractions(ticketInventory, ticketSalesWriter);
+    }
+
+    @Test
+    void purchase_WhenAttendeeDoesNotFitTheTicketsTable_ShouldThrowBeforeTakingTickets() {
+        // Arrange
+        String longName = "J".repeat(201);
+        String longEmail = "j".repeat(189) + "@example.com";
+
+        // Act & Assert
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, longName, "jane@example.com")));
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, "Jane Doe", longEmail)));
+        verifyNoInteractions(ticketInventory, ticketSalesWriter);
+    }
+
+    @Test
+    void purchase_WhenAttendeeOnlyFitsOnceTrimmed_ShouldSell() throws Exception {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().plusDays(1)));
+        when(ticketInventory.tryAcquire(stock, 1)).thenReturn(true);
+
+        // Act
+        ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, "  " + "J".repeat(200) + "  ", "jane@example.com"));
+
+        // Assert
+        verify(ticketSalesWriter).enqueue(argThat(tickets -> tickets.getFirst().getAttendeeName().length() == 200));
+    }
+
+    @Test
+    void purchase_WhenNotAdmitted_ShouldThrowNotAdmittedExceptionBeforeTakingTickets() throws Exception {
+        // Arrange
+        doThrow(new NotAdmittedException("There are still 3 buyers ahead in the waiting room", 3))
+                .when(waitingRoom).checkAdmitted(1, "jane", "token");
+
+        // Act & Assert
+        assertThrows(NotAdmittedException.class,
+                () -> ticketService.purchase(1, "jane", "token", new PurchaseTicketsDto(1, "Jane Doe", "jane@example.com")));
+        verifyNoInteractions(ticketInventory, ticketSalesWriter);
+    }
+
+    @Test
+    void hold_WhenNotAdmitted_ShouldThrowNotAdmittedException() throws Exception {
+        // Arrange
+        doThrow(new NotAdmittedException("Join the waiting room of the event with id {1} first"))
+                .when(waitingRoom).checkAdmitted(1, "jane", null);
+
+        // Act & Assert
+        assertThrows(NotAdmittedException.class, () -> ticketService.hold(1, "jane", null, new HoldTicketsDto(2)));
+        verifyNoInteractions(ticketInventory, ticketHolds);
+    }
+
+    @Test
+    void joinQueue_ShouldQueueTheBuyerForAnUpcomingEvent() throws Exception {
+        // Arrange
+        QueuePositionDto position = new QueuePositionDto("token", 1, 4, false, 1);
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().plusDays(1)));
+        when(waitingRoom.join(1, "jane")).thenReturn(position);
+
+        // Act
+        QueuePositionDto joined = ticketService.joinQueue(1, "jane");
+
+        // Assert
+        assertEquals(position, joined);
+    }
+
+    @Test
+    void joinQueue_WhenEventDoesNotExist_ShouldThrowEventNotFoundException() throws Exception {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EventNotFoundException.class, () -> ticketService.joinQueue(1, "jane"));
+        verify(waitingRoom, never()).join(anyInt(), any());
+    }
+
+    @Test
+    void hold_ShouldTakeTheTicketsAndPlaceAHold() throws Exception {
+        // Arrange
+        TicketHolds.Hold hold = mock(TicketHolds.Hold.class);
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().plusDays(1)));
+        when(ticketInventory.tryAcquire(stock, 2)).thenReturn(true);
+        when(ticketHolds.place(stock, 2, "jane")).thenReturn(hold);
+        when(hold.id()).thenReturn("hold-1");
+        when(hold.quantity()).thenReturn(2);
+        when(hold.expiresAt()).thenReturn(System.currentTimeMillis() + 600_000);
+
+        // Act
+        TicketHoldDto placed = ticketService.hold(1, "jane", "token", new HoldTicketsDto(2));
+
+        // Assert
+        assertEquals("hold-1", placed.holdId());
+        assertEquals(2, placed.quantity());
+        assertTrue(placed.expiresAt().isAfter(LocalDateTime.now()));
+        verifyNoInteractions(ticketSalesWriter);
+    }
+
+    @Test
+    void hold_WhenTooManyHolds_ShouldGiveTheTicketsBack() throws Exception {
+        // Arrange
+        when(ticketInventory.stock(1)).thenReturn(Optional.of(stock));
+        when(stock.event()).thenReturn(event(LocalDateTime.now().plusDays(1)));
+        when(ticketInventory.tryAcquire(stock, 2)).thenReturn(true);
+        when(ticketHolds.place(stock, 2, "jane")).thenThrow(new TicketsUnavailableException("Too many tickets are on hold"));
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class, () -> ticketService.hold(1, "jane", "token", new HoldTicketsDto(2)));
+        verify(ticketInventory).release(stock, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void confirmHold_ShouldSellTheHeldTicketsWithoutTakingMore() throws Exception {
+        // Arrange
+        Event event = event(LocalDateTime.now().plusDays(1));
+        TicketHolds.Hold hold = mock(TicketHolds.Hold.class);
+        when(ticketHolds.take(1, "hold-1", "jane")).thenReturn(Optional.of(hold));
+        when(hold.stock()).thenReturn(stock);
+        when(hold.quantity()).thenReturn(2);
+        when(stock.event()).thenReturn(event);
+
+        // Act
+        TicketPurchaseDto purchase = ticketService.confirmHold(1, "jane", "hold-1", new ConfirmHoldDto("Jane Doe", "jane@example.com"));
+
+        // Assert
+        ArgumentCaptor<List<Ticket>> queued = ArgumentCaptor.forClass(List.class);
+        verify(ticketSalesWriter).enqueue(queued.capture());
+        assertEquals(2, queued.getValue().size());
+        assertEquals(2, purchase.ticketCodes().size());
+        verify(ticketInventory, never()).tryAcquire(any(), anyInt());
+    }
+
+    @Test
+    void confirmHold_WhenExpired_ShouldThrowHoldNotFoundException() {
+        // Arrange
+        when(ticketHolds.take(1, "hold-1", "jane")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(HoldNotFoundException.class,
+                () -> ticketService.confirmHold(1, "jane", "hold-1", new ConfirmHoldDto("Jane Doe", "jane@example.com")));
+        verifyNoInteractions(ticketSalesWriter);
+    }
+
+    @Test
+    void confirmHold_WhenAttendeeIsMissing_ShouldKeepTheHold() {
+        // Act & Assert
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.confirmHold(1, "jane", "hold-1", new ConfirmHoldDto("", "jane@example.com")));
+        verifyNoInteractions(ticketHolds);
+    }
+
+    @Test
+    void confirmHold_WhenAttendeeIsTooLong_ShouldKeepTheHold() {
+        // Act & Assert
+        assertThrows(InvalidPurchaseException.class,
+                () -> ticketService.confirmHold(1, "jane", "hold-1", new ConfirmHoldDto("J".repeat(201), "jane@example.com")));
+        verifyNoInteractions(ticketHolds, ticketSalesWriter);
+    }
+
+    @Test
+    void releaseHold_ShouldReturnTheTicketsToTheStock() throws Exception {
+        // Arrange
+        TicketHolds.Hold hold = mock(TicketHolds.Hold.class);
+        when(ticketHolds.take(1, "hold-1", "jane")).thenReturn(Optional.of(hold));
+        when(hold.stock()).thenReturn(stock);
+        when(hold.quantity()).thenReturn(4);
+
+        // Act
+        ticketService.releaseHold(1, "jane", "hold-1");
+
+        // Assert
+        verify(ticketInventory).release(stock, 4);
+    }
+
+    private static Event event(LocalDateTime dateTime) {
+        return new Event("Concert", "Live music", "Music", dateTime, "Toronto",
+                100, 0, 25.0f, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,112 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.services.implementations.TimingWheel;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    private static final long ORIGIN = 1_000_000;
+
+    @Test
+    void advance_ShouldExpireTimeoutsOnceTheirDeadlinePassed() {
+        // Arrange
+        TimingWheel<Entry> wheel = new TimingWheel<>(Duration.ofSeconds(1), Duration.ofSeconds(60), ORIGIN);
+        Entry early = new Entry("early");
+        Entry late = new Entry("late");
+        wheel.schedule(early, ORIGIN + 5_000);
+        wheel.schedule(late, ORIGIN + 30_000);
+
+        // Act
+        List<Entry> beforeDeadline = wheel.advance(ORIGIN + 4_999);
+        List<Entry> atEarlyDeadline = wheel.advance(ORIGIN + 5_000);
+        List<Entry> atLateDeadline = wheel.advance(ORIGIN + 30_500);
+
+        // Assert
+        assertTrue(beforeDeadline.isEmpty());
+        assertEquals(List.of(early), atEarlyDeadline);
+        assertEquals(List.of(late), atLateDeadline);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cancel_ShouldKeepTheTimeoutFromExpiring() {
+        // Arrange
+        TimingWheel<Entry> wheel = new TimingWheel<>(Duration.ofSeconds(1), Duration.ofSeconds(60), ORIGIN);
+        Entry kept = new Entry("kept");
+        Entry cancelled = new Entry("cancelled");
+        wheel.schedule(kept, ORIGIN + 10_000);
+        wheel.schedule(cancelled, ORIGIN + 10_000);
+
+        // Act
+        boolean first = wheel.cancel(cancelled);
+        boolean second = wheel.cancel(cancelled);
+        List<Entry> expired = wheel.advance(ORIGIN + 10_000);
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(List.of(kept), expired);
+    }
+
+    @Test
+    void advance_WhenDelayExceedsOneTurn_ShouldWaitForTheRemainingTurns() {
+        // Arrange
+        TimingWheel<Entry> wheel = new TimingWheel<>(Duration.ofSeconds(1), Duration.ofSeconds(8), ORIGIN);
+        Entry sameBucket = new Entry("same bucket");
+        Entry threeTurns = new Entry("three turns");
+        wheel.schedule(sameBucket, ORIGIN + 3_000);
+        wheel.schedule(threeTurns, ORIGIN + 19_000);
+
+        // Act
+        List<Entry> first = wheel.advance(ORIGIN + 3_000);
+        List<Entry> secondTurn = wheel.advance(ORIGIN + 11_000);
+        List<Entry> thirdTurn = wheel.advance(ORIGIN + 19_000);
+
+        // Assert
+        assertEquals(List.of(sameBucket), first);
+        assertTrue(secondTurn.isEmpty());
+        assertEquals(List.of(threeTurns), thirdTurn);
+    }
+
+    @Test
+    void advance_WithManyTimeouts_ShouldExpireEachExactlyOnce() {
+        // Arrange
+        TimingWheel<Entry> wheel = new TimingWheel<>(Duration.ofMillis(100), Duration.ofSeconds(10), ORIGIN);
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            Entry entry = new Entry("entry " + i);
+            entries.add(entry);
+            wheel.schedule(entry, ORIGIN + (i % 10_000));
+        }
+
+        // Act
+        List<Entry> expired = new ArrayList<>();
+        for (long now = ORIGIN; now <= ORIGIN + 10_000; now += 250) {
+            expired.addAll(wheel.advance(now));
+        }
+
+        // Assert
+        assertEquals(entries.size(), expired.size());
+        assertEquals(entries.size(), expired.stream().distinct().count());
+        assertEquals(0, wheel.size());
+    }
+
+    private static final class Entry extends TimingWheel.Timeout {
+        private final String name;
+
+        Entry(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.EventCursor;
+import com.centennial.eventease_backend.dto.EventSavedEvent;
+import com.centennial.eventease_backend.entities.Event;
+import com.centennial.eventease_backend.repository.contracts.EventDao;
+import com.centennial.eventease_backend.services.implementations.EventPageCache;
+import com.centennial.eventease_backend.services.implementations.UpcomingEventIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UpcomingEventIndexTest {
+
+    @Mock
+    private EventDao eventDao;
+
+    @Mock
+    private EventPageCache eventPageCache;
+
+    @InjectMocks
+    private UpcomingEventIndex upcomingEventIndex;
+
+    @Test
+    void page_ShouldReturnUpcomingIdsInListingOrder() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class))).thenReturn(List.of(
+                new EventCursor(now.plusDays(1), 1),
+                new EventCursor(now.plusDays(3), 2),
+                new EventCursor(now.plusDays(2), 3),
+                new EventCursor(now.plusDays(2), 4)
+        ));
+        upcomingEventIndex.rebuild();
+
+        // Act
+        List<Integer> first = upcomingEventIndex.page(0, 3, now);
+        List<Integer> second = upcomingEventIndex.page(3, 3, now);
+
+        // Assert
+        assertEquals(List.of(2, 4, 3), first);
+        assertEquals(List.of(1), second);
+        assertEquals(4, upcomingEventIndex.count(now));
+    }
+
+    @Test
+    void page_ShouldSkipEventsThatStartedSinceTheLastPrune() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class))).thenReturn(List.of(
+                new EventCursor(now.plusHours(1), 1),
+                new EventCursor(now.plusDays(1), 2)
+        ));
+        upcomingEventIndex.rebuild();
+        LocalDateTime later = now.plusHours(2);
+
+        // Act & Assert
+        assertEquals(List.of(2), upcomingEventIndex.page(0, 10, later));
+        assertEquals(1, upcomingEventIndex.count(later));
+    }
+
+    @Test
+    void prune_ShouldDropStartedEventsAndInvalidateUpcomingPages() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class))).thenReturn(List.of(
+                new EventCursor(now.minusSeconds(1), 1),
+                new EventCursor(now.plusDays(1), 2)
+        ));
+        upcomingEventIndex.rebuild();
+        long generation = upcomingEventIndex.generation();
+
+        // Act
+        upcomingEventIndex.prune();
+
+        // Assert
+        assertEquals(List.of(2), upcomingEventIndex.page(0, 10, now.minusDays(1)));
+        assertNotEquals(generation, upcomingEventIndex.generation());
+        verify(eventPageCache).invalidateUpcoming();
+    }
+
+    @Test
+    void prune_WhenNothingStarted_ShouldKeepPages() {
+        // Arrange
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class)))
+                .thenReturn(List.of(new EventCursor(LocalDateTime.now().plusDays(1), 1)));
+        upcomingEventIndex.rebuild();
+
+        // Act
+        upcomingEventIndex.prune();
+
+        // Assert
+        assertEquals(0, upcomingEventIndex.generation());
+        verifyNoInteractions(eventPageCache);
+    }
+
+    @Test
+    void onEventSaved_ShouldOnlyAddFutureEvents() {
+        // Arrange
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class))).thenReturn(List.of());
+        upcomingEventIndex.rebuild();
+        Event future = new Event();
+        future.setId(5);
+        future.setDateTime(LocalDateTime.now().plusDays(1));
+        Event past = new Event();
+        past.setId(6);
+        past.setDateTime(LocalDateTime.now().minusDays(1));
+
+        // Act
+        upcomingEventIndex.onEventSaved(new EventSavedEvent(future));
+        upcomingEventIndex.onEventSaved(new EventSavedEvent(past));
+
+        // Assert
+        assertEquals(List.of(5), upcomingEventIndex.page(0, 10, LocalDateTime.now()));
+    }
+
+    @Test
+    void onEventSaved_WhenRescheduled_ShouldListTheEventOnceUnderItsNewDate() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class))).thenReturn(List.of(
+                new EventCursor(now.plusDays(1), 1),
+                new EventCursor(now.plusDays(2), 2)
+        ));
+        upcomingEventIndex.rebuild();
+        Event rescheduled = new Event();
+        rescheduled.setId(1);
+        rescheduled.setDateTime(now.plusDays(3));
+
+        // Act
+        upcomingEventIndex.onEventSaved(new EventSavedEvent(rescheduled));
+
+        // Assert
+        assertEquals(List.of(1, 2), upcomingEventIndex.page(0, 10, now));
+        assertEquals(2, upcomingEventIndex.count(now));
+    }
+
+    @Test
+    void catchUp_ShouldAddEventsSavedOutsideThisInstanceAndInvalidateUpcomingPages() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class)))
+                .thenReturn(List.of(new EventCursor(now.plusDays(1), 1)));
+        upcomingEventIndex.rebuild();
+        Event elsewhere = new Event();
+        elsewhere.setId(7);
+        elsewhere.setDateTime(now.plusDays(2));
+        when(eventDao.findAllUpdatedAfter(any(LocalDateTime.class), eq(0), anyInt())).thenReturn(List.of(elsewhere));
+
+        // Act
+        upcomingEventIndex.catchUp();
+
+        // Assert
+        assertEquals(List.of(7, 1), upcomingEventIndex.page(0, 10, now));
+        assertEquals(1, upcomingEventIndex.generation());
+        verify(eventPageCache).invalidateUpcoming();
+    }
+
+    @Test
+    void catchUp_WhenNothingChanged_ShouldKeepPages() {
+        // Arrange
+        LocalDateTime dateTime = LocalDateTime.now().plusDays(1);
+        when(eventDao.findUpcomingKeys(any(LocalDateTime.class))).thenReturn(List.of(new EventCursor(dateTime, 1)));
+        upcomingEventIndex.rebuild();
+        Event unchanged = new Event();
+        unchanged.setId(1);
+        unchanged.setDateTime(dateTime);
+        when(eventDao.findAllUpdatedAfter(any(LocalDateTime.class), eq(0), anyInt())).thenReturn(List.of(unchanged));
+
+        // Act
+        upcomingEventIndex.catchUp();
+
+        // Assert
+        assertEquals(0, upcomingEventIndex.generation());
+        verifyNoInteractions(eventPageCache);
+    }
+}
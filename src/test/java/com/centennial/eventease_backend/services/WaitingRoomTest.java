@@ -0,0 +1,210 @@
+package com.centennial.eventease_backend.services;
+
+import com.centennial.eventease_backend.dto.QueuePositionDto;
+import com.centennial.eventease_backend.exceptions.NotAdmittedException;
+import com.centennial.eventease_backend.exceptions.QueueTokenNotFoundException;
+import com.centennial.eventease_backend.exceptions.TicketsUnavailableException;
+import com.centennial.eventease_backend.security.WaitingRoomProperties;
+import com.centennial.eventease_backend.services.implementations.WaitingRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WaitingRoomTest {
+
+    private static final int ADMISSIONS_PER_SECOND = 10;
+
+    private final Map<String, String> buyers = new HashMap<>();
+    private WaitingRoom waitingRoom;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoom = new WaitingRoom(new WaitingRoomProperties(true, ADMISSIONS_PER_SECOND, Duration.ofMinutes(10), 100));
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    void join_WhenNobodyWaits_ShouldAdmitRightAway() throws Exception {
+        // Act
+        QueuePositionDto joined = join();
+
+        // Assert
+        assertTrue(joined.admitted());
+        assertEquals(0, joined.position());
+        waitingRoom.checkAdmitted(1, buyerOf(joined), joined.token());
+    }
+
+    @Test
+    void join_WhenTheBucketIsEmpty_ShouldQueueInArrivalOrder() throws Exception {
+        // Arrange
+        for (int i = 0; i < ADMISSIONS_PER_SECOND; i++) {
+            join();
+        }
+
+        // Act
+        QueuePositionDto first = join();
+        QueuePositionDto second = join();
+
+        // Assert
+        assertFalse(first.admitted());
+        assertEquals(1, first.position());
+        assertEquals(2, second.position());
+        assertEquals(1, second.estimatedWaitSeconds());
+    }
+
+    @Test
+    void leak_ShouldAdmitTheConfiguredNumberOfBuyersPerSecond() throws Exception {
+        // Arrange
+        for (int i = 0; i < ADMISSIONS_PER_SECOND; i++) {
+            join();
+        }
+        List<QueuePositionDto> waiting = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            waiting.add(join());
+        }
+
+        // Act
+        waitingRoom.leak(now + 500);
+        long afterHalfASecond = admitted(waiting);
+        waitingRoom.leak(now + 1_500);
+        long afterOneAndAHalfSeconds = admitted(waiting);
+
+        // Assert
+        assertEquals(5, afterHalfASecond);
+        assertEquals(15, afterOneAndAHalfSeconds);
+        assertEquals(10, position(waiting.getLast()));
+    }
+
+    @Test
+    void leak_WhenIdleForLong_ShouldOnlyBurstOneSecondOfAdmissions() throws Exception {
+        // Arrange
+        for (int i = 0; i < ADMISSIONS_PER_SECOND; i++) {
+            join();
+        }
+        List<QueuePositionDto> waiting = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            waiting.add(join());
+        }
+
+        // Act
+        waitingRoom.leak(now + 60_000);
+
+        // Assert
+        assertEquals(ADMISSIONS_PER_SECOND, admitted(waiting));
+    }
+
+    @Test
+    void checkAdmitted_WhenStillQueued_ShouldThrowNotAdmittedExceptionWithThePosition() throws Exception {
+        // Arrange
+        for (int i = 0; i < ADMISSIONS_PER_SECOND + 2; i++) {
+            join();
+        }
+        QueuePositionDto third = join();
+
+        // Act & Assert
+        NotAdmittedException exception = assertThrows(NotAdmittedException.class,
+                () -> waitingRoom.checkAdmitted(1, buyerOf(third), third.token()));
+        assertEquals(3, exception.getPosition());
+    }
+
+    @Test
+    void checkAdmitted_WhenTokenIsMissingOrForAnotherEvent_ShouldThrowNotAdmittedException() throws Exception {
+        // Arrange
+        QueuePositionDto joined = join();
+
+        // Act & Assert
+        assertThrows(NotAdmittedException.class, () -> waitingRoom.checkAdmitted(1, buyerOf(joined), null));
+        assertThrows(NotAdmittedException.class, () -> waitingRoom.checkAdmitted(2, buyerOf(joined), joined.token()));
+    }
+
+    @Test
+    void checkAdmitted_WhenTokenBelongsToAnotherBuyer_ShouldThrowNotAdmittedException() throws Exception {
+        // Arrange
+        QueuePositionDto joined = join();
+
+        // Act & Assert
+        assertThrows(NotAdmittedException.class, () -> waitingRoom.checkAdmitted(1, "someone-else", joined.token()));
+        assertThrows(QueueTokenNotFoundException.class, () -> waitingRoom.position(1, "someone-else", joined.token()));
+    }
+
+    @Test
+    void join_WhenTheBuyerAlreadyWaits_ShouldKeepTheirPlace() throws Exception {
+        // Arrange
+        for (int i = 0; i < ADMISSIONS_PER_SECOND; i++) {
+            join();
+        }
+        QueuePositionDto first = waitingRoom.join(1, "jane", now);
+
+        // Act
+        QueuePositionDto again = waitingRoom.join(1, "jane", now);
+
+        // Assert
+        assertEquals(first.token(), again.token());
+        assertEquals(1, again.position());
+        assertEquals(ADMISSIONS_PER_SECOND + 1, waitingRoom.queued());
+    }
+
+    @Test
+    void checkAdmitted_WhenDisabled_ShouldLetEveryoneThrough() {
+        // Arrange
+        waitingRoom = new WaitingRoom(new WaitingRoomProperties(false, ADMISSIONS_PER_SECOND, Duration.ofMinutes(10), 100));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> waitingRoom.checkAdmitted(1, "jane", null));
+    }
+
+    @Test
+    void join_WhenTheRoomIsFull_ShouldThrowTicketsUnavailableException() throws Exception {
+        // Arrange
+        for (int i = 0; i < ADMISSIONS_PER_SECOND + 100; i++) {
+            join();
+        }
+
+        // Act & Assert
+        assertThrows(TicketsUnavailableException.class, () -> join());
+    }
+
+    @Test
+    void prune_ShouldDropExpiredAdmissions() throws Exception {
+        // Arrange
+        QueuePositionDto joined = join();
+
+        // Act
+        waitingRoom.prune(now + Duration.ofMinutes(11).toMillis());
+
+        // Assert
+        assertEquals(0, waitingRoom.queued());
+        assertThrows(QueueTokenNotFoundException.class, () -> waitingRoom.position(1, buyerOf(joined), joined.token()));
+    }
+
+    private long admitted(List<QueuePositionDto> waiting) throws QueueTokenNotFoundException {
+        long admitted = 0;
+        for (QueuePositionDto joined : waiting) {
+            admitted += waitingRoom.position(1, buyerOf(joined), joined.token()).admitted() ? 1 : 0;
+        }
+        return admitted;
+    }
+
+    private QueuePositionDto join() throws TicketsUnavailableException {
+        String buyer = "buyer-" + buyers.size();
+        QueuePositionDto joined = waitingRoom.join(1, buyer, now);
+        buyers.put(joined.token(), buyer);
+        return joined;
+    }
+
+    private String buyerOf(QueuePositionDto joined) {
+        return buyers.get(joined.token());
+    }
+
+    private long position(QueuePositionDto joined) throws QueueTokenNotFoundException {
+        return waitingRoom.position(1, buyerOf(joined), joined.token()).position();
+    }
+}